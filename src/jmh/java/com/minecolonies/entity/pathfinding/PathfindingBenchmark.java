@@ -0,0 +1,162 @@
+package com.minecolonies.entity.pathfinding;
+
+import net.minecraft.init.Bootstrap;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the path jobs on synthetic terrains, see {@link SyntheticTerrain}.
+ * <p>
+ * Run with {@code gradlew jmh}. Next to the searches per second, every benchmark reports:
+ * <ul>
+ * <li>nodes: expanded nodes per second.</li>
+ * <li>pathPoints and straightLength: the length of the found paths and of straight lines (manhattan distance) from
+ * their start to their end, per second. Their ratio is how far the paths stray from the straight line.</li>
+ * <li>reached: searches per second whose path reaches the destination.</li>
+ * </ul>
+ * The allocations per search are reported as gc.alloc.rate.norm by the gc profiler, which build.gradle turns on.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathfindingBenchmark
+{
+    private static final int MOVE_RANGE     = 300;
+    private static final int RESOURCE_RANGE = 100;
+    private static final int AVOID_DISTANCE = 20;
+
+    /**
+     * The terrains and where the paths on them start and end.
+     */
+    @State(Scope.Benchmark)
+    public static class Terrain
+    {
+        @Param({"plains", "forest", "cave", "lake", "village"})
+        public String terrain;
+
+        private IBlockAccess world;
+        private BlockPos     start;
+        private BlockPos     end;
+
+        @Setup(Level.Trial)
+        public void setup()
+        {
+            Bootstrap.register();
+            BlockStateTable.rebuild();
+
+            final int far = SyntheticTerrain.getSize() - 4;
+            start = new BlockPos(3, SyntheticTerrain.SURFACE, 3);
+            end = new BlockPos(far, SyntheticTerrain.SURFACE, far);
+            switch (terrain)
+            {
+                case "plains":
+                    world = SyntheticTerrain.plains();
+                    break;
+                case "forest":
+                    world = SyntheticTerrain.forest();
+                    break;
+                case "cave":
+                    world = SyntheticTerrain.caveMaze();
+                    end = SyntheticTerrain.caveMazeEnd();
+                    start = new BlockPos(1, end.getY(), 1);
+                    break;
+                case "lake":
+                    world = SyntheticTerrain.lakeShore();
+                    break;
+                case "village":
+                    world = SyntheticTerrain.village();
+                    end = SyntheticTerrain.villageTowerTop();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown terrain " + terrain);
+            }
+        }
+    }
+
+    /**
+     * Counters reported next to the score, as totals per second.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters
+    {
+        public long nodes;
+        public long pathPoints;
+        public long straightLength;
+        public long reached;
+
+        @Setup(Level.Iteration)
+        public void reset()
+        {
+            nodes = 0;
+            pathPoints = 0;
+            straightLength = 0;
+            reached = 0;
+        }
+
+        /**
+         * Add up a finished job.
+         *
+         * @param job  the job.
+         * @param path the path it found.
+         */
+        void count(@NotNull AbstractPathJob job, @Nullable Path path)
+        {
+            nodes += job.getExpandedNodes();
+            if (job.getResult().getPathReachesDestination())
+            {
+                ++reached;
+            }
+
+            if (path != null && path.getCurrentPathLength() > 0)
+            {
+                pathPoints += path.getCurrentPathLength();
+                straightLength += Math.abs(path.getFinalPathPoint().xCoord - job.start.getX())
+                                    + Math.abs(path.getFinalPathPoint().yCoord - job.start.getY())
+                                    + Math.abs(path.getFinalPathPoint().zCoord - job.start.getZ());
+            }
+        }
+    }
+
+    @Benchmark
+    public Path moveToLocation(@NotNull Terrain terrain, @NotNull Counters counters)
+    {
+        return run(new PathJobMoveToLocation(terrain.world, terrain.start, terrain.end, MOVE_RANGE), counters);
+    }
+
+    @Benchmark
+    public Path moveAwayFromLocation(@NotNull Terrain terrain, @NotNull Counters counters)
+    {
+        final BlockPos avoid = terrain.start.add(1, 0, 1);
+        return run(new PathJobMoveAwayFromLocation(terrain.world, terrain.start, avoid, AVOID_DISTANCE, MOVE_RANGE), counters);
+    }
+
+    @Benchmark
+    public Path findTree(@NotNull Terrain terrain, @NotNull Counters counters)
+    {
+        return run(new PathJobFindTree(terrain.world, terrain.start, terrain.start, RESOURCE_RANGE), counters);
+    }
+
+    @Benchmark
+    public Path findWater(@NotNull Terrain terrain, @NotNull Counters counters)
+    {
+        return run(new PathJobFindWater(terrain.world, terrain.start, terrain.start, RESOURCE_RANGE, Collections.emptyList()), counters);
+    }
+
+    @Nullable
+    private static Path run(@NotNull AbstractPathJob job, @NotNull Counters counters)
+    {
+        @Nullable final Path path = job.call();
+        counters.count(job, path);
+        return path;
+    }
+}
@@ -0,0 +1,302 @@
+package com.minecolonies.entity.pathfinding;
+
+import net.minecraft.block.BlockLadder;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+/**
+ * Terrains for the pathfinding benchmarks, built block by block without a running server.
+ * They are read through the same section snapshots as a real world.
+ */
+final class SyntheticTerrain
+{
+    /**
+     * Height the citizens walk at on the surface.
+     */
+    static final int SURFACE = 64;
+
+    private static final int  SIZE_CHUNKS = 8;
+    private static final int  SIZE        = SIZE_CHUNKS * 16;
+    private static final int  SECTIONS    = 16;
+    //  All terrains are random, but the same for every run
+    private static final long SEED        = 42L;
+
+    private static final int TREE_SPACING = 4;
+    private static final int TRUNK_HEIGHT = 5;
+    private static final int CAVE_FLOOR   = 48;
+    private static final int CAVE_CELL    = 3;
+    private static final int LAKE_RADIUS  = 20;
+    private static final int LAKE_DEPTH   = 3;
+    private static final int HOUSE_SIZE   = 7;
+    private static final int HOUSE_HEIGHT = 4;
+    private static final int TOWER_HEIGHT = 12;
+
+    @NotNull
+    private final ExtendedBlockStorage[] storages = new ExtendedBlockStorage[SIZE_CHUNKS * SIZE_CHUNKS * SECTIONS];
+
+    private SyntheticTerrain()
+    {
+        //  Use the factory methods.
+    }
+
+    /**
+     * Grass land, stone below.
+     *
+     * @return the blocks.
+     */
+    @NotNull
+    static IBlockAccess plains()
+    {
+        return createPlains().build();
+    }
+
+    /**
+     * Plains covered by trees, a few blocks apart.
+     *
+     * @return the blocks.
+     */
+    @NotNull
+    static IBlockAccess forest()
+    {
+        @NotNull final SyntheticTerrain terrain = createPlains();
+        @NotNull final Random random = new Random(SEED);
+        for (int x = TREE_SPACING; x < SIZE - TREE_SPACING; x += TREE_SPACING)
+        {
+            for (int z = TREE_SPACING; z < SIZE - TREE_SPACING; z += TREE_SPACING)
+            {
+                terrain.tree(x + random.nextInt(2), z + random.nextInt(2));
+            }
+        }
+        return terrain.build();
+    }
+
+    /**
+     * Stone with a maze of corridors, two blocks high and wide, carved into it.
+     * The corner cells of the maze are at (1, CAVE_FLOOR, 1) and near (SIZE - 3, CAVE_FLOOR, SIZE - 3).
+     *
+     * @return the blocks.
+     */
+    @NotNull
+    static IBlockAccess caveMaze()
+    {
+        @NotNull final SyntheticTerrain terrain = createPlains();
+        terrain.fill(0, CAVE_FLOOR - 1, 0, SIZE - 1, SURFACE - 2, SIZE - 1, Blocks.STONE.getDefaultState());
+
+        final int cells = (SIZE - 1) / CAVE_CELL;
+        @NotNull final boolean[] visited = new boolean[cells * cells];
+        @NotNull final Deque<Integer> stack = new ArrayDeque<>();
+        @NotNull final Random random = new Random(SEED);
+        stack.push(0);
+        visited[0] = true;
+        terrain.carveCell(0, 0);
+        while (!stack.isEmpty())
+        {
+            final int cell = stack.peek();
+            final int cx = cell % cells;
+            final int cz = cell / cells;
+
+            final int[][] neighbours = {{cx + 1, cz}, {cx - 1, cz}, {cx, cz + 1}, {cx, cz - 1}};
+            final int offset = random.nextInt(neighbours.length);
+            boolean moved = false;
+            for (int i = 0; i < neighbours.length && !moved; ++i)
+            {
+                final int nx = neighbours[(i + offset) % neighbours.length][0];
+                final int nz = neighbours[(i + offset) % neighbours.length][1];
+                if (nx >= 0 && nz >= 0 && nx < cells && nz < cells && !visited[nz * cells + nx])
+                {
+                    visited[nz * cells + nx] = true;
+                    terrain.carveCell(nx, nz);
+                    terrain.carveBetween(cx, cz, nx, nz);
+                    stack.push(nz * cells + nx);
+                    moved = true;
+                }
+            }
+
+            if (!moved)
+            {
+                stack.pop();
+            }
+        }
+        return terrain.build();
+    }
+
+    /**
+     * Plains with a round lake in the middle, three blocks deep.
+     *
+     * @return the blocks.
+     */
+    @NotNull
+    static IBlockAccess lakeShore()
+    {
+        @NotNull final SyntheticTerrain terrain = createPlains();
+        final int center = SIZE / 2;
+        for (int x = center - LAKE_RADIUS; x <= center + LAKE_RADIUS; ++x)
+        {
+            for (int z = center - LAKE_RADIUS; z <= center + LAKE_RADIUS; ++z)
+            {
+                if ((x - center) * (x - center) + (z - center) * (z - center) <= LAKE_RADIUS * LAKE_RADIUS)
+                {
+                    terrain.fill(x, SURFACE - LAKE_DEPTH, z, x, SURFACE - 1, z, Blocks.WATER.getDefaultState());
+                }
+            }
+        }
+        return terrain.build();
+    }
+
+    /**
+     * Plains with closed houses, which have a single door opening, and stone towers with a ladder up their north side.
+     *
+     * @return the blocks.
+     */
+    @NotNull
+    static IBlockAccess village()
+    {
+        @NotNull final SyntheticTerrain terrain = createPlains();
+        for (int x = 8; x + HOUSE_SIZE < SIZE - 8; x += HOUSE_SIZE * 2)
+        {
+            for (int z = 8; z + HOUSE_SIZE < SIZE - 8; z += HOUSE_SIZE * 2)
+            {
+                if (((x + z) / HOUSE_SIZE) % 3 == 0)
+                {
+                    terrain.tower(x + 2, z + 2);
+                }
+                else
+                {
+                    terrain.house(x, z);
+                }
+            }
+        }
+        return terrain.build();
+    }
+
+    /**
+     * Top of the tower closest to the center of the village.
+     *
+     * @return the position to stand on.
+     */
+    @NotNull
+    static BlockPos villageTowerTop()
+    {
+        for (int x = 8; x + HOUSE_SIZE < SIZE - 8; x += HOUSE_SIZE * 2)
+        {
+            for (int z = 8; z + HOUSE_SIZE < SIZE - 8; z += HOUSE_SIZE * 2)
+            {
+                if (x >= SIZE / 2 && z >= SIZE / 2 && ((x + z) / HOUSE_SIZE) % 3 == 0)
+                {
+                    return new BlockPos(x + 3, SURFACE + TOWER_HEIGHT, z + 3);
+                }
+            }
+        }
+        throw new IllegalStateException("No tower in the village");
+    }
+
+    /**
+     * @return the far corner of the maze.
+     */
+    @NotNull
+    static BlockPos caveMazeEnd()
+    {
+        final int last = (SIZE - 1) / CAVE_CELL - 1;
+        return new BlockPos(1 + last * CAVE_CELL, CAVE_FLOOR, 1 + last * CAVE_CELL);
+    }
+
+    /**
+     * @return the size of the terrains along x and z.
+     */
+    static int getSize()
+    {
+        return SIZE;
+    }
+
+    @NotNull
+    private static SyntheticTerrain createPlains()
+    {
+        @NotNull final SyntheticTerrain terrain = new SyntheticTerrain();
+        terrain.fill(0, SURFACE - 16, 0, SIZE - 1, SURFACE - 2, SIZE - 1, Blocks.STONE.getDefaultState());
+        terrain.fill(0, SURFACE - 1, 0, SIZE - 1, SURFACE - 1, SIZE - 1, Blocks.GRASS.getDefaultState());
+        return terrain;
+    }
+
+    private void set(int x, int y, int z, @NotNull IBlockState state)
+    {
+        final int index = (((x >> 4) * SIZE_CHUNKS) + (z >> 4)) * SECTIONS + (y >> 4);
+        ExtendedBlockStorage storage = storages[index];
+        if (storage == null)
+        {
+            storage = new ExtendedBlockStorage(y & ~15, true);
+            storages[index] = storage;
+        }
+        storage.set(x & 15, y & 15, z & 15, state);
+    }
+
+    private void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, @NotNull IBlockState state)
+    {
+        for (int x = minX; x <= maxX; ++x)
+        {
+            for (int y = minY; y <= maxY; ++y)
+            {
+                for (int z = minZ; z <= maxZ; ++z)
+                {
+                    set(x, y, z, state);
+                }
+            }
+        }
+    }
+
+    private void tree(int x, int z)
+    {
+        fill(x - 2, SURFACE + TRUNK_HEIGHT - 2, z - 2, x + 2, SURFACE + TRUNK_HEIGHT, z + 2, Blocks.LEAVES.getDefaultState());
+        fill(x, SURFACE, z, x, SURFACE + TRUNK_HEIGHT - 1, z, Blocks.LOG.getDefaultState());
+    }
+
+    private void carveCell(int cellX, int cellZ)
+    {
+        final int x = 1 + cellX * CAVE_CELL;
+        final int z = 1 + cellZ * CAVE_CELL;
+        fill(x, CAVE_FLOOR, z, x + 1, CAVE_FLOOR + 1, z + 1, Blocks.AIR.getDefaultState());
+    }
+
+    private void carveBetween(int cellX, int cellZ, int otherX, int otherZ)
+    {
+        final int x = 1 + Math.min(cellX, otherX) * CAVE_CELL + (cellX == otherX ? 0 : 2);
+        final int z = 1 + Math.min(cellZ, otherZ) * CAVE_CELL + (cellZ == otherZ ? 0 : 2);
+        fill(x, CAVE_FLOOR, z, x + (cellX == otherX ? 1 : 0), CAVE_FLOOR + 1, z + (cellZ == otherZ ? 1 : 0), Blocks.AIR.getDefaultState());
+    }
+
+    private void house(int x, int z)
+    {
+        fill(x, SURFACE, z, x + HOUSE_SIZE - 1, SURFACE + HOUSE_HEIGHT, z + HOUSE_SIZE - 1, Blocks.COBBLESTONE.getDefaultState());
+        fill(x + 1, SURFACE, z + 1, x + HOUSE_SIZE - 2, SURFACE + HOUSE_HEIGHT - 1, z + HOUSE_SIZE - 2, Blocks.AIR.getDefaultState());
+        //  Door opening in the middle of the south wall
+        fill(x + HOUSE_SIZE / 2, SURFACE, z + HOUSE_SIZE - 1, x + HOUSE_SIZE / 2, SURFACE + 1, z + HOUSE_SIZE - 1, Blocks.AIR.getDefaultState());
+    }
+
+    private void tower(int x, int z)
+    {
+        fill(x, SURFACE, z, x + 2, SURFACE + TOWER_HEIGHT - 1, z + 2, Blocks.STONEBRICK.getDefaultState());
+        //  The ladder reaches one block above the top, to step off it
+        fill(x + 1, SURFACE, z - 1, x + 1, SURFACE + TOWER_HEIGHT, z - 1,
+          Blocks.LADDER.getDefaultState().withProperty(BlockLadder.FACING, EnumFacing.NORTH));
+    }
+
+    @NotNull
+    private IBlockAccess build()
+    {
+        @NotNull final SectionSnapshot[] sections = new SectionSnapshot[storages.length];
+        for (int i = 0; i < storages.length; ++i)
+        {
+            sections[i] = SectionSnapshot.of(storages[i]);
+        }
+        return new SnapshotBlockAccess(0, 0, 0, SIZE_CHUNKS, SIZE_CHUNKS, SECTIONS, sections, WorldType.DEFAULT);
+    }
+}
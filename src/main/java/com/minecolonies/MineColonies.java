@@ -6,6 +6,7 @@ import com.minecolonies.commands.CommandEntryPoint;
 import com.minecolonies.commands.MinecoloniesCommand;
 import com.minecolonies.configuration.ConfigurationHandler;
 import com.minecolonies.configuration.Configurations;
+import com.minecolonies.entity.pathfinding.BlockStateTable;
 import com.minecolonies.lib.Constants;
 import com.minecolonies.network.messages.*;
 import com.minecolonies.proxy.IProxy;
@@ -14,6 +15,7 @@ import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.common.SidedProxy;
 import net.minecraftforge.fml.common.event.FMLInitializationEvent;
+import net.minecraftforge.fml.common.event.FMLModIdMappingEvent;
 import net.minecraftforge.fml.common.event.FMLPostInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
@@ -125,6 +127,7 @@ public class MineColonies
         getNetwork().registerMessage(ColonyStylesMessage.class, ColonyStylesMessage.class, 7, Side.CLIENT);
         getNetwork().registerMessage(ColonyViewWorkOrderMessage.class, ColonyViewWorkOrderMessage.class, 8, Side.CLIENT);
         getNetwork().registerMessage(ColonyViewRemoveWorkOrderMessage.class, ColonyViewRemoveWorkOrderMessage.class, 9, Side.CLIENT);
+        getNetwork().registerMessage(ColonyViewBundleMessage.class, ColonyViewBundleMessage.class, 14, Side.CLIENT);
 
         //  Permission Request messages
         getNetwork().registerMessage(PermissionsMessage.Permission.class, PermissionsMessage.Permission.class, 10, Side.SERVER);
@@ -144,6 +147,8 @@ public class MineColonies
         getNetwork().registerMessage(WorkOrderChangeMessage.class, WorkOrderChangeMessage.class, 29, Side.SERVER);
         getNetwork().registerMessage(AssignFieldMessage.class, AssignFieldMessage.class, 30, Side.SERVER);
         getNetwork().registerMessage(AssignmentModeMessage.class, AssignmentModeMessage.class, 31, Side.SERVER);
+        getNetwork().registerMessage(ColonyWindowMessage.class, ColonyWindowMessage.class, 32, Side.SERVER);
+        getNetwork().registerMessage(ColonyViewResyncMessage.class, ColonyViewResyncMessage.class, 33, Side.SERVER);
 
         //Client side only
         getNetwork().registerMessage(BlockParticleEffectMessage.class, BlockParticleEffectMessage.class, 50, Side.CLIENT);
@@ -158,6 +163,14 @@ public class MineColonies
     public void postInit(FMLPostInitializationEvent event)
     {
         // Load unimportant resources
+        BlockStateTable.rebuild();
+    }
+
+    @Mod.EventHandler
+    public void onIdMapping(FMLModIdMappingEvent event)
+    {
+        // Block state ids changed, classify them again for the pathfinding
+        BlockStateTable.rebuild();
     }
 
     @Mod.EventHandler
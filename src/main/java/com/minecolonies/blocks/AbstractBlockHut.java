@@ -133,7 +133,7 @@ public abstract class AbstractBlockHut extends Block implements ITileEntityProvi
          */
         if (worldIn.isRemote)
         {
-            @Nullable final AbstractBuilding.View building = ColonyManager.getBuildingView(pos);
+            @Nullable final AbstractBuilding.View building = ColonyManager.getBuildingView(worldIn, pos);
 
             if (building != null)
             {
@@ -6,6 +6,7 @@ import com.minecolonies.MineColonies;
 import com.minecolonies.colony.buildings.AbstractBuildingHut;
 import com.minecolonies.colony.buildings.AbstractBuildingWorker;
 import com.minecolonies.network.messages.BuildRequestMessage;
+import com.minecolonies.network.messages.ColonyWindowMessage;
 import com.minecolonies.network.messages.OpenInventoryMessage;
 import com.minecolonies.util.LanguageHandler;
 
@@ -81,6 +82,7 @@ public abstract class AbstractWindowBuilding<B extends AbstractBuildingHut.View>
     @Override
     public void onOpened()
     {
+        MineColonies.getNetwork().sendToServer(new ColonyWindowMessage(building));
         findPaneOfTypeByID(LABEL_BUILDING_NAME, Label.class).setLabelText(LanguageHandler.getString(getBuildingName()));
 
         if (building.getBuildingLevel() == 0)
@@ -96,6 +98,15 @@ public abstract class AbstractWindowBuilding<B extends AbstractBuildingHut.View>
         }
     }
 
+    /**
+     * Called when the Window is closed.
+     */
+    @Override
+    public void onClosed()
+    {
+        MineColonies.getNetwork().sendToServer(new ColonyWindowMessage());
+    }
+
     /**
      * Returns the name of a building
      *
@@ -9,6 +9,7 @@ import com.blockout.views.Window;
 import com.minecolonies.MineColonies;
 import com.minecolonies.colony.CitizenDataView;
 import com.minecolonies.lib.Constants;
+import com.minecolonies.network.messages.ColonyWindowMessage;
 import com.minecolonies.network.messages.OpenInventoryMessage;
 import com.minecolonies.util.ExperienceUtils;
 import com.minecolonies.util.LanguageHandler;
@@ -148,6 +149,11 @@ public class WindowCitizen extends Window implements Button.Handler
      */
     private static final String WINDOW_ID_HEALTHBAR = "healthBar";
 
+    /**
+     * The id of the colony of the citizen
+     */
+    private final int colonyId;
+
     /**
      * The citizenData.View object
      */
@@ -156,11 +162,13 @@ public class WindowCitizen extends Window implements Button.Handler
     /**
      * Constructor to initiate the citizen windows
      *
-     * @param citizen citizen to bind the window to
+     * @param colonyId id of the colony of the citizen
+     * @param citizen  citizen to bind the window to
      */
-    public WindowCitizen(CitizenDataView citizen)
+    public WindowCitizen(int colonyId, CitizenDataView citizen)
     {
         super(Constants.MOD_ID + CITIZEN_RESOURCE_SUFFIX);
+        this.colonyId = colonyId;
         this.citizen = citizen;
     }
 
@@ -170,6 +178,7 @@ public class WindowCitizen extends Window implements Button.Handler
     @Override
     public void onOpened()
     {
+        MineColonies.getNetwork().sendToServer(new ColonyWindowMessage(colonyId, citizen));
         findPaneOfTypeByID(WINDOW_ID_NAME, Label.class).setLabelText(citizen.getName());
 
         createHealthBar();
@@ -177,6 +186,15 @@ public class WindowCitizen extends Window implements Button.Handler
         createSkillContent();
     }
 
+    /**
+     * Called when the gui is closed.
+     */
+    @Override
+    public void onClosed()
+    {
+        MineColonies.getNetwork().sendToServer(new ColonyWindowMessage());
+    }
+
     /**
      * Creates an health bar according to the citizen maxHealth and currentHealth
      */
@@ -9,11 +9,13 @@ import com.minecolonies.entity.EntityCitizen;
 import com.minecolonies.util.BlockPosUtil;
 import com.minecolonies.util.Log;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.fml.common.network.ByteBufUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Objects;
 import java.util.Random;
 
 /**
@@ -57,7 +59,12 @@ public class CitizenData
     @Nullable
     private       AbstractBuildingWorker workBuilding;
     private       AbstractJob            job;
-    private       boolean                dirty;
+    //  Goes up with every change
+    private       long                   version;
+    //  The view as the subscribers last got it, and the version it is of
+    @Nullable
+    private       CitizenDataView        sentView;
+    private       long                   sentViewVersion = -1;
     //Citizen
     @Nullable
     private       EntityCitizen          entity;
@@ -161,16 +168,30 @@ public class CitizenData
      */
     public void setCitizenEntity(EntityCitizen citizen)
     {
-        entity = citizen;
+        updateCitizenEntity(citizen);
         markDirty();
     }
 
+    /**
+     * Sets the entity, and tells the colony if the citizen got or lost one.
+     *
+     * @param citizen the entity, or null.
+     */
+    private void updateCitizenEntity(@Nullable EntityCitizen citizen)
+    {
+        if ((entity == null) != (citizen == null))
+        {
+            colony.onCitizenEntityChanged(this, citizen != null);
+        }
+        entity = citizen;
+    }
+
     /**
      * Marks the instance dirty
      */
     public void markDirty()
     {
-        dirty = true;
+        ++version;
         colony.markCitizensDirty();
     }
 
@@ -333,6 +354,7 @@ public class CitizenData
     public void addExperience(double xp)
     {
         this.experience += xp;
+        colony.markSaveNeeded();
     }
 
     /**
@@ -341,24 +363,27 @@ public class CitizenData
     public void increaseLevel()
     {
         this.level += 1;
+        colony.markSaveNeeded();
     }
 
     /**
-     * Returns whether or not the instance is dirty
+     * Returns the version of the instance, which goes up with every change.
      *
-     * @return true when dirty, otherwise false
+     * @return the version.
      */
-    public boolean isDirty()
+    public long getVersion()
     {
-        return dirty;
+        return version;
     }
 
     /**
-     * Markt the instance not dirty
+     * Returns the version of the view the subscribers last got, which {@link #getViewChanges()} compares to.
+     *
+     * @return the version, or -1 if there is none yet.
      */
-    public void clearDirty()
+    public long getSentViewVersion()
     {
-        dirty = false;
+        return sentViewVersion;
     }
 
     /**
@@ -461,7 +486,7 @@ public class CitizenData
      */
     public void clearCitizenEntity()
     {
-        entity = null;
+        updateCitizenEntity(null);
     }
 
     /**
@@ -554,46 +579,187 @@ public class CitizenData
      */
     public void serializeViewNetworkData(@NotNull ByteBuf buf)
     {
-        ByteBufUtils.writeUTF8String(buf, name);
-        buf.writeBoolean(female);
+        serializeViewNetworkData(buf, CitizenDataView.VIEW_ALL);
+    }
 
-        buf.writeInt(entity != null ? entity.getEntityId() : -1);
+    /**
+     * Writes some properties of the citizen data to a byte buf for transition.
+     *
+     * @param buf    Buffer to write to
+     * @param fields {@link CitizenDataView} bits of the properties to write
+     */
+    public void serializeViewNetworkData(@NotNull ByteBuf buf, int fields)
+    {
+        buf.writeShort(fields);
 
-        buf.writeBoolean(homeBuilding != null);
-        if (homeBuilding != null)
+        if ((fields & CitizenDataView.VIEW_NAME) != 0)
         {
-            BlockPosUtil.writeToByteBuf(buf, homeBuilding.getID());
+            ByteBufUtils.writeUTF8String(buf, name);
+        }
+        if ((fields & CitizenDataView.VIEW_FEMALE) != 0)
+        {
+            buf.writeBoolean(female);
+        }
+        if ((fields & CitizenDataView.VIEW_ENTITY) != 0)
+        {
+            buf.writeInt(getViewEntityId());
         }
 
-        buf.writeBoolean(workBuilding != null);
-        if (workBuilding != null)
+        if ((fields & CitizenDataView.VIEW_HOME) != 0)
+        {
+            buf.writeBoolean(homeBuilding != null);
+            if (homeBuilding != null)
+            {
+                BlockPosUtil.writeToByteBuf(buf, homeBuilding.getID());
+            }
+        }
+        if ((fields & CitizenDataView.VIEW_WORK) != 0)
         {
-            BlockPosUtil.writeToByteBuf(buf, workBuilding.getID());
+            buf.writeBoolean(workBuilding != null);
+            if (workBuilding != null)
+            {
+                BlockPosUtil.writeToByteBuf(buf, workBuilding.getID());
+            }
         }
 
         //  Attributes
-        buf.writeInt(getLevel());
-        buf.writeDouble(getExperience());
+        if ((fields & CitizenDataView.VIEW_LEVEL) != 0)
+        {
+            buf.writeInt(getLevel());
+        }
+        if ((fields & CitizenDataView.VIEW_EXPERIENCE) != 0)
+        {
+            buf.writeDouble(getExperience());
+        }
+        if ((fields & CitizenDataView.VIEW_HEALTH) != 0)
+        {
+            buf.writeFloat(getViewHealth());
+            buf.writeFloat(getViewMaxHealth());
+        }
 
-        //If entity is null assume the standard values as health
-        if (entity == null)
+        if ((fields & CitizenDataView.VIEW_SKILLS) != 0)
         {
-            buf.writeFloat(MAX_HEALTH);
-            buf.writeFloat(MAX_HEALTH);
+            buf.writeInt(getStrength());
+            buf.writeInt(getEndurance());
+            buf.writeInt(getCharisma());
+            buf.writeInt(getIntelligence());
+            buf.writeInt(getDexterity());
         }
-        else
+
+        if ((fields & CitizenDataView.VIEW_JOB) != 0)
+        {
+            ByteBufUtils.writeUTF8String(buf, getViewJob());
+        }
+    }
+
+    private int getViewEntityId()
+    {
+        return entity != null ? entity.getEntityId() : -1;
+    }
+
+    //If entity is null assume the standard values as health
+    private float getViewHealth()
+    {
+        return entity != null ? entity.getHealth() : MAX_HEALTH;
+    }
+
+    private float getViewMaxHealth()
+    {
+        return entity != null ? entity.getMaxHealth() : MAX_HEALTH;
+    }
+
+    @NotNull
+    private String getViewJob()
+    {
+        return job != null ? job.getName() : "";
+    }
+
+    /**
+     * Returns the properties of the view which changed since the subscribers last got it.
+     *
+     * @return {@link CitizenDataView} bits of the changed properties, all if they never got it.
+     */
+    public int getViewChanges()
+    {
+        if (sentView == null)
+        {
+            return CitizenDataView.VIEW_ALL;
+        }
+
+        int changes = 0;
+        if (!name.equals(sentView.getName()))
+        {
+            changes |= CitizenDataView.VIEW_NAME;
+        }
+        if (female != sentView.isFemale())
+        {
+            changes |= CitizenDataView.VIEW_FEMALE;
+        }
+        if (getViewEntityId() != sentView.getEntityId())
+        {
+            changes |= CitizenDataView.VIEW_ENTITY;
+        }
+        if (!Objects.equals(homeBuilding == null ? null : homeBuilding.getID(), sentView.getHomeBuilding()))
+        {
+            changes |= CitizenDataView.VIEW_HOME;
+        }
+        if (!Objects.equals(workBuilding == null ? null : workBuilding.getID(), sentView.getWorkBuilding()))
+        {
+            changes |= CitizenDataView.VIEW_WORK;
+        }
+        if (getLevel() != sentView.getLevel())
+        {
+            changes |= CitizenDataView.VIEW_LEVEL;
+        }
+        if (Double.compare(getExperience(), sentView.getExperience()) != 0)
+        {
+            changes |= CitizenDataView.VIEW_EXPERIENCE;
+        }
+        //  The view got the health as float
+        if (Float.compare(getViewHealth(), (float) sentView.getHealth()) != 0
+              || Float.compare(getViewMaxHealth(), (float) sentView.getMaxHealth()) != 0)
+        {
+            changes |= CitizenDataView.VIEW_HEALTH;
+        }
+        if (getStrength() != sentView.getStrength() || getEndurance() != sentView.getEndurance() || getCharisma() != sentView.getCharisma()
+              || getIntelligence() != sentView.getIntelligence() || getDexterity() != sentView.getDexterity())
+        {
+            changes |= CitizenDataView.VIEW_SKILLS;
+        }
+        if (!getViewJob().equals(sentView.getJob()))
         {
-            buf.writeFloat(entity.getHealth());
-            buf.writeFloat(entity.getMaxHealth());
+            changes |= CitizenDataView.VIEW_JOB;
         }
+        return changes;
+    }
 
-        buf.writeInt(getStrength());
-        buf.writeInt(getEndurance());
-        buf.writeInt(getCharisma());
-        buf.writeInt(getIntelligence());
-        buf.writeInt(getDexterity());
+    /**
+     * Remembers the view the subscribers have now, to find the next changes.
+     *
+     * @param changes the {@link #getViewChanges()} which were sent.
+     */
+    public void markViewSent(int changes)
+    {
+        sentViewVersion = version;
+        if (changes == 0)
+        {
+            return;
+        }
 
-        ByteBufUtils.writeUTF8String(buf, (job != null) ? job.getName() : "");
+        @NotNull final ByteBuf buf = PooledByteBufAllocator.DEFAULT.buffer();
+        try
+        {
+            serializeViewNetworkData(buf);
+            if (sentView == null)
+            {
+                sentView = new CitizenDataView(id);
+            }
+            sentView.deserialize(buf);
+        }
+        finally
+        {
+            buf.release();
+        }
     }
 
     /**
@@ -674,5 +840,6 @@ public class CitizenData
     public void setLevel(int lvl)
     {
         this.level = lvl;
+        colony.markSaveNeeded();
     }
 }
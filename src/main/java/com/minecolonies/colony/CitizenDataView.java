@@ -14,6 +14,21 @@ import org.jetbrains.annotations.Nullable;
  */
 public class CitizenDataView
 {
+    /**
+     * Bits of the properties in an update of the view. An update with all bits is a full view.
+     */
+    public static final int VIEW_NAME       = 1;
+    public static final int VIEW_FEMALE     = 1 << 1;
+    public static final int VIEW_ENTITY     = 1 << 2;
+    public static final int VIEW_HOME       = 1 << 3;
+    public static final int VIEW_WORK       = 1 << 4;
+    public static final int VIEW_LEVEL      = 1 << 5;
+    public static final int VIEW_EXPERIENCE = 1 << 6;
+    public static final int VIEW_HEALTH     = 1 << 7;
+    public static final int VIEW_SKILLS     = 1 << 8;
+    public static final int VIEW_JOB        = 1 << 9;
+    public static final int VIEW_ALL        = (1 << 10) - 1;
+
     /**
      * Attributes
      */
@@ -219,31 +234,75 @@ public class CitizenDataView
     }
 
     /**
-     * Deserialize the attributes and variables from transition
+     * Checks whether an update holds the full view, or only the properties which changed.
+     *
+     * @param buf Byte buffer of the update, not read yet
+     * @return true if it is a full view
+     */
+    public static boolean isFullView(@NotNull ByteBuf buf)
+    {
+        return buf.getShort(buf.readerIndex()) == VIEW_ALL;
+    }
+
+    /**
+     * Deserialize the attributes and variables from transition.
+     * Only the properties in the update are changed.
      *
      * @param buf Byte buffer to deserialize
      */
     public void deserialize(@NotNull ByteBuf buf)
     {
-        name = ByteBufUtils.readUTF8String(buf);
-        female = buf.readBoolean();
-        entityId = buf.readInt();
+        final int fields = buf.readShort();
 
-        homeBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
-        workBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+        if ((fields & VIEW_NAME) != 0)
+        {
+            name = ByteBufUtils.readUTF8String(buf);
+        }
+        if ((fields & VIEW_FEMALE) != 0)
+        {
+            female = buf.readBoolean();
+        }
+        if ((fields & VIEW_ENTITY) != 0)
+        {
+            entityId = buf.readInt();
+        }
+
+        if ((fields & VIEW_HOME) != 0)
+        {
+            homeBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+        }
+        if ((fields & VIEW_WORK) != 0)
+        {
+            workBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+        }
 
         //  Attributes
-        level = buf.readInt();
-        experience = buf.readDouble();
-        health = buf.readFloat();
-        maxHealth = buf.readFloat();
-
-        strength = buf.readInt();
-        endurance = buf.readInt();
-        charisma = buf.readInt();
-        intelligence = buf.readInt();
-        dexterity = buf.readInt();
-
-        job = ByteBufUtils.readUTF8String(buf);
+        if ((fields & VIEW_LEVEL) != 0)
+        {
+            level = buf.readInt();
+        }
+        if ((fields & VIEW_EXPERIENCE) != 0)
+        {
+            experience = buf.readDouble();
+        }
+        if ((fields & VIEW_HEALTH) != 0)
+        {
+            health = buf.readFloat();
+            maxHealth = buf.readFloat();
+        }
+
+        if ((fields & VIEW_SKILLS) != 0)
+        {
+            strength = buf.readInt();
+            endurance = buf.readInt();
+            charisma = buf.readInt();
+            intelligence = buf.readInt();
+            dexterity = buf.readInt();
+        }
+
+        if ((fields & VIEW_JOB) != 0)
+        {
+            job = ByteBufUtils.readUTF8String(buf);
+        }
     }
 }
@@ -1,6 +1,5 @@
 package com.minecolonies.colony;
 
-import com.minecolonies.MineColonies;
 import com.minecolonies.achievements.ModAchievements;
 import com.minecolonies.colony.buildings.AbstractBuilding;
 import com.minecolonies.colony.buildings.BuildingFarmer;
@@ -16,6 +15,9 @@ import com.minecolonies.network.messages.*;
 import com.minecolonies.tileentities.ScarecrowTileEntity;
 import com.minecolonies.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.util.*;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.entity.player.InventoryPlayer;
@@ -25,7 +27,9 @@ import net.minecraft.nbt.NBTTagList;
 import net.minecraft.stats.Achievement;
 import net.minecraft.stats.StatBase;
 import net.minecraft.stats.StatList;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
@@ -42,6 +46,9 @@ public class Colony implements IColony
 {
     //  Settings
     private static final int    CITIZEN_CLEANUP_TICK_INCREMENT = 5 * 20;
+    //  Safety net behind the block and chunk events, recheck every building and field once a minute
+    private static final int    LIVENESS_VERIFY_INCREMENT      = 60 * 20;
+    private static final int    CHUNK_SHIFT                    = 4;
     private static final String TAG_ID                         = "id";
     private static final String TAG_NAME                       = "name";
     private static final String TAG_DIMENSION                  = "dimension";
@@ -63,20 +70,48 @@ public class Colony implements IColony
     @NotNull
     private final List<Achievement> colonyAchievements;
     //  Workload and Jobs
-    private final WorkManager         workManager      = new WorkManager(this);
-    private final MaterialSystem      materialSystem   = new MaterialSystem();
+    private final WorkManager         workManager              = new WorkManager(this);
+    private final MaterialSystem      materialSystem           = new MaterialSystem();
     //  Runtime Data
     @Nullable
-    private       World               world            = null;
+    private       World               world                    = null;
     //  Updates and Subscriptions
     @NotNull
-    private       Set<EntityPlayerMP> subscribers      = new HashSet<>();
-    private       boolean             isDirty          = false;
-    private       boolean             isCitizensDirty  = false;
-    private       boolean             isBuildingsDirty = false;
-    private       boolean             manualHiring     = false;
-    private       boolean             isFieldsDirty    = false;
-    private       String              name             = "ERROR(Wasn't placed by player)";
+    private final Set<EntityPlayerMP> subscribers              = new HashSet<>();
+    //  Subscribers which didn't get the full colony yet
+    @NotNull
+    private final Set<EntityPlayerMP> newSubscribers           = new HashSet<>();
+    //  Updates of this tick, sent as one bundle per subscriber
+    @NotNull
+    private final ViewUpdateQueue     viewUpdates              = new ViewUpdateQueue();
+    //  Go up with every change of the colony, of any of its citizens and of any of its buildings
+    private       long                version                  = 0;
+    private       long                citizensVersion          = 0;
+    private       long                buildingsVersion         = 0;
+    //  Raised by every change of what the colony saves, lowered when it was written to its file
+    private       boolean             isSaveNeeded             = false;
+    private       boolean             manualHiring             = false;
+    private       boolean             isAchievementCheckNeeded = false;
+    private       long                lastCitizenCleanup       = 0;
+    private       long                lastLivenessVerify       = 0;
+    private       long                viewTicks                = 0;
+    //  Buildings and fields whose block may be gone
+    @NotNull
+    private final Set<BlockPos>       livenessChecks           = new LinkedHashSet<>();
+    //  Chunks around the colony in which its citizens walk, and which of them are loaded
+    @NotNull
+    private final Set<Long>           loadedChunks             = new HashSet<>();
+    private       int                 footprintMinX            = 0;
+    private       int                 footprintMinZ            = 0;
+    private       int                 footprintMaxX            = -1;
+    private       int                 footprintMaxZ            = -1;
+    //  Ids of the citizens with an entity in the world
+    @NotNull
+    private final Set<Integer>        loadedCitizens           = new HashSet<>();
+    private       String              name                     = "ERROR(Wasn't placed by player)";
+    //  What each subscriber didn't get yet
+    @NotNull
+    private final Map<EntityPlayerMP, SubscriberSync> subscriberSyncs = new HashMap<>();
     private BlockPos         center;
     //  Administration/permissions
     @NotNull
@@ -104,6 +139,7 @@ public class Colony implements IColony
         center = c;
         world = w;
         this.permissions = new Permissions(this);
+        countLoadedChunks(w);
     }
 
     /**
@@ -211,6 +247,7 @@ public class Colony implements IColony
     private void addBuilding(@NotNull AbstractBuilding building)
     {
         buildings.put(building.getID(), building);
+        ColonyManager.onBuildingAdded(this, building.getID());
         building.markDirty();
 
         //  Limit 1 town hall
@@ -230,11 +267,22 @@ public class Colony implements IColony
         fields.put(field.getID(), field);
     }
 
-    private static boolean isCitizenMissingFromWorld(@NotNull CitizenData citizen)
+    /**
+     * Keep track of the citizens with an entity in the world, called by the citizen when it gets or loses its entity.
+     *
+     * @param citizen the citizen.
+     * @param loaded  true if the citizen has an entity now.
+     */
+    void onCitizenEntityChanged(@NotNull CitizenData citizen, boolean loaded)
     {
-        EntityCitizen entity = citizen.getCitizenEntity();
-
-        return entity != null && entity.worldObj.getEntityByID(entity.getEntityId()) != entity;
+        if (loaded)
+        {
+            loadedCitizens.add(citizen.getId());
+        }
+        else
+        {
+            loadedCitizens.remove(citizen.getId());
+        }
     }
 
     /**
@@ -309,6 +357,7 @@ public class Colony implements IColony
      *
      * @return Dimension ID.
      */
+    @Override
     public int getDimension()
     {
         return dimensionId;
@@ -337,7 +386,8 @@ public class Colony implements IColony
      */
     private void markDirty()
     {
-        isDirty = true;
+        ++version;
+        markSaveNeeded();
     }
 
     @NotNull
@@ -389,12 +439,40 @@ public class Colony implements IColony
         return center;
     }
 
+    /**
+     * Marks the colony to be written to its file with the next save, and lets the colonies be saved soon.
+     */
+    public void markSaveNeeded()
+    {
+        isSaveNeeded = true;
+        ColonyManager.markDirty();
+    }
+
+    /**
+     * Whether the colony has to be written to its file.
+     *
+     * @return true if it changed since it was last written.
+     */
+    boolean isSaveNeeded()
+    {
+        return isSaveNeeded;
+    }
+
+    /**
+     * Record that the colony as it is now was written to its file.
+     */
+    void markSaved()
+    {
+        isSaveNeeded = false;
+    }
+
     /**
      * Marks citizen data dirty.
      */
     public void markCitizensDirty()
     {
-        isCitizensDirty = true;
+        ++citizensVersion;
+        markSaveNeeded();
     }
 
     /**
@@ -402,7 +480,8 @@ public class Colony implements IColony
      */
     public void markBuildingsDirty()
     {
-        isBuildingsDirty = true;
+        ++buildingsVersion;
+        markSaveNeeded();
     }
 
     /**
@@ -415,6 +494,7 @@ public class Colony implements IColony
         if (w.provider.getDimension() == dimensionId)
         {
             world = w;
+            countLoadedChunks(w);
         }
     }
 
@@ -431,6 +511,7 @@ public class Colony implements IColony
         }
 
         world = null;
+        loadedChunks.clear();
     }
 
     /**
@@ -452,218 +533,370 @@ public class Colony implements IColony
     }
 
     /**
-     * Update Subscribers with Colony, Citizen, and AbstractBuilding Views.
+     * Subscribe or unsubscribe a player, by its rank and its distance to the colony.
+     * Called by the {@link ColonyManager} when the player logs in, respawns, changes dimension, moves into another
+     * chunk or changes rank.
+     *
+     * @param player the player.
+     * @return true if the player is a subscriber now.
      */
-    public void updateSubscribers()
+    boolean updateSubscriber(@NotNull EntityPlayerMP player)
     {
-        //  Recompute subscribers every frame (for now)
+        //  A respawned player is a new entity
+        @NotNull final UUID id = player.getGameProfile().getId();
+        subscribers.removeIf(subscriber -> subscriber != player && subscriber.getGameProfile().getId().equals(id));
+        newSubscribers.removeIf(subscriber -> subscriber != player && subscriber.getGameProfile().getId().equals(id));
+        subscriberSyncs.keySet().removeIf(subscriber -> subscriber != player && subscriber.getGameProfile().getId().equals(id));
+
         //  Subscribers = Owners + Players within (double working town hall range)
-        @NotNull Set<EntityPlayerMP> oldSubscribers = subscribers;
-        subscribers = new HashSet<>();
+        boolean isSubscriber = permissions.isSubscriber(player);
+        if (!isSubscriber && world != null && player.worldObj == world)
+        {
+            // Players become subscribers if they come within 16 blocks of the edge of the colony
+            // Players remain subscribers while they remain within double the colony's radius
+            isSubscriber = isNearColony(player)
+                             || (subscribers.contains(player) && player.getDistanceSq(center) < MathUtils.square(getMaxSubscriberDistance()));
+        }
+
+        if (!isSubscriber)
+        {
+            removeSubscriber(player);
+        }
+        else if (subscribers.add(player))
+        {
+            newSubscribers.add(player);
+            subscriberSyncs.put(player, new SubscriberSync());
+        }
+        return isSubscriber;
+    }
+
+    /**
+     * Whether a player is in the colony, or within 16 blocks of its edge.
+     *
+     * @param player the player.
+     * @return true if it is near.
+     */
+    private boolean isNearColony(@NotNull EntityPlayerMP player)
+    {
+        return world != null && player.worldObj == world && player.getDistanceSq(center) < MathUtils.square(Configurations.workingRangeTownHall + 16D);
+    }
+
+    /**
+     * Unsubscribe a player, when it logs out.
+     *
+     * @param player the player.
+     */
+    void removeSubscriber(@NotNull EntityPlayerMP player)
+    {
+        subscribers.remove(player);
+        newSubscribers.remove(player);
+        subscriberSyncs.remove(player);
+    }
 
-        // Add owners
-        subscribers.addAll(
-                this.getWorld().getMinecraftServer().getPlayerList().getPlayerList()
-                        .stream()
-            .filter(permissions::isSubscriber)
-            .collect(Collectors.toList()));
+    /**
+     * Returns the distance from the center up to which players near the colony remain subscribers.
+     *
+     * @return the distance in blocks.
+     */
+    static int getMaxSubscriberDistance()
+    {
+        return Configurations.workingRangeTownHall * 2;
+    }
 
-        //  Add nearby players
-        if (world != null)
+    /**
+     * Update Subscribers with Colony, Citizen, and AbstractBuilding Views.
+     * <p>
+     * Every subscriber gets what is newer than the version it has: new subscribers the whole colony, the others the
+     * changes when they are due, which is every few ticks for players near the colony and less often for those far
+     * away, and what their open window shows right away.
+     */
+    public void updateSubscribers()
+    {
+        //  The seed of a field is the item in its scarecrow
+        for (@NotNull final Field field : fields.values())
         {
-            for (EntityPlayer o : world.playerEntities)
+            if (field.getInventoryField().hasInventoryChanged())
             {
-                if (o instanceof EntityPlayerMP)
-                {
-                    @NotNull EntityPlayerMP player = (EntityPlayerMP) o;
-
-                    if (subscribers.contains(player))
-                    {
-                        //  Already a subscriber
-                        continue;
-                    }
-
-                    double distance = player.getDistanceSq(center);
-                    if (distance < MathUtils.square(Configurations.workingRangeTownHall + 16D) ||
-                          (oldSubscribers.contains(player) && distance < MathUtils.square(Configurations.workingRangeTownHall * 2D)))
-                    {
-                        // Players become subscribers if they come within 16 blocks of the edge of the colony
-                        // Players remain subscribers while they remain within double the colony's radius
-                        subscribers.add(player);
-                    }
-                }
+                markFieldsDirty();
             }
         }
 
         if (!subscribers.isEmpty())
         {
-            //  Determine if any new subscribers were added this pass
-            boolean hasNewSubscribers = hasNewSubscribers(oldSubscribers, subscribers);
-
-            //  Send each type of update packet as appropriate:
-            //      - To Subscribers if the data changes
-            //      - To New Subscribers even if it hasn't changed
+            startSubscriberTicks();
 
             //ColonyView
-            sendColonyViewPackets(oldSubscribers, hasNewSubscribers);
+            sendColonyViewPackets();
 
             //Permissions
-            sendPermissionsPackets(oldSubscribers, hasNewSubscribers);
+            sendPermissionsPackets();
 
             //WorkOrders
-            sendWorkOrderPackets(oldSubscribers, hasNewSubscribers);
+            sendWorkOrderPackets();
 
             //Citizens
-            sendCitizenPackets(oldSubscribers, hasNewSubscribers);
+            sendCitizenPackets();
 
-            //Buildings
-            sendBuildingPackets(oldSubscribers, hasNewSubscribers);
+            //Buildings and their fields
+            sendBuildingPackets();
 
-            //Fields
-            if (!isBuildingsDirty)
+            for (@NotNull final SubscriberSync sync : subscriberSyncs.values())
             {
-                sendFieldPackets(oldSubscribers, hasNewSubscribers);
+                sync.endTick(citizensVersion, buildingsVersion);
             }
         }
 
-        isFieldsDirty = false;
-        isDirty = false;
-        isCitizensDirty = false;
-        isBuildingsDirty = false;
-        permissions.clearDirty();
-
-        buildings.values().forEach(AbstractBuilding::clearDirty);
-        citizens.values().forEach(CitizenData::clearDirty);
+        viewUpdates.flush();
+        newSubscribers.clear();
     }
 
-    private static boolean hasNewSubscribers(@NotNull Set<EntityPlayerMP> oldSubscribers, @NotNull Set<EntityPlayerMP> subscribers)
+    /**
+     * Decide which subscribers are due this tick. Subscribers with the same interval are due in the same tick, so
+     * they get the same updates, which are then encoded once for all of them.
+     */
+    private void startSubscriberTicks()
     {
-        for (EntityPlayerMP player : subscribers)
+        ++viewTicks;
+        for (@NotNull final EntityPlayerMP player : subscribers)
         {
-            if (!oldSubscribers.contains(player))
+            @Nullable OpenWindow window = ColonyManager.getOpenWindow(player);
+            if (window != null && !window.isOf(this))
             {
-                return true;
+                window = null;
             }
+
+            final int interval = window != null || isNearColony(player) ? Configurations.colonyViewSyncTicksNear : Configurations.colonyViewSyncTicksFar;
+            final boolean isDue = newSubscribers.contains(player) || (viewTicks + id) % Math.max(1, interval) == 0;
+            subscriberSyncs.get(player).startTick(isDue, window);
         }
-        return false;
     }
 
-    private void sendColonyViewPackets(@NotNull Set<EntityPlayerMP> oldSubscribers, boolean hasNewSubscribers)
+    /**
+     * Sends packages to update the colony view.
+     */
+    private void sendColonyViewPackets()
     {
-        if (isDirty || hasNewSubscribers)
+        @Nullable ColonyViewMessage update = null;
+        @Nullable ColonyViewMessage subscription = null;
+        for (EntityPlayerMP player : subscribers)
         {
-            for (EntityPlayerMP player : subscribers)
+            if (!isReceiver(player, SubscriberSync.Part.COLONY, version))
             {
-                boolean isNewSubscriber = !oldSubscribers.contains(player);
-                if (isDirty || isNewSubscriber)
+                continue;
+            }
+
+            if (newSubscribers.contains(player))
+            {
+                if (subscription == null)
+                {
+                    subscription = new ColonyViewMessage(this, true);
+                }
+                viewUpdates.add(player, subscription);
+            }
+            else
+            {
+                if (update == null)
                 {
-                    MineColonies.getNetwork().sendTo(new ColonyViewMessage(this, isNewSubscriber), player);
+                    update = new ColonyViewMessage(this, false);
                 }
+                viewUpdates.add(player, update);
             }
         }
     }
 
     /**
      * Sends packages to update the permissions.
-     *
-     * @param oldSubscribers    the existing subscribers.
-     * @param hasNewSubscribers the new subscribers.
      */
-    private void sendPermissionsPackets(@NotNull Set<EntityPlayerMP> oldSubscribers, boolean hasNewSubscribers)
+    private void sendPermissionsPackets()
     {
-        if (permissions.isDirty() || hasNewSubscribers)
+        //  The view depends only on the rank of the player
+        @NotNull final Map<Permissions.Rank, PermissionsMessage.View> views = new EnumMap<>(Permissions.Rank.class);
+        for (@NotNull final EntityPlayerMP player : subscribers)
         {
-            subscribers
-              .stream()
-              .filter(player -> permissions.isDirty() || !oldSubscribers.contains(player)).forEach(player ->
+            if (isReceiver(player, SubscriberSync.Part.PERMISSIONS, permissions.getVersion()))
             {
                 Permissions.Rank rank = getPermissions().getRank(player);
-                MineColonies.getNetwork().sendTo(new PermissionsMessage.View(this, rank), player);
-            });
+                viewUpdates.add(player, views.computeIfAbsent(rank, key -> new PermissionsMessage.View(this, key)));
+            }
         }
     }
 
     /**
      * Sends packages to update the workOrders.
-     *
-     * @param oldSubscribers    the existing subscribers.
-     * @param hasNewSubscribers the new subscribers.
      */
-    private void sendWorkOrderPackets(@NotNull Set<EntityPlayerMP> oldSubscribers, boolean hasNewSubscribers)
+    private void sendWorkOrderPackets()
     {
-        if (getWorkManager().isDirty() || hasNewSubscribers)
+        @NotNull final List<EntityPlayerMP> receivers = subscribers.stream()
+                                                          .filter(player -> isReceiver(player, SubscriberSync.Part.WORK_ORDERS, workManager.getVersion()))
+                                                          .collect(Collectors.toList());
+        if (receivers.isEmpty())
         {
-            for (AbstractWorkOrder workOrder : getWorkManager().getWorkOrders().values())
-            {
-                subscribers.stream().filter(player -> workManager.isDirty() || !oldSubscribers.contains(player))
-                  .forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewWorkOrderMessage(this, workOrder), player));
-            }
+            return;
+        }
 
-            getWorkManager().setDirty(false);
+        for (AbstractWorkOrder workOrder : getWorkManager().getWorkOrders().values())
+        {
+            @NotNull final ColonyViewWorkOrderMessage message = new ColonyViewWorkOrderMessage(this, workOrder);
+            viewUpdates.add(receivers, message);
+            viewUpdates.releaseAfterSend(message::release);
         }
     }
 
     /**
-     * Sends packages to update the citizens.
+     * Whether a player gets a part of the town hall window this tick.
      *
-     * @param oldSubscribers    the existing subscribers.
-     * @param hasNewSubscribers the new subscribers.
+     * @param player      the player.
+     * @param part        the part.
+     * @param partVersion the version of the part.
+     * @return true if the player doesn't have this version, and is due or looks at it.
      */
-    private void sendCitizenPackets(@NotNull Set<EntityPlayerMP> oldSubscribers, boolean hasNewSubscribers)
+    private boolean isReceiver(@NotNull EntityPlayerMP player, @NotNull SubscriberSync.Part part, long partVersion)
     {
-        if (isCitizensDirty || hasNewSubscribers)
+        @NotNull final SubscriberSync sync = subscriberSyncs.get(player);
+        return sync.take(part, partVersion, sync.getWindow() != null && sync.getWindow().showsColony(this));
+    }
+
+    /**
+     * Sends packages to update the citizens.
+     * The subscribers which have the last sent version of a citizen only get the properties which changed, the ones
+     * with an older version or none get the whole citizen.
+     */
+    private void sendCitizenPackets()
+    {
+        if (subscriberSyncs.values().stream().noneMatch(sync -> sync.isBehindOnCitizens(citizensVersion)))
+        {
+            return;
+        }
+
+        for (@NotNull CitizenData citizen : citizens.values())
         {
-            for (@NotNull CitizenData citizen : citizens.values())
+            final long citizenVersion = citizen.getVersion();
+            final long baseline = citizen.getSentViewVersion();
+            final int changes = citizenVersion == baseline ? 0 : citizen.getViewChanges();
+
+            @NotNull final List<EntityPlayerMP> deltaReceivers = new ArrayList<>();
+            @NotNull final List<EntityPlayerMP> fullReceivers = new ArrayList<>();
+            for (@NotNull final EntityPlayerMP player : subscribers)
             {
-                if (citizen.isDirty() || hasNewSubscribers)
+                @NotNull final SubscriberSync sync = subscriberSyncs.get(player);
+                final long sent = sync.getSentCitizen(citizen.getId());
+                if (sent >= citizenVersion
+                      || !sync.isReceiving(sync.getWindow() != null && (sync.getWindow().showsColony(this) || sync.getWindow().showsCitizen(citizen))))
+                {
+                    continue;
+                }
+
+                //  A player with the last sent view can take the changes to it, if there are any
+                if (sent != baseline || changes == CitizenDataView.VIEW_ALL)
+                {
+                    fullReceivers.add(player);
+                }
+                else if (changes != 0)
                 {
-                    subscribers.stream()
-                      .filter(player -> citizen.isDirty() || !oldSubscribers.contains(player))
-                      .forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewCitizenViewMessage(this, citizen), player));
+                    deltaReceivers.add(player);
                 }
+                sync.setSentCitizen(citizen.getId(), citizenVersion);
+            }
+
+            sendCitizenView(citizen, changes, deltaReceivers);
+            sendCitizenView(citizen, CitizenDataView.VIEW_ALL, fullReceivers);
+            //  The others keep the baseline, so they can still take the changes to it later
+            if (citizenVersion != baseline && !(deltaReceivers.isEmpty() && fullReceivers.isEmpty()))
+            {
+                citizen.markViewSent(changes);
             }
         }
     }
 
     /**
-     * Sends packages to update the buildings.
+     * Sends properties of a citizen to players, serialized once for all of them.
      *
-     * @param oldSubscribers    the existing subscribers.
-     * @param hasNewSubscribers the new subscribers.
+     * @param citizen   the citizen.
+     * @param fields    {@link CitizenDataView} bits of the properties.
+     * @param receivers the players.
+     */
+    private void sendCitizenView(@NotNull CitizenData citizen, int fields, @NotNull Collection<EntityPlayerMP> receivers)
+    {
+        if (receivers.isEmpty())
+        {
+            return;
+        }
+
+        @NotNull final ColonyViewCitizenViewMessage message = new ColonyViewCitizenViewMessage(this, citizen, fields);
+        viewUpdates.add(receivers, message);
+        viewUpdates.releaseAfterSend(message::release);
+    }
+
+    /**
+     * Sends packages to update the buildings.
+     * The view of a changed building gets a new version only if it differs from the one sent last, and is serialized
+     * once for all players.
      */
-    private void sendBuildingPackets(@NotNull Set<EntityPlayerMP> oldSubscribers, boolean hasNewSubscribers)
+    private void sendBuildingPackets()
     {
-        if (isBuildingsDirty || hasNewSubscribers)
+        if (subscriberSyncs.values().stream().noneMatch(sync -> sync.isBehindOnBuildings(buildingsVersion)))
         {
-            for (@NotNull AbstractBuilding building : buildings.values())
+            return;
+        }
+
+        for (@NotNull AbstractBuilding building : buildings.values())
+        {
+            @Nullable ByteBuf data = null;
+            if (building.isViewOutdated())
             {
-                if (building.isDirty() || hasNewSubscribers)
+                data = serializeBuildingView(building);
+                if (!building.updateSentView(data))
                 {
-                    subscribers.stream()
-                      .filter(player -> building.isDirty() || !oldSubscribers.contains(player))
-                      .forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewBuildingViewMessage(building), player));
+                    data.release();
+                    data = null;
                 }
             }
+
+            @NotNull final List<EntityPlayerMP> receivers = new ArrayList<>();
+            for (@NotNull final EntityPlayerMP player : subscribers)
+            {
+                @NotNull final SubscriberSync sync = subscriberSyncs.get(player);
+                if (sync.takeBuilding(building.getID(), building.getViewVersion(), sync.getWindow() != null && sync.getWindow().showsBuilding(building.getID())))
+                {
+                    receivers.add(player);
+                }
+            }
+
+            if (receivers.isEmpty())
+            {
+                if (data != null)
+                {
+                    data.release();
+                }
+                continue;
+            }
+
+            @NotNull final ColonyViewBuildingViewMessage message =
+              new ColonyViewBuildingViewMessage(building, data == null ? serializeBuildingView(building) : data);
+            viewUpdates.add(receivers, message);
+            viewUpdates.releaseAfterSend(message::release);
         }
     }
 
+    @NotNull
+    private static ByteBuf serializeBuildingView(@NotNull AbstractBuilding building)
+    {
+        @NotNull final ByteBuf data = PooledByteBufAllocator.DEFAULT.buffer();
+        building.serializeToView(data);
+        return data;
+    }
+
     /**
-     * Sends packages to update the fields.
+     * Send the whole colony to a subscriber again, when its view went out of step.
      *
-     * @param oldSubscribers    the existing subscribers.
-     * @param hasNewSubscribers the new subscribers.
+     * @param player the player.
      */
-    private void sendFieldPackets(Set<EntityPlayerMP> oldSubscribers, boolean hasNewSubscribers)
+    public void resyncSubscriber(@NotNull EntityPlayerMP player)
     {
-        if (isFieldsDirty && !isBuildingsDirty || hasNewSubscribers)
+        if (subscribers.contains(player))
         {
-            for (AbstractBuilding building : buildings.values())
-            {
-                if (building instanceof BuildingFarmer)
-                {
-                    subscribers.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewBuildingViewMessage(building), player));
-                }
-            }
+            newSubscribers.add(player);
+            subscriberSyncs.put(player, new SubscriberSync());
         }
     }
 
@@ -682,6 +915,7 @@ public class Colony implements IColony
      * Any per-world-tick logic should be performed here.
      * NOTE: If the Colony's world isn't loaded, it won't have a world tick.
      * Use onServerTick for logic that should _always_ run.
+     * Work which doesn't have to happen every tick goes into onDeferredTick.
      *
      * @param event {@link TickEvent.WorldTickEvent}
      */
@@ -694,31 +928,6 @@ public class Colony implements IColony
 
         if (event.phase == TickEvent.Phase.START)
         {
-            //  Detect CitizenData whose EntityCitizen no longer exist in world, and clear the mapping
-            //  Consider handing this in an ChunkUnload Event instead?
-            citizens.values()
-                    .stream()
-                    .filter(Colony::isCitizenMissingFromWorld)
-                    .forEach(CitizenData::clearCitizenEntity);
-
-            //  Cleanup disappeared citizens
-            //  It would be really nice if we didn't have to do this... but Citizens can disappear without dying!
-            //  Every CITIZEN_CLEANUP_TICK_INCREMENT, cleanup any 'lost' citizens
-            if ((event.world.getWorldTime() % CITIZEN_CLEANUP_TICK_INCREMENT) == 0 && areAllColonyChunksLoaded(event))
-            {
-                //  All chunks within a good range of the colony should be loaded, so all citizens should be loaded
-                //  If we don't have any references to them, destroy the citizen
-                citizens.values().stream().filter(citizen -> citizen.getCitizenEntity() == null)
-                        .forEach(citizen ->
-                        {
-                            Log.getLogger().warn(String.format("Citizen #%d:%d has gone AWOL, respawning them!", getID(), citizen.getId()));
-                            spawnCitizen(citizen);
-                        });
-            }
-
-            //  Cleanup Buildings whose Blocks have gone AWOL
-            cleanUpBuildings(event);
-
             //  Spawn Citizens
             if (townHall != null && citizens.size() < maxCitizens)
             {
@@ -732,6 +941,12 @@ public class Colony implements IColony
             }
         }
 
+        //  Cleanup Buildings and Fields whose Blocks have gone AWOL
+        if (!livenessChecks.isEmpty())
+        {
+            checkLiveness(event.world);
+        }
+
         //  Tick Buildings
         for (@NotNull AbstractBuilding building : buildings.values())
         {
@@ -741,60 +956,200 @@ public class Colony implements IColony
         workManager.onWorldTick(event);
     }
 
-    private boolean areAllColonyChunksLoaded(@NotNull TickEvent.WorldTickEvent event)
+    /**
+     * Logic which may be spread over the ticks, run by the {@link ColonyTickScheduler} about once a second when there
+     * is time for it.
+     *
+     * @param w the world of the colony.
+     */
+    public void onDeferredTick(@NotNull World w)
     {
-        int distanceFromCenter = Configurations.workingRangeTownHall + 48 /* 3 chunks */ + 15 /* round up a chunk */;
-        for (int x = -distanceFromCenter; x <= distanceFromCenter; x += 16)
+        if (w != getWorld())
+        {
+            throw new IllegalStateException("Colony's world does not match the tick.");
+        }
+
+        //  Cleanup disappeared citizens
+        //  The entities tell their CitizenData when they are added to or removed from the world
+        //  Every CITIZEN_CLEANUP_TICK_INCREMENT, cleanup any 'lost' citizens
+        if (w.getTotalWorldTime() - lastCitizenCleanup >= CITIZEN_CLEANUP_TICK_INCREMENT)
         {
-            for (int z = -distanceFromCenter; z <= distanceFromCenter; z += 16)
+            lastCitizenCleanup = w.getTotalWorldTime();
+            if (loadedCitizens.size() < citizens.size() && areAllColonyChunksLoaded())
             {
-                if (!event.world.isBlockLoaded(new BlockPos(getCenter().getX() + x, 128, getCenter().getZ() + z)))
+                //  All chunks within a good range of the colony should be loaded, so all citizens should be loaded
+                //  If we don't have any references to them, destroy the citizen
+                citizens.values().stream().filter(citizen -> citizen.getCitizenEntity() == null)
+                        .forEach(citizen ->
+                        {
+                            Log.getLogger().warn(String.format("Citizen #%d:%d has gone AWOL, respawning them!", getID(), citizen.getId()));
+                            spawnCitizen(citizen);
+                        });
+            }
+        }
+
+        //  Blocks can change without an update, recheck everything once in a while
+        if (w.getTotalWorldTime() - lastLivenessVerify >= LIVENESS_VERIFY_INCREMENT)
+        {
+            lastLivenessVerify = w.getTotalWorldTime();
+            livenessChecks.addAll(buildings.keySet());
+            livenessChecks.addAll(fields.keySet());
+        }
+
+        workManager.fulfillWorkOrders();
+
+        if (isAchievementCheckNeeded)
+        {
+            isAchievementCheckNeeded = false;
+            checkAchievements();
+        }
+    }
+
+    /**
+     * On change of a block in the world of the colony, notify the buildings.
+     *
+     * @param pos      the position of the block.
+     * @param oldState the block before.
+     * @param newState the block now.
+     */
+    public void onBlockChanged(@NotNull BlockPos pos, @NotNull IBlockState oldState, @NotNull IBlockState newState)
+    {
+        if (oldState.getBlock() != newState.getBlock() && (buildings.containsKey(pos) || fields.containsKey(pos)))
+        {
+            livenessChecks.add(pos.toImmutable());
+        }
+
+        for (@NotNull final AbstractBuilding building : buildings.values())
+        {
+            building.onBlockChanged(pos, oldState, newState);
+        }
+    }
+
+    /**
+     * Check if every chunk of the footprint of the colony is loaded, so all its citizens should be loaded.
+     *
+     * @return true if so.
+     */
+    private boolean areAllColonyChunksLoaded()
+    {
+        //  Not counted before the world was loaded
+        return footprintMaxX >= footprintMinX && loadedChunks.size() == (footprintMaxX - footprintMinX + 1) * (footprintMaxZ - footprintMinZ + 1);
+    }
+
+    /**
+     * Compute the footprint of the colony and find which of its chunks are loaded.
+     * From then on, the chunk events keep track of them.
+     *
+     * @param w the world of the colony.
+     */
+    private void countLoadedChunks(@NotNull World w)
+    {
+        final int distanceFromCenter = Configurations.workingRangeTownHall + 48 /* 3 chunks */;
+        footprintMinX = (center.getX() - distanceFromCenter) >> CHUNK_SHIFT;
+        footprintMinZ = (center.getZ() - distanceFromCenter) >> CHUNK_SHIFT;
+        footprintMaxX = (center.getX() + distanceFromCenter) >> CHUNK_SHIFT;
+        footprintMaxZ = (center.getZ() + distanceFromCenter) >> CHUNK_SHIFT;
+
+        loadedChunks.clear();
+        for (int x = footprintMinX; x <= footprintMaxX; ++x)
+        {
+            for (int z = footprintMinZ; z <= footprintMaxZ; ++z)
+            {
+                if (w.getChunkProvider().getLoadedChunk(x, z) != null)
                 {
-                    return false;
+                    loadedChunks.add(ChunkPos.chunkXZ2Int(x, z));
                 }
             }
         }
-        return true;
     }
 
-    private void cleanUpBuildings(@NotNull TickEvent.WorldTickEvent event)
+    private boolean isInFootprint(int chunkX, int chunkZ)
     {
-        @Nullable final List<AbstractBuilding> removedBuildings = new ArrayList<>();
+        return chunkX >= footprintMinX && chunkX <= footprintMaxX && chunkZ >= footprintMinZ && chunkZ <= footprintMaxZ;
+    }
 
-        //Need this list, we may enter he while we add a building in the real world.
-        List<AbstractBuilding> tempBuildings = new ArrayList<>(buildings.values());
+    /**
+     * On load of a chunk of the world of the colony, check the buildings and fields in it.
+     * Their blocks may have changed while it was unloaded, and scarecrows have a new tile entity.
+     *
+     * @param chunkX x of the chunk.
+     * @param chunkZ z of the chunk.
+     */
+    public void onChunkLoad(int chunkX, int chunkZ)
+    {
+        if (isInFootprint(chunkX, chunkZ))
+        {
+            loadedChunks.add(ChunkPos.chunkXZ2Int(chunkX, chunkZ));
+        }
 
-        for (@NotNull AbstractBuilding building : tempBuildings)
+        for (@NotNull final BlockPos pos : buildings.keySet())
         {
-            final BlockPos loc = building.getLocation();
-            if (event.world.isBlockLoaded(loc) && !building.isMatchingBlock(event.world.getBlockState(loc).getBlock()))
+            if (pos.getX() >> CHUNK_SHIFT == chunkX && pos.getZ() >> CHUNK_SHIFT == chunkZ)
             {
-                //  Sanity cleanup
-                removedBuildings.add(building);
+                livenessChecks.add(pos);
+            }
+        }
+
+        for (@NotNull final BlockPos pos : fields.keySet())
+        {
+            if (pos.getX() >> CHUNK_SHIFT == chunkX && pos.getZ() >> CHUNK_SHIFT == chunkZ)
+            {
+                livenessChecks.add(pos);
             }
         }
+    }
 
-        removedBuildings.forEach(AbstractBuilding::destroy);
+    /**
+     * On unload of a chunk of the world of the colony, forget it was loaded.
+     *
+     * @param chunkX x of the chunk.
+     * @param chunkZ z of the chunk.
+     */
+    public void onChunkUnload(int chunkX, int chunkZ)
+    {
+        loadedChunks.remove(ChunkPos.chunkXZ2Int(chunkX, chunkZ));
+    }
 
-        @NotNull final ArrayList<Field> tempFields = new ArrayList<>(fields.values());
+    /**
+     * Remove the buildings and fields queued for a check whose block is gone, and pick up the inventory of the
+     * scarecrow of the fields which are still there.
+     *
+     * @param w the world of the colony.
+     */
+    private void checkLiveness(@NotNull World w)
+    {
+        @NotNull final List<BlockPos> positions = new ArrayList<>(livenessChecks);
+        livenessChecks.clear();
 
-        for (@NotNull final Field field : tempFields)
+        for (@NotNull final BlockPos pos : positions)
         {
-            if (event.world.isBlockLoaded(field.getLocation()))
+            if (!w.isBlockLoaded(pos))
+            {
+                //  Checked again when its chunk loads
+                continue;
+            }
+
+            @Nullable final AbstractBuilding building = buildings.get(pos);
+            if (building != null && !building.isMatchingBlock(w.getBlockState(pos).getBlock()))
             {
-                final ScarecrowTileEntity scarecrow = (ScarecrowTileEntity) event.world.getTileEntity(field.getID());
-                if (scarecrow == null)
+                //  Sanity cleanup
+                building.destroy();
+            }
+
+            @Nullable final Field field = fields.get(pos);
+            if (field != null)
+            {
+                final TileEntity tileEntity = w.getTileEntity(pos);
+                if (tileEntity instanceof ScarecrowTileEntity)
                 {
-                    fields.remove(field.getID());
+                    field.setInventoryField(((ScarecrowTileEntity) tileEntity).getInventoryField());
                 }
                 else
                 {
-                    field.setInventoryField(scarecrow.getInventoryField());
+                    removeField(pos);
                 }
             }
         }
-
-        markFieldsDirty();
     }
 
     /**
@@ -847,7 +1202,7 @@ public class Colony implements IColony
             entity.setPosition(spawnPoint.getX() + 0.5D, spawnPoint.getY() + 0.1D, spawnPoint.getZ() + 0.5D);
             world.spawnEntityInWorld(entity);
 
-            checkAchievements();
+            isAchievementCheckNeeded = true;
 
             markCitizensDirty();
         }
@@ -952,9 +1307,11 @@ public class Colony implements IColony
     /**
      * Updates all subscribers of fields etc.
      */
-    private void markFieldsDirty()
+    public void markFieldsDirty()
     {
-        isFieldsDirty = true;
+        markSaveNeeded();
+        //  The farmers show the fields
+        buildings.values().stream().filter(building -> building instanceof BuildingFarmer).forEach(AbstractBuilding::markDirty);
     }
 
     /**
@@ -1084,10 +1441,10 @@ public class Colony implements IColony
     {
         if (buildings.remove(building.getID()) != null)
         {
-            for (EntityPlayerMP player : subscribers)
-            {
-                MineColonies.getNetwork().sendTo(new ColonyViewRemoveBuildingMessage(this, building.getID()), player);
-            }
+            ColonyManager.onBuildingRemoved(this, building.getID());
+
+            viewUpdates.add(subscribers, new ColonyViewRemoveBuildingMessage(this, building.getID()));
+            subscriberSyncs.values().forEach(sync -> sync.removeBuilding(building.getID()));
 
             Log.getLogger().info(String.format("Colony %d - removed AbstractBuilding %s of type %s",
               getID(),
@@ -1163,6 +1520,7 @@ public class Colony implements IColony
     {
         //Remove the Citizen
         citizens.remove(citizen.getId());
+        loadedCitizens.remove(citizen.getId());
 
         for (@NotNull AbstractBuilding building : buildings.values())
         {
@@ -1172,10 +1530,8 @@ public class Colony implements IColony
         workManager.clearWorkForCitizen(citizen);
 
         //  Inform Subscribers of removed citizen
-        for (EntityPlayerMP player : subscribers)
-        {
-            MineColonies.getNetwork().sendTo(new ColonyViewRemoveCitizenMessage(this, citizen.getId()), player);
-        }
+        viewUpdates.add(subscribers, new ColonyViewRemoveCitizenMessage(this, citizen.getId()));
+        subscriberSyncs.values().forEach(sync -> sync.removeCitizen(citizen.getId()));
     }
 
     /**
@@ -1186,10 +1542,7 @@ public class Colony implements IColony
     public void removeWorkOrder(int orderId)
     {
         //  Inform Subscribers of removed workOrder
-        for (EntityPlayerMP player : subscribers)
-        {
-            MineColonies.getNetwork().sendTo(new ColonyViewRemoveWorkOrderMessage(this, orderId), player);
-        }
+        viewUpdates.add(subscribers, new ColonyViewRemoveWorkOrderMessage(this, orderId));
     }
 
     /**
@@ -1270,6 +1623,7 @@ public class Colony implements IColony
         }
 
         this.colonyAchievements.add(achievement);
+        markSaveNeeded();
 
         AchievementUtils.syncAchievements(this);
     }
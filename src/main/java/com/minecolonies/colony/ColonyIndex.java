@@ -0,0 +1,369 @@
+package com.minecolonies.colony;
+
+import com.minecolonies.configuration.Configurations;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Finds colonies by position without going through all of them. Used for the colonies on the server and for the
+ * colony views on the client.
+ * <p>
+ * Every colony is registered in the chunks its area touches, and its center in a coarse grid of regions for the
+ * search of the closest colony. The buildings are registered by their position.
+ *
+ * @param <T> {@link Colony} or {@link ColonyView}.
+ */
+final class ColonyIndex<T extends IColony>
+{
+    private static final int CHUNK_SHIFT  = 4;
+    private static final int REGION_SHIFT = 8;
+    private static final int REGION_SIZE  = 1 << REGION_SHIFT;
+
+    //  Colonies whose area touches a chunk, per dimension
+    @NotNull
+    private final Map<Integer, Map<Long, List<T>>> byChunk           = new HashMap<>();
+    //  Colonies whose center is in a region, per dimension
+    @NotNull
+    private final Map<Integer, Map<Long, List<T>>> byRegion          = new HashMap<>();
+    //  Lowest and highest region x and z with a center, per dimension
+    @NotNull
+    private final Map<Integer, int[]>              regionBounds      = new HashMap<>();
+    @NotNull
+    private final Map<T, Area>                     areas             = new IdentityHashMap<>();
+    @NotNull
+    private final Map<Integer, Map<BlockPos, T>>   buildings         = new HashMap<>();
+    @NotNull
+    private final Map<T, Set<BlockPos>>            buildingsByColony = new IdentityHashMap<>();
+
+    /**
+     * Register a colony, or register it again after its center or dimension changed.
+     *
+     * @param colony the colony.
+     */
+    void add(@NotNull T colony)
+    {
+        @Nullable final Area old = areas.get(colony);
+        if (old != null && old.dimension == colony.getDimension() && old.center.equals(colony.getCenter())
+              && old.radius == Configurations.workingRangeTownHall)
+        {
+            return;
+        }
+        removeArea(colony);
+
+        @NotNull final Area area = new Area(colony.getDimension(), colony.getCenter(), Configurations.workingRangeTownHall);
+        final Map<Long, List<T>> chunks = byChunk.computeIfAbsent(area.dimension, dim -> new HashMap<>());
+        for (int x = (area.center.getX() - area.radius) >> CHUNK_SHIFT; x <= (area.center.getX() + area.radius) >> CHUNK_SHIFT; ++x)
+        {
+            for (int z = (area.center.getZ() - area.radius) >> CHUNK_SHIFT; z <= (area.center.getZ() + area.radius) >> CHUNK_SHIFT; ++z)
+            {
+                chunks.computeIfAbsent(ChunkPos.chunkXZ2Int(x, z), key -> new ArrayList<>(1)).add(colony);
+            }
+        }
+
+        final int regionX = area.center.getX() >> REGION_SHIFT;
+        final int regionZ = area.center.getZ() >> REGION_SHIFT;
+        byRegion.computeIfAbsent(area.dimension, dim -> new HashMap<>())
+          .computeIfAbsent(ChunkPos.chunkXZ2Int(regionX, regionZ), key -> new ArrayList<>(1)).add(colony);
+        @NotNull final int[] bounds = regionBounds.computeIfAbsent(area.dimension,
+          dim -> new int[] {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE});
+        bounds[0] = Math.min(bounds[0], regionX);
+        bounds[1] = Math.min(bounds[1], regionZ);
+        bounds[2] = Math.max(bounds[2], regionX);
+        bounds[3] = Math.max(bounds[3], regionZ);
+
+        areas.put(colony, area);
+    }
+
+    /**
+     * Forget a colony and its buildings.
+     *
+     * @param colony the colony.
+     */
+    void remove(@NotNull T colony)
+    {
+        removeBuildings(colony);
+        removeArea(colony);
+    }
+
+    private void removeArea(@NotNull T colony)
+    {
+        @Nullable final Area area = areas.remove(colony);
+        if (area == null)
+        {
+            return;
+        }
+
+        final Map<Long, List<T>> chunks = byChunk.get(area.dimension);
+        for (int x = (area.center.getX() - area.radius) >> CHUNK_SHIFT; x <= (area.center.getX() + area.radius) >> CHUNK_SHIFT; ++x)
+        {
+            for (int z = (area.center.getZ() - area.radius) >> CHUNK_SHIFT; z <= (area.center.getZ() + area.radius) >> CHUNK_SHIFT; ++z)
+            {
+                removeFromList(chunks, ChunkPos.chunkXZ2Int(x, z), colony);
+            }
+        }
+        removeFromList(byRegion.get(area.dimension), ChunkPos.chunkXZ2Int(area.center.getX() >> REGION_SHIFT, area.center.getZ() >> REGION_SHIFT), colony);
+    }
+
+    private static <K, V> void removeFromList(@Nullable Map<K, List<V>> map, @NotNull K key, @NotNull V value)
+    {
+        if (map == null)
+        {
+            return;
+        }
+
+        @Nullable final List<V> values = map.get(key);
+        if (values != null)
+        {
+            values.remove(value);
+            if (values.isEmpty())
+            {
+                map.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Register a building of a colony.
+     *
+     * @param colony the colony.
+     * @param pos    the position of the building.
+     */
+    void addBuilding(@NotNull T colony, @NotNull BlockPos pos)
+    {
+        buildings.computeIfAbsent(colony.getDimension(), dim -> new HashMap<>()).put(pos, colony);
+        buildingsByColony.computeIfAbsent(colony, key -> new HashSet<>()).add(pos);
+    }
+
+    /**
+     * Forget a building of a colony.
+     *
+     * @param colony the colony.
+     * @param pos    the position of the building.
+     */
+    void removeBuilding(@NotNull T colony, @NotNull BlockPos pos)
+    {
+        @Nullable final Map<BlockPos, T> buildingsInDimension = buildings.get(colony.getDimension());
+        if (buildingsInDimension != null && buildingsInDimension.get(pos) == colony)
+        {
+            buildingsInDimension.remove(pos);
+        }
+
+        @Nullable final Set<BlockPos> positions = buildingsByColony.get(colony);
+        if (positions != null)
+        {
+            positions.remove(pos);
+        }
+    }
+
+    /**
+     * Forget all buildings of a colony.
+     *
+     * @param colony the colony.
+     */
+    void removeBuildings(@NotNull T colony)
+    {
+        @Nullable final Set<BlockPos> positions = buildingsByColony.remove(colony);
+        if (positions == null)
+        {
+            return;
+        }
+
+        @Nullable final Map<BlockPos, T> buildingsInDimension = buildings.get(colony.getDimension());
+        if (buildingsInDimension != null)
+        {
+            for (@NotNull final BlockPos pos : positions)
+            {
+                if (buildingsInDimension.get(pos) == colony)
+                {
+                    buildingsInDimension.remove(pos);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the colony with a building at a position.
+     *
+     * @param dimension the dimension.
+     * @param pos       the position.
+     * @return the colony, or null if there is no building.
+     */
+    @Nullable
+    T getBuildingColony(int dimension, @NotNull BlockPos pos)
+    {
+        @Nullable final Map<BlockPos, T> buildingsInDimension = buildings.get(dimension);
+        return buildingsInDimension == null ? null : buildingsInDimension.get(pos);
+    }
+
+    /**
+     * Get the colony a position is in.
+     *
+     * @param w   the world.
+     * @param pos the position.
+     * @return the colony, or null if the position isn't in a colony.
+     */
+    @Nullable
+    T getColony(@NotNull World w, @NotNull BlockPos pos)
+    {
+        @Nullable final Map<Long, List<T>> chunks = byChunk.get(w.provider.getDimension());
+        if (chunks == null)
+        {
+            return null;
+        }
+
+        @Nullable final List<T> candidates = chunks.get(ChunkPos.chunkXZ2Int(pos.getX() >> CHUNK_SHIFT, pos.getZ() >> CHUNK_SHIFT));
+        if (candidates == null)
+        {
+            return null;
+        }
+
+        for (@NotNull final T colony : candidates)
+        {
+            if (colony.isCoordInColony(w, pos))
+            {
+                return colony;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the colony with the center closest to a position.
+     *
+     * @param dimension the dimension.
+     * @param pos       the position.
+     * @return the colony, or null if there is none in the dimension.
+     */
+    @Nullable
+    T getClosestColony(int dimension, @NotNull BlockPos pos)
+    {
+        @Nullable final Map<Long, List<T>> regions = byRegion.get(dimension);
+        if (regions == null || regions.isEmpty())
+        {
+            return null;
+        }
+
+        final int regionX = pos.getX() >> REGION_SHIFT;
+        final int regionZ = pos.getZ() >> REGION_SHIFT;
+        @NotNull final int[] bounds = regionBounds.get(dimension);
+        final int maxRing = Math.max(Math.max(Math.abs(regionX - bounds[0]), Math.abs(regionX - bounds[2])),
+          Math.max(Math.abs(regionZ - bounds[1]), Math.abs(regionZ - bounds[3])));
+
+        @Nullable T closest = null;
+        long closestDist = Long.MAX_VALUE;
+        for (int ring = 0; ring <= maxRing; ++ring)
+        {
+            //  Every center in this ring or further out is at least this far away
+            final long ringDistance = (long) (ring - 1) * REGION_SIZE;
+            if (closest != null && ring > 0 && ringDistance * ringDistance > closestDist)
+            {
+                break;
+            }
+
+            for (int x = regionX - ring; x <= regionX + ring; ++x)
+            {
+                for (int z = regionZ - ring; z <= regionZ + ring; ++z)
+                {
+                    if (Math.abs(x - regionX) != ring && Math.abs(z - regionZ) != ring)
+                    {
+                        continue;
+                    }
+
+                    @Nullable final List<T> colonies = regions.get(ChunkPos.chunkXZ2Int(x, z));
+                    if (colonies == null)
+                    {
+                        continue;
+                    }
+
+                    for (@NotNull final T colony : colonies)
+                    {
+                        final long dist = colony.getDistanceSquared(pos);
+                        if (dist < closestDist)
+                        {
+                            closest = colony;
+                            closestDist = dist;
+                        }
+                    }
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Get the colonies with the center within a distance of a position, in (x, z) direction.
+     *
+     * @param dimension the dimension.
+     * @param pos       the position.
+     * @param range     the distance.
+     * @return the colonies.
+     */
+    @NotNull
+    List<T> getColoniesNear(int dimension, @NotNull BlockPos pos, int range)
+    {
+        @Nullable final Map<Long, List<T>> regions = byRegion.get(dimension);
+        if (regions == null || regions.isEmpty())
+        {
+            return Collections.emptyList();
+        }
+
+        final long rangeSquared = (long) range * range;
+        @NotNull final List<T> near = new ArrayList<>();
+        for (int x = (pos.getX() - range) >> REGION_SHIFT; x <= (pos.getX() + range) >> REGION_SHIFT; ++x)
+        {
+            for (int z = (pos.getZ() - range) >> REGION_SHIFT; z <= (pos.getZ() + range) >> REGION_SHIFT; ++z)
+            {
+                @Nullable final List<T> colonies = regions.get(ChunkPos.chunkXZ2Int(x, z));
+                if (colonies == null)
+                {
+                    continue;
+                }
+
+                for (@NotNull final T colony : colonies)
+                {
+                    if (colony.getDistanceSquared(pos) <= rangeSquared)
+                    {
+                        near.add(colony);
+                    }
+                }
+            }
+        }
+        return near;
+    }
+
+    /**
+     * Forget everything.
+     */
+    void clear()
+    {
+        byChunk.clear();
+        byRegion.clear();
+        regionBounds.clear();
+        areas.clear();
+        buildings.clear();
+        buildingsByColony.clear();
+    }
+
+    /**
+     * Where a colony was registered.
+     */
+    private static final class Area
+    {
+        private final int      dimension;
+        @NotNull
+        private final BlockPos center;
+        private final int      radius;
+
+        private Area(int dimension, @NotNull BlockPos center, int radius)
+        {
+            this.dimension = dimension;
+            this.center = center;
+            this.radius = radius;
+        }
+    }
+}
@@ -4,46 +4,67 @@ import com.minecolonies.achievements.ModAchievements;
 import com.minecolonies.colony.buildings.AbstractBuilding;
 import com.minecolonies.colony.permissions.Permissions;
 import com.minecolonies.configuration.Configurations;
+import com.minecolonies.entity.pathfinding.Pathfinding;
 import com.minecolonies.util.AchievementUtils;
 import com.minecolonies.util.LanguageHandler;
 import com.minecolonies.util.Log;
 import io.netty.buffer.ByteBuf;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.nbt.CompressedStreamTools;
-import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.nbt.NBTTagList;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.common.DimensionManager;
-import net.minecraftforge.common.util.Constants.NBT;
+import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Singleton class that links colonies to minecraft.
  */
 public final class ColonyManager
 {
-    private static final String                     FILENAME_MINECOLONIES_PATH = "minecolonies";
-    private static final String                     FILENAME_MINECOLONIES      = "colonies.dat";
-    private static final String                     TAG_COLONIES               = "colonies";
+    private static final String                        FILENAME_MINECOLONIES_PATH = "minecolonies";
+    //  Ticks at least between two saves, the changes citizens make while they work are written together
+    private static final int                           MIN_TICKS_BETWEEN_SAVES    = 20;
     @NotNull
-    private static       Map<Integer, Colony>       colonies                   = new HashMap<>();
+    private static       Map<Integer, Colony>          colonies                   = new HashMap<>();
     @NotNull
-    private static       Map<Integer, List<Colony>> coloniesByWorld            = new HashMap<>();
-    private static       int                        topColonyId                = 0;
+    private static       Map<Integer, List<Colony>>    coloniesByWorld            = new HashMap<>();
+    private static       int                           topColonyId                = 0;
     @NotNull
-    private static       Map<Integer, ColonyView>   colonyViews                = new HashMap<>();
+    private static       Map<Integer, ColonyView>      colonyViews                = new HashMap<>();
+    @NotNull
+    private static final ColonyTickScheduler           tickScheduler              = new ColonyTickScheduler();
+    @NotNull
+    private static final ColonyIndex<Colony>           colonyIndex                = new ColonyIndex<>();
+    @NotNull
+    private static final ColonyIndex<ColonyView>       colonyViewIndex            = new ColonyIndex<>();
+    @NotNull
+    private static final ColonyMemberIndex<Colony>     memberIndex                = new ColonyMemberIndex<>();
+    @NotNull
+    private static final ColonyMemberIndex<ColonyView> viewMemberIndex            = new ColonyMemberIndex<>();
+    //  Colonies a player is subscribed to
+    @NotNull
+    private static final Map<UUID, Set<Colony>>        subscriptions              = new HashMap<>();
+    //  Colony window each player has open, written from the network thread
+    @NotNull
+    private static final Map<UUID, OpenWindow>         openWindows                = new ConcurrentHashMap<>();
     // Used to trigger loading/unloading colonies
-    private static int     numWorldsLoaded;
-    private static boolean saveNeeded;
+    private static int           numWorldsLoaded;
+    private static boolean       saveNeeded;
+    private static int           ticksSinceSave = MIN_TICKS_BETWEEN_SAVES;
+    //  Files of the colonies, while a world is loaded
+    @Nullable
+    private static ColonyStorage storage;
 
     private ColonyManager()
     {
@@ -63,19 +84,20 @@ public final class ColonyManager
     {
         ++topColonyId;
         @NotNull Colony colony = new Colony(topColonyId, w, pos);
-        colonies.put(colony.getID(), colony);
-
-        if (!coloniesByWorld.containsKey(colony.getDimension()))
-        {
-            coloniesByWorld.put(colony.getDimension(), new ArrayList<>());
-        }
-
-        coloniesByWorld.get(colony.getDimension()).add(colony);
+        addColony(colony);
 
         String colonyName = LanguageHandler.format("com.minecolonies.gui.townHall.defaultName", player.getDisplayNameString());
         colony.setName(colonyName);
         colony.getPermissions().setPlayerRank(player.getGameProfile().getId(), Permissions.Rank.OWNER, w);
 
+        for (@NotNull final EntityPlayer nearbyPlayer : w.playerEntities)
+        {
+            if (nearbyPlayer instanceof EntityPlayerMP)
+            {
+                updateSubscriptions((EntityPlayerMP) nearbyPlayer);
+            }
+        }
+
         colony.triggerAchievement(ModAchievements.achievementGetSupply);
         colony.triggerAchievement(ModAchievements.achievementTownhall);
 
@@ -86,6 +108,23 @@ public final class ColonyManager
         return colony;
     }
 
+    /**
+     * Add a created or loaded colony.
+     *
+     * @param colony the colony.
+     */
+    private static void addColony(@NotNull Colony colony)
+    {
+        colonies.put(colony.getID(), colony);
+        colonyIndex.add(colony);
+
+        if (!coloniesByWorld.containsKey(colony.getDimension()))
+        {
+            coloniesByWorld.put(colony.getDimension(), new ArrayList<>());
+        }
+        coloniesByWorld.get(colony.getDimension()).add(colony);
+    }
+
     /**
      * Specify that colonies should be saved.
      */
@@ -122,30 +161,31 @@ public final class ColonyManager
      */
     public static AbstractBuilding getBuilding(@NotNull World w, @NotNull BlockPos pos)
     {
-        @Nullable Colony colony = getColony(w, pos);
-        if (colony != null)
-        {
-            AbstractBuilding building = colony.getBuilding(pos);
-            if (building != null)
-            {
-                return building;
-            }
-        }
+        //  There might be a AbstractBuilding for this block outside of it's owning colony's radius, look it up by position
+        @Nullable final Colony colony = colonyIndex.getBuildingColony(w.provider.getDimension(), pos);
+        return colony == null ? null : colony.getBuilding(pos);
+    }
 
-        //  Fallback - there might be a AbstractBuilding for this block, but it's outside of it's owning colony's radius
-        if (coloniesByWorld.containsKey(w.provider.getDimension()))
-        {
-            for (@NotNull Colony otherColony : coloniesByWorld.get(w.provider.getDimension()))
-            {
-                AbstractBuilding building = otherColony.getBuilding(pos);
-                if (building != null)
-                {
-                    return building;
-                }
-            }
-        }
+    /**
+     * Register the position of a building of a colony, to find it by position.
+     *
+     * @param colony the colony.
+     * @param pos    the position of the building.
+     */
+    static void onBuildingAdded(@NotNull Colony colony, @NotNull BlockPos pos)
+    {
+        colonyIndex.addBuilding(colony, pos);
+    }
 
-        return null;
+    /**
+     * Forget the position of a removed building of a colony.
+     *
+     * @param colony the colony.
+     * @param pos    the position of the building.
+     */
+    static void onBuildingRemoved(@NotNull Colony colony, @NotNull BlockPos pos)
+    {
+        colonyIndex.removeBuilding(colony, pos);
     }
 
     /**
@@ -185,42 +225,20 @@ public final class ColonyManager
      */
     public static Colony getColony(@NotNull World w, @NotNull BlockPos pos)
     {
-        List<Colony> coloniesInWorld = coloniesByWorld.get(w.provider.getDimension());
-        if (coloniesInWorld == null)
-        {
-            return null;
-        }
-
-        for (@NotNull Colony c : coloniesInWorld)
-        {
-            if (c.isCoordInColony(w, pos))
-            {
-                return c;
-            }
-        }
-
-        return null;
+        return colonyIndex.getColony(w, pos);
     }
 
     /**
      * Get a AbstractBuilding by position.
      *
+     * @param w   World
      * @param pos Block position
      * @return Returns the view belonging to the building at (x, y, z)
      */
-    public static AbstractBuilding.View getBuildingView(BlockPos pos)
+    public static AbstractBuilding.View getBuildingView(@NotNull World w, BlockPos pos)
     {
-        //  On client we will just check all known views
-        for (@NotNull ColonyView colony : colonyViews.values())
-        {
-            AbstractBuilding.View building = colony.getBuilding(pos);
-            if (building != null)
-            {
-                return building;
-            }
-        }
-
-        return null;
+        @Nullable final ColonyView colony = colonyViewIndex.getBuildingColony(w.provider.getDimension(), pos);
+        return colony == null ? null : colony.getBuilding(pos);
     }
 
     /**
@@ -247,15 +265,7 @@ public final class ColonyManager
      */
     private static ColonyView getColonyView(@NotNull World w, @NotNull BlockPos pos)
     {
-        for (@NotNull ColonyView c : colonyViews.values())
-        {
-            if (c.isCoordInColony(w, pos))
-            {
-                return c;
-            }
-        }
-
-        return null;
+        return colonyViewIndex.getColony(w, pos);
     }
 
     /**
@@ -284,23 +294,7 @@ public final class ColonyManager
     @Nullable
     public static ColonyView getClosestColonyView(@NotNull World w, @NotNull BlockPos pos)
     {
-        @Nullable ColonyView closestColony = null;
-        long closestDist = Long.MAX_VALUE;
-
-        for (@NotNull ColonyView c : colonyViews.values())
-        {
-            if (c.getDimension() == w.provider.getDimension())
-            {
-                long dist = c.getDistanceSquared(pos);
-                if (dist < closestDist)
-                {
-                    closestColony = c;
-                    closestDist = dist;
-                }
-            }
-        }
-
-        return closestColony;
+        return colonyViewIndex.getClosestColony(w.provider.getDimension(), pos);
     }
 
     /**
@@ -312,29 +306,7 @@ public final class ColonyManager
      */
     private static Colony getClosestColony(@NotNull World w, @NotNull BlockPos pos)
     {
-        List<Colony> coloniesInWorld = coloniesByWorld.get(w.provider.getDimension());
-        if (coloniesInWorld == null)
-        {
-            return null;
-        }
-
-        @Nullable Colony closestColony = null;
-        long closestDist = Long.MAX_VALUE;
-
-        for (@NotNull Colony c : coloniesInWorld)
-        {
-            if (c.getDimension() == w.provider.getDimension())
-            {
-                long dist = c.getDistanceSquared(pos);
-                if (dist < closestDist)
-                {
-                    closestColony = c;
-                    closestDist = dist;
-                }
-            }
-        }
-
-        return closestColony;
+        return colonyIndex.getClosestColony(w.provider.getDimension(), pos);
     }
 
     /**
@@ -379,16 +351,7 @@ public final class ColonyManager
      */
     private static IColony getColonyViewByOwner(UUID owner)
     {
-        for (@NotNull ColonyView c : colonyViews.values())
-        {
-            Permissions.Player p = c.getPlayers().get(owner);
-            if (p != null && p.getRank().equals(Permissions.Rank.OWNER))
-            {
-                return c;
-            }
-        }
-
-        return null;
+        return viewMemberIndex.getOwnedColony(owner);
     }
 
     /**
@@ -400,16 +363,152 @@ public final class ColonyManager
     @Nullable
     private static IColony getColonyByOwner(@Nullable UUID owner)
     {
-        if (owner == null)
+        return memberIndex.getOwnedColony(owner);
+    }
+
+    /**
+     * Side neutral method to get the colonies of a player.
+     * On clients it returns the views.
+     * On servers it returns the colonies themselves.
+     *
+     * @param w      World
+     * @param player UUID of the player
+     * @return the colonies the player has a rank in, with the rank
+     */
+    @NotNull
+    public static Map<IColony, Permissions.Rank> getIColoniesByMember(@NotNull World w, @NotNull UUID player)
+    {
+        return Collections.unmodifiableMap(w.isRemote ? viewMemberIndex.getColonies(player) : memberIndex.getColonies(player));
+    }
+
+    /**
+     * Updates the index of the members when the rank of a player in a colony changes.
+     *
+     * @param colony the colony.
+     * @param player UUID of the player.
+     * @param rank   the new rank, or null if the player was removed.
+     */
+    public static void onColonyMemberChanged(@NotNull Colony colony, @NotNull UUID player, @Nullable Permissions.Rank rank)
+    {
+        memberIndex.set(colony, player, rank);
+
+        @Nullable final MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+        @Nullable final EntityPlayerMP onlinePlayer =
+          server == null || server.getPlayerList() == null ? null : server.getPlayerList().getPlayerByUUID(player);
+        if (onlinePlayer != null)
         {
-            return null;
+            updateSubscriptions(onlinePlayer);
+        }
+    }
+
+    /**
+     * Subscribes a player to the colonies it is a member of or near to, and unsubscribes it from the others.
+     * Called when the player logs in, respawns, changes dimension, moves into another chunk or changes rank.
+     *
+     * @param player the player.
+     */
+    public static void updateSubscriptions(@NotNull EntityPlayerMP player)
+    {
+        @NotNull final UUID id = player.getGameProfile().getId();
+        @NotNull final Set<Colony> candidates = new HashSet<>(subscriptions.getOrDefault(id, Collections.emptySet()));
+        candidates.addAll(memberIndex.getColonies(id).keySet());
+        candidates.addAll(colonyIndex.getColoniesNear(player.dimension, player.getPosition(), Colony.getMaxSubscriberDistance()));
+
+        @NotNull final Set<Colony> subscribed = new HashSet<>();
+        for (@NotNull final Colony colony : candidates)
+        {
+            if (colony.updateSubscriber(player))
+            {
+                subscribed.add(colony);
+            }
+        }
+
+        if (subscribed.isEmpty())
+        {
+            subscriptions.remove(id);
         }
+        else
+        {
+            subscriptions.put(id, subscribed);
+        }
+    }
+
+    /**
+     * Unsubscribes a player from all colonies when it logs out.
+     *
+     * @param player the player.
+     */
+    public static void onPlayerLoggedOut(@NotNull EntityPlayerMP player)
+    {
+        openWindows.remove(player.getGameProfile().getId());
+        @Nullable final Set<Colony> subscribed = subscriptions.remove(player.getGameProfile().getId());
+        if (subscribed != null)
+        {
+            for (@NotNull final Colony colony : subscribed)
+            {
+                colony.removeSubscriber(player);
+            }
+        }
+    }
+
+    /**
+     * Remember which colony window a player opened, to send it what the window shows right away.
+     *
+     * @param player    the player.
+     * @param colonyId  the id of the colony.
+     * @param building  the building of the window, or null for a citizen window.
+     * @param citizenId the id of the citizen of the window, or -1 for a building window.
+     */
+    public static void onColonyWindowOpened(@NotNull EntityPlayerMP player, int colonyId, @Nullable BlockPos building, int citizenId)
+    {
+        openWindows.put(player.getGameProfile().getId(), new OpenWindow(colonyId, building, citizenId < 0 ? OpenWindow.NO_CITIZEN : citizenId));
+    }
 
-        return colonies.values()
-                 .stream()
-                 .filter(c -> owner.equals(c.getPermissions().getOwner()))
-                 .findFirst()
-                 .orElse(null);
+    /**
+     * Forget the colony window of a player, when it is closed.
+     *
+     * @param player the player.
+     */
+    public static void onColonyWindowClosed(@NotNull EntityPlayerMP player)
+    {
+        openWindows.remove(player.getGameProfile().getId());
+    }
+
+    /**
+     * Send a colony to a player again, when its view got out of step.
+     * Called from the network thread, the colony is changed on the server thread.
+     *
+     * @param player   the player.
+     * @param colonyId the id of the colony.
+     */
+    public static void onColonyViewResyncRequest(@NotNull EntityPlayerMP player, int colonyId)
+    {
+        @Nullable final MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+        if (server == null)
+        {
+            return;
+        }
+
+        server.addScheduledTask(() ->
+        {
+            @Nullable final Colony colony = getColony(colonyId);
+            if (colony != null)
+            {
+                colony.resyncSubscriber(player);
+            }
+        });
+    }
+
+    /**
+     * Get the colony window a player has open.
+     *
+     * @param player the player.
+     * @return the window, or null if no colony window is open.
+     */
+    @Nullable
+    static OpenWindow getOpenWindow(@NotNull EntityPlayerMP player)
+    {
+        return openWindows.get(player.getGameProfile().getId());
     }
 
     /**
@@ -433,108 +532,161 @@ public final class ColonyManager
     {
         for (@NotNull Colony c : colonies.values())
         {
+            final long start = System.nanoTime();
             c.onServerTick(event);
+            tickScheduler.recordTick(c, System.nanoTime() - start);
+        }
+
+        if (event.phase == TickEvent.Phase.END)
+        {
+            ++ticksSinceSave;
         }
 
-        if (saveNeeded)
+        if (saveNeeded && ticksSinceSave >= MIN_TICKS_BETWEEN_SAVES)
         {
             saveColonies();
         }
     }
 
     /**
-     * Save all the Colonies
+     * Save the Colonies which changed since the last save
      */
     private static void saveColonies()
     {
-        @NotNull NBTTagCompound compound = new NBTTagCompound();
-        writeToNBT(compound);
-
-        @NotNull File file = getSaveLocation();
-        saveNBTToPath(file, compound);
+        if (storage != null)
+        {
+            storage.save(colonies.values(), topColonyId);
+        }
 
         saveNeeded = false;
+        ticksSinceSave = 0;
     }
 
     /**
-     * Write colonies to NBT data for saving
+     * On Client tick, clears views when player left.
      *
-     * @param compound NBT-Tag
+     * @param event {@link net.minecraftforge.fml.common.gameevent.TickEvent.ClientTickEvent}
+     */
+    public static void onClientTick(@NotNull TickEvent.ClientTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.END && Minecraft.getMinecraft().theWorld == null && !colonyViews.isEmpty())
+        {
+            //  Player has left the game, clear the Colony View cache
+            colonyViews.clear();
+            colonyViewIndex.clear();
+            viewMemberIndex.clear();
+        }
+    }
+
+    /**
+     * On world tick, tick every Colony in that world.
+     * At the end of the tick, the {@link ColonyTickScheduler} runs the deferred work of the colonies within its budget.
+     * Then the waiting pathfinding work of the world is started.
+     *
+     * @param event {@link net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent}
      */
-    public static void writeToNBT(@NotNull NBTTagCompound compound)
+    public static void onWorldTick(
+                                    @NotNull TickEvent.WorldTickEvent event)
     {
-        @NotNull NBTTagList colonyTagList = new NBTTagList();
-        for (@NotNull Colony colony : colonies.values())
+        final List<Colony> coloniesInWorld = coloniesByWorld.get(event.world.provider.getDimension());
+        if (coloniesInWorld == null)
+        {
+            return;
+        }
+
+        //  Copy, a colony may be created while its world ticks
+        @NotNull final List<Colony> coloniesCopy = new ArrayList<>(coloniesInWorld);
+        for (@NotNull final Colony c : coloniesCopy)
         {
-            @NotNull NBTTagCompound colonyTagCompound = new NBTTagCompound();
-            colony.writeToNBT(colonyTagCompound);
-            colonyTagList.appendTag(colonyTagCompound);
+            final long start = System.nanoTime();
+            c.onWorldTick(event);
+            tickScheduler.recordTick(c, System.nanoTime() - start);
+        }
+
+        if (event.phase == TickEvent.Phase.END)
+        {
+            tickScheduler.runDeferred(event.world, coloniesCopy);
+            Pathfinding.onWorldTick(event.world);
         }
-        compound.setTag(TAG_COLONIES, colonyTagList);
     }
 
     /**
-     * Get save location for Minecolonies data, from the world/save directory
+     * Get the time the colonies spent on their ticks, the slowest first.
      *
-     * @return Save file for minecolonies
+     * @return the times.
      */
     @NotNull
-    private static File getSaveLocation()
+    public static List<ColonyTickScheduler.Lag> getColonyLags()
     {
-        @NotNull File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
-        return new File(saveDir, FILENAME_MINECOLONIES);
+        return tickScheduler.getLags();
     }
 
     /**
-     * Save an NBTTagCompound to a file.  Does so in a safe manner using an intermediate tmp file
+     * Reset the recorded times of the colony ticks.
+     */
+    public static void resetColonyLags()
+    {
+        tickScheduler.resetStatistics();
+    }
+
+    /**
+     * On change of a block on the server, notify the Colonies near it.
      *
-     * @param file     The destination file to write the data to
-     * @param compound The NBTTagCompound to write to the file
+     * @param world    the world of the block.
+     * @param pos      the position of the block.
+     * @param oldState the block before.
+     * @param newState the block now.
      */
-    private static void saveNBTToPath(@Nullable File file, @NotNull NBTTagCompound compound)
+    public static void onBlockChanged(@NotNull World world, @NotNull BlockPos pos, @NotNull IBlockState oldState, @NotNull IBlockState newState)
     {
-        try
-        {
-            if (file != null)
-            {
-                file.getParentFile().mkdir();
-                CompressedStreamTools.safeWrite(compound, file);
-            }
-        }
-        catch (IOException exception)
+        //  Only the colonies with a hut which may watch the block: huts are within the working range of the center
+        final int range = Configurations.workingRangeTownHall + AbstractBuilding.MAX_BLOCK_WATCH_RANGE;
+        for (@NotNull final Colony c : colonyIndex.getColoniesNear(world.provider.getDimension(), pos, range))
         {
-            Log.getLogger().error("Exception when saving ColonyManager", exception);
+            c.onBlockChanged(pos, oldState, newState);
         }
     }
 
     /**
-     * On Client tick, clears views when player left.
+     * On load of a chunk on the server, let the Colonies in that world check their buildings and fields in it.
      *
-     * @param event {@link net.minecraftforge.fml.common.gameevent.TickEvent.ClientTickEvent}
+     * @param world  the world of the chunk.
+     * @param chunkX x of the chunk.
+     * @param chunkZ z of the chunk.
      */
-    public static void onClientTick(@NotNull TickEvent.ClientTickEvent event)
+    public static void onChunkLoad(@NotNull World world, int chunkX, int chunkZ)
     {
-        if (event.phase == TickEvent.Phase.END && Minecraft.getMinecraft().theWorld == null && !colonyViews.isEmpty())
+        final List<Colony> coloniesInWorld = coloniesByWorld.get(world.provider.getDimension());
+        if (coloniesInWorld == null)
         {
-            //  Player has left the game, clear the Colony View cache
-            colonyViews.clear();
+            return;
+        }
+
+        for (@NotNull final Colony c : coloniesInWorld)
+        {
+            c.onChunkLoad(chunkX, chunkZ);
         }
     }
 
     /**
-     * On world tick, tick every Colony in that world.
-     * NOTE: Review this for performance
+     * On unload of a chunk on the server, let the Colonies in that world know it is gone.
      *
-     * @param event {@link net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent}
+     * @param world  the world of the chunk.
+     * @param chunkX x of the chunk.
+     * @param chunkZ z of the chunk.
      */
-    public static void onWorldTick(
-                                    @NotNull TickEvent.WorldTickEvent event)
+    public static void onChunkUnload(@NotNull World world, int chunkX, int chunkZ)
     {
-        final Map<Integer, Colony> coloniesCopy = new HashMap<>(colonies);
+        final List<Colony> coloniesInWorld = coloniesByWorld.get(world.provider.getDimension());
+        if (coloniesInWorld == null)
+        {
+            return;
+        }
 
-        coloniesCopy.values().stream()
-          .filter(c -> c.getDimension() == event.world.provider.getDimension())
-          .forEach(c -> c.onWorldTick(event));
+        for (@NotNull final Colony c : coloniesInWorld)
+        {
+            c.onChunkUnload(chunkX, chunkZ);
+        }
     }
 
     /**
@@ -549,12 +701,7 @@ public final class ColonyManager
         {
             if (numWorldsLoaded == 0)
             {
-                @NotNull File file = getSaveLocation();
-                @Nullable NBTTagCompound data = loadNBTFromPath(file);
-                if (data != null)
-                {
-                    readFromNBT(data);
-                }
+                loadColonies();
             }
             ++numWorldsLoaded;
 
@@ -572,48 +719,21 @@ public final class ColonyManager
     }
 
     /**
-     * Load a file and return the data as an NBTTagCompound
-     *
-     * @param file The path to the file
-     * @return the data from the file as an NBTTagCompound, or null
+     * Load all colonies from the save directory of the overworld.
      */
-    private static NBTTagCompound loadNBTFromPath(
-                                                   @Nullable File file)
+    private static void loadColonies()
     {
-        try
-        {
-            if (file != null && file.exists())
-            {
-                return CompressedStreamTools.read(file);
-            }
-        }
-        catch (IOException exception)
-        {
-            Log.getLogger().error("Exception when loading ColonyManger", exception);
-        }
-        return null;
-    }
+        storage = new ColonyStorage(new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH));
+        topColonyId = storage.loadTopColonyId();
 
-    /**
-     * Read Colonies from saved NBT data
-     *
-     * @param compound NBT Tag
-     */
-    public static void readFromNBT(@NotNull NBTTagCompound compound)
-    {
-        NBTTagList colonyTags = compound.getTagList(TAG_COLONIES, NBT.TAG_COMPOUND);
-        for (int i = 0; i < colonyTags.tagCount(); ++i)
+        for (@NotNull final Colony colony : storage.loadColonies())
         {
-            @NotNull Colony colony = Colony.loadColony(colonyTags.getCompoundTagAt(i));
-            colonies.put(colony.getID(), colony);
-
-            if (!coloniesByWorld.containsKey(colony.getDimension()))
+            addColony(colony);
+            topColonyId = Math.max(topColonyId, colony.getID());
+            if (colony.isSaveNeeded())
             {
-                coloniesByWorld.put(colony.getDimension(), new ArrayList<>());
+                saveNeeded = true;
             }
-            coloniesByWorld.get(colony.getDimension()).add(colony);
-
-            topColonyId = Math.max(topColonyId, colony.getID());
         }
 
         Log.getLogger().info(String.format("Loaded %d colonies", colonies.size()));
@@ -649,18 +769,37 @@ public final class ColonyManager
                 for (@NotNull Colony c : worldColonies)
                 {
                     c.onWorldUnload(world);
+                    Pathfinding.onColonyUnload(c.getID());
                 }
             }
 
+            Pathfinding.onWorldUnload(world.provider.getDimension());
+
             --numWorldsLoaded;
             if (numWorldsLoaded == 0)
             {
                 colonies.clear();
                 coloniesByWorld.clear();
+                colonyIndex.clear();
+                memberIndex.clear();
+                subscriptions.clear();
+                openWindows.clear();
+                tickScheduler.clear();
+                storage = null;
             }
         }
     }
 
+    /**
+     * Applies the updates of a {@link com.minecolonies.network.messages.ColonyViewBundleMessage} on the client thread, all of them in the same tick.
+     *
+     * @param updates applies the updates in order.
+     */
+    public static void handleColonyViewBundleMessage(@NotNull Runnable updates)
+    {
+        Minecraft.getMinecraft().addScheduledTask(updates);
+    }
+
     /**
      * Sends view message to the right view
      *
@@ -678,8 +817,15 @@ public final class ColonyManager
             view = ColonyView.createFromNetwork(colonyId);
             colonyViews.put(colonyId, view);
         }
+        else if (isNewSubscription)
+        {
+            //  The view drops its buildings, they are sent again
+            colonyViewIndex.removeBuildings(view);
+        }
 
-        return view.handleColonyViewMessage(colonyData, isNewSubscription);
+        final IMessage response = view.handleColonyViewMessage(colonyData, isNewSubscription);
+        colonyViewIndex.add(view);
+        return response;
     }
 
     /**
@@ -706,7 +852,9 @@ public final class ColonyManager
         final ColonyView view = getColonyView(colonyID);
         if (view != null)
         {
-            return view.handlePermissionsViewMessage(data);
+            final IMessage response = view.handlePermissionsViewMessage(data);
+            viewMemberIndex.setAll(view, view.getPlayers().values());
+            return response;
         }
         else
         {
@@ -789,7 +937,12 @@ public final class ColonyManager
         final ColonyView view = getColonyView(colonyId);
         if (view != null)
         {
-            return view.handleColonyBuildingViewMessage(buildingId, buf);
+            final IMessage response = view.handleColonyBuildingViewMessage(buildingId, buf);
+            if (view.getBuilding(buildingId) != null)
+            {
+                colonyViewIndex.addBuilding(view, buildingId);
+            }
+            return response;
         }
         else
         {
@@ -813,6 +966,7 @@ public final class ColonyManager
         {
             //  Can legitimately be NULL, because (to keep the code simple and fast), it is
             //  possible to receive a 'remove' notice before receiving the View
+            colonyViewIndex.removeBuilding(view, buildingId);
             return view.handleColonyViewRemoveBuildingMessage(buildingId);
         }
 
@@ -1,6 +1,7 @@
 package com.minecolonies.colony;
 
 import com.minecolonies.entity.EntityCitizen;
+import com.minecolonies.entity.pathfinding.Pathfinding;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
@@ -19,8 +20,11 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
     @Override
     public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags)
     {
-        //Not needed
-
+        if (!worldIn.isRemote && oldState != newState)
+        {
+            Pathfinding.onBlockChanged(worldIn.provider.getDimension(), pos, oldState, newState);
+            ColonyManager.onBlockChanged(worldIn, pos, oldState, newState);
+        }
     }
 
     @Override
@@ -76,7 +80,8 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
         if (entity instanceof EntityCitizen)
         {
             CitizenData citizen = ((EntityCitizen) entity).getCitizenData();
-            if (citizen != null)
+            //  A duplicate which was removed doesn't take the registered entity with it
+            if (citizen != null && citizen.getCitizenEntity() == entity)
             {
                 citizen.setCitizenEntity(null);
             }
@@ -0,0 +1,138 @@
+package com.minecolonies.colony;
+
+import com.minecolonies.colony.permissions.Permissions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Finds the colonies of a player without going through all colonies. Used for the colonies on the server and for the
+ * colony views on the client.
+ * <p>
+ * Kept up to date by the changes to the players of the permissions of the colonies.
+ *
+ * @param <T> {@link Colony} or {@link ColonyView}.
+ */
+final class ColonyMemberIndex<T extends IColony>
+{
+    //  Colonies and rank of a player, in the order the player joined them
+    @NotNull
+    private final Map<UUID, Map<T, Permissions.Rank>> byPlayer = new HashMap<>();
+    @NotNull
+    private final Map<T, Set<UUID>>                   byColony = new IdentityHashMap<>();
+
+    /**
+     * Set the rank of a player in a colony.
+     *
+     * @param colony the colony.
+     * @param player the UUID of the player.
+     * @param rank   the rank, or null if the player was removed from the colony.
+     */
+    void set(@NotNull T colony, @NotNull UUID player, @Nullable Permissions.Rank rank)
+    {
+        if (rank == null)
+        {
+            @Nullable final Map<T, Permissions.Rank> colonies = byPlayer.get(player);
+            if (colonies != null && colonies.remove(colony) != null && colonies.isEmpty())
+            {
+                byPlayer.remove(player);
+            }
+
+            @Nullable final Set<UUID> players = byColony.get(colony);
+            if (players != null && players.remove(player) && players.isEmpty())
+            {
+                byColony.remove(colony);
+            }
+            return;
+        }
+
+        byPlayer.computeIfAbsent(player, key -> new LinkedHashMap<>()).put(colony, rank);
+        byColony.computeIfAbsent(colony, key -> new HashSet<>()).add(player);
+    }
+
+    /**
+     * Replace all players of a colony.
+     *
+     * @param colony  the colony.
+     * @param players the players of the colony.
+     */
+    void setAll(@NotNull T colony, @NotNull Collection<Permissions.Player> players)
+    {
+        remove(colony);
+        for (@NotNull final Permissions.Player player : players)
+        {
+            set(colony, player.getID(), player.getRank());
+        }
+    }
+
+    /**
+     * Forget all players of a colony.
+     *
+     * @param colony the colony.
+     */
+    void remove(@NotNull T colony)
+    {
+        @Nullable final Set<UUID> players = byColony.remove(colony);
+        if (players == null)
+        {
+            return;
+        }
+
+        for (@NotNull final UUID player : players)
+        {
+            @Nullable final Map<T, Permissions.Rank> colonies = byPlayer.get(player);
+            if (colonies != null && colonies.remove(colony) != null && colonies.isEmpty())
+            {
+                byPlayer.remove(player);
+            }
+        }
+    }
+
+    /**
+     * Get the first colony a player owns.
+     *
+     * @param player the UUID of the player.
+     * @return the colony, or null if the player doesn't own one.
+     */
+    @Nullable
+    T getOwnedColony(@Nullable UUID player)
+    {
+        @Nullable final Map<T, Permissions.Rank> colonies = player == null ? null : byPlayer.get(player);
+        if (colonies == null)
+        {
+            return null;
+        }
+
+        for (@NotNull final Map.Entry<T, Permissions.Rank> entry : colonies.entrySet())
+        {
+            if (entry.getValue() == Permissions.Rank.OWNER)
+            {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the colonies a player has a rank in.
+     *
+     * @param player the UUID of the player.
+     * @return the colonies and the rank of the player in each.
+     */
+    @NotNull
+    Map<T, Permissions.Rank> getColonies(@NotNull UUID player)
+    {
+        @Nullable final Map<T, Permissions.Rank> colonies = byPlayer.get(player);
+        return colonies == null ? Collections.emptyMap() : Collections.unmodifiableMap(colonies);
+    }
+
+    /**
+     * Forget everything.
+     */
+    void clear()
+    {
+        byPlayer.clear();
+        byColony.clear();
+    }
+}
@@ -0,0 +1,228 @@
+package com.minecolonies.colony;
+
+import com.minecolonies.util.Log;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraftforge.common.util.Constants.NBT;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Saves every colony in a file of its own, next to a manifest with the id counter.
+ * <p>
+ * A save only writes the colonies which changed since they were last written, so its cost depends on what changed and
+ * not on how many colonies there are. The colony files are written before the manifest, and on load the id counter is
+ * at least the highest id of the colony files found, so a save which stops halfway never reuses an id.
+ * <p>
+ * Worlds from before this have all colonies in one colonies.dat. When there is no manifest yet, the colonies are read
+ * from there and all of them are written to their own files with the next save. The old file is left as it is.
+ * <p>
+ * Only used from the server thread.
+ */
+final class ColonyStorage
+{
+    private static final String  FILENAME_MANIFEST = "manifest.dat";
+    private static final String  FILENAME_LEGACY   = "colonies.dat";
+    private static final Pattern FILENAME_COLONY   = Pattern.compile("colony(\\d+)\\.dat");
+    private static final String  TAG_TOP_COLONY_ID = "topColonyId";
+    private static final String  TAG_COLONIES      = "colonies";
+    private static final int     NOT_SAVED         = -1;
+
+    @NotNull
+    private final File directory;
+    private       int  savedTopColonyId = NOT_SAVED;
+
+    /**
+     * Creates the storage in a directory of the world.
+     *
+     * @param directory the directory with the files.
+     */
+    ColonyStorage(@NotNull File directory)
+    {
+        this.directory = directory;
+    }
+
+    /**
+     * Read the id counter from the manifest.
+     *
+     * @return the highest colony id ever given, or 0.
+     */
+    int loadTopColonyId()
+    {
+        @Nullable final NBTTagCompound manifest = read(new File(directory, FILENAME_MANIFEST));
+        if (manifest == null)
+        {
+            return 0;
+        }
+
+        savedTopColonyId = manifest.getInteger(TAG_TOP_COLONY_ID);
+        return savedTopColonyId;
+    }
+
+    /**
+     * Read all colonies, from their own files, or from the legacy colonies.dat if there is one and no manifest yet.
+     *
+     * @return the colonies.
+     */
+    @NotNull
+    List<Colony> loadColonies()
+    {
+        if (!new File(directory, FILENAME_MANIFEST).exists() && new File(directory, FILENAME_LEGACY).exists())
+        {
+            return loadLegacyColonies();
+        }
+
+        @NotNull final List<Colony> colonies = new ArrayList<>();
+        @Nullable final File[] files = directory.listFiles((dir, name) -> FILENAME_COLONY.matcher(name).matches());
+        if (files == null)
+        {
+            return colonies;
+        }
+
+        for (@NotNull final File file : files)
+        {
+            @Nullable final NBTTagCompound compound = read(file);
+            if (compound == null)
+            {
+                Log.getLogger().error(String.format("Could not read colony file %s, the colony is not loaded", file));
+                continue;
+            }
+
+            @NotNull final Colony colony = Colony.loadColony(compound);
+            colony.markSaved();
+            colonies.add(colony);
+        }
+        return colonies;
+    }
+
+    /**
+     * Read the colonies of a world from before there was a file per colony. None of them count as saved.
+     *
+     * @return the colonies.
+     */
+    @NotNull
+    private List<Colony> loadLegacyColonies()
+    {
+        @NotNull final List<Colony> colonies = new ArrayList<>();
+        @Nullable final NBTTagCompound compound = read(new File(directory, FILENAME_LEGACY));
+        if (compound == null)
+        {
+            return colonies;
+        }
+
+        final NBTTagList colonyTags = compound.getTagList(TAG_COLONIES, NBT.TAG_COMPOUND);
+        for (int i = 0; i < colonyTags.tagCount(); ++i)
+        {
+            @NotNull final Colony colony = Colony.loadColony(colonyTags.getCompoundTagAt(i));
+            colony.markSaveNeeded();
+            colonies.add(colony);
+        }
+
+        Log.getLogger().info(String.format("Migrating %d colonies from %s to a file per colony", colonies.size(), FILENAME_LEGACY));
+        return colonies;
+    }
+
+    /**
+     * Write the colonies which changed since they were last written, then the manifest if the id counter changed.
+     * The manifest waits until every colony was written: once it exists, colonies.dat isn't read anymore, so a
+     * migrated colony whose file failed would be lost.
+     *
+     * @param colonies    all colonies.
+     * @param topColonyId the highest colony id ever given.
+     */
+    void save(@NotNull Collection<Colony> colonies, int topColonyId)
+    {
+        boolean isEveryColonyWritten = true;
+        for (@NotNull final Colony colony : colonies)
+        {
+            if (colony.isSaveNeeded())
+            {
+                @NotNull final NBTTagCompound compound = new NBTTagCompound();
+                colony.writeToNBT(compound);
+                if (write(new File(directory, getFilename(colony.getID())), compound))
+                {
+                    colony.markSaved();
+                }
+                else
+                {
+                    isEveryColonyWritten = false;
+                }
+            }
+        }
+
+        if (isEveryColonyWritten && topColonyId != savedTopColonyId)
+        {
+            @NotNull final NBTTagCompound manifest = new NBTTagCompound();
+            manifest.setInteger(TAG_TOP_COLONY_ID, topColonyId);
+            if (write(new File(directory, FILENAME_MANIFEST), manifest))
+            {
+                savedTopColonyId = topColonyId;
+            }
+        }
+    }
+
+    /**
+     * Get the name of the file of a colony.
+     *
+     * @param colonyId the id of the colony.
+     * @return the file name.
+     */
+    @NotNull
+    private static String getFilename(int colonyId)
+    {
+        return "colony" + colonyId + ".dat";
+    }
+
+    /**
+     * Save an NBTTagCompound to a file.  Does so in a safe manner using an intermediate tmp file
+     *
+     * @param file     The destination file to write the data to
+     * @param compound The NBTTagCompound to write to the file
+     * @return true if it was written.
+     */
+    private boolean write(@NotNull File file, @NotNull NBTTagCompound compound)
+    {
+        try
+        {
+            directory.mkdirs();
+            CompressedStreamTools.safeWrite(compound, file);
+            return true;
+        }
+        catch (IOException exception)
+        {
+            Log.getLogger().error("Exception when saving " + file, exception);
+            return false;
+        }
+    }
+
+    /**
+     * Load a file and return the data as an NBTTagCompound
+     *
+     * @param file The path to the file
+     * @return the data from the file as an NBTTagCompound, or null
+     */
+    @Nullable
+    private static NBTTagCompound read(@NotNull File file)
+    {
+        try
+        {
+            if (file.exists())
+            {
+                return CompressedStreamTools.read(file);
+            }
+        }
+        catch (IOException exception)
+        {
+            Log.getLogger().error("Exception when loading " + file, exception);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,231 @@
+package com.minecolonies.colony;
+
+import com.minecolonies.configuration.Configurations;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the work of the colonies which doesn't have to happen every tick (cleanup of buildings and lost citizens, work
+ * order fulfilment, achievements), spread over the ticks so it doesn't add up to one long tick.
+ * <p>
+ * A colony is due for its deferred work every {@link #DEFERRED_INTERVAL} ticks. Each tick the due colonies run in turn,
+ * starting after the last one served in the previous tick, until the configured time per tick is used up. At least one
+ * due colony runs every tick, so a heavy colony delays the others but never starves them.
+ * <p>
+ * The time spent on each colony is recorded, to find the colonies that slow the server down.
+ * <p>
+ * Only used from the server thread.
+ */
+public final class ColonyTickScheduler
+{
+    /**
+     * Ticks between two runs of the deferred work of a colony.
+     */
+    static final         int  DEFERRED_INTERVAL = 20;
+    private static final long NANOS_PER_MILLI   = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @NotNull
+    private final Map<Integer, Lag>     lags    = new HashMap<>();
+    //  Position of the next colony to serve, per dimension
+    @NotNull
+    private final Map<Integer, Integer> cursors = new HashMap<>();
+
+    /**
+     * Record the time a colony spent on its work of this tick.
+     *
+     * @param colony the colony.
+     * @param nanos  the time.
+     */
+    void recordTick(@NotNull Colony colony, long nanos)
+    {
+        getLag(colony).currentTickNanos += nanos;
+    }
+
+    /**
+     * Close the tick of the colonies of a world, and run the deferred work of the due ones within the budget.
+     *
+     * @param world    the world.
+     * @param colonies the colonies of the world.
+     */
+    void runDeferred(@NotNull World world, @NotNull List<Colony> colonies)
+    {
+        for (@NotNull final Colony colony : colonies)
+        {
+            getLag(colony).closeTick();
+        }
+
+        if (colonies.isEmpty())
+        {
+            return;
+        }
+
+        final int dimension = world.provider.getDimension();
+        final long time = world.getTotalWorldTime();
+        final long budget = Configurations.colonyDeferredTickBudgetMillis * NANOS_PER_MILLI;
+        final long start = System.nanoTime();
+        final int first = cursors.getOrDefault(dimension, 0) % colonies.size();
+
+        boolean ranAny = false;
+        for (int i = 0; i < colonies.size(); ++i)
+        {
+            final int index = (first + i) % colonies.size();
+            @NotNull final Colony colony = colonies.get(index);
+            @NotNull final Lag lag = getLag(colony);
+            if (time - lag.lastDeferredRun < DEFERRED_INTERVAL)
+            {
+                continue;
+            }
+
+            if (ranAny && System.nanoTime() - start >= budget)
+            {
+                break;
+            }
+
+            final long colonyStart = System.nanoTime();
+            colony.onDeferredTick(world);
+            lag.recordDeferred(System.nanoTime() - colonyStart, lag.lastDeferredRun == 0 ? 0 : time - lag.lastDeferredRun - DEFERRED_INTERVAL);
+            lag.lastDeferredRun = time;
+
+            cursors.put(dimension, index + 1);
+            ranAny = true;
+        }
+    }
+
+    @NotNull
+    private Lag getLag(@NotNull Colony colony)
+    {
+        return lags.computeIfAbsent(colony.getID(), Lag::new);
+    }
+
+    /**
+     * Get the recorded times of the colonies, the slowest first.
+     *
+     * @return the times.
+     */
+    @NotNull
+    public List<Lag> getLags()
+    {
+        @NotNull final List<Lag> list = new ArrayList<>(lags.values());
+        list.sort((first, second) -> Double.compare(second.getAverageTickMs() + second.getAverageDeferredMs(),
+          first.getAverageTickMs() + first.getAverageDeferredMs()));
+        return list;
+    }
+
+    /**
+     * Reset the recorded times.
+     */
+    public void resetStatistics()
+    {
+        lags.values().forEach(Lag::reset);
+    }
+
+    /**
+     * Forget everything, when the colonies are unloaded.
+     */
+    void clear()
+    {
+        lags.clear();
+        cursors.clear();
+    }
+
+    /**
+     * The time spent on one colony.
+     */
+    public static final class Lag
+    {
+        private final int  colonyId;
+        private       long lastDeferredRun   = 0;
+        private       long currentTickNanos  = 0;
+        private       long tickNanos         = 0;
+        private       long ticks             = 0;
+        private       long maxTickNanos      = 0;
+        private       long deferredNanos     = 0;
+        private       long deferredRuns      = 0;
+        private       long maxDeferredNanos  = 0;
+        private       long maxDeferredDelay  = 0;
+
+        private Lag(int colonyId)
+        {
+            this.colonyId = colonyId;
+        }
+
+        private void closeTick()
+        {
+            tickNanos += currentTickNanos;
+            maxTickNanos = Math.max(maxTickNanos, currentTickNanos);
+            ++ticks;
+            currentTickNanos = 0;
+        }
+
+        private void recordDeferred(long nanos, long delay)
+        {
+            deferredNanos += nanos;
+            maxDeferredNanos = Math.max(maxDeferredNanos, nanos);
+            maxDeferredDelay = Math.max(maxDeferredDelay, delay);
+            ++deferredRuns;
+        }
+
+        private void reset()
+        {
+            tickNanos = 0;
+            ticks = 0;
+            maxTickNanos = 0;
+            deferredNanos = 0;
+            deferredRuns = 0;
+            maxDeferredNanos = 0;
+            maxDeferredDelay = 0;
+        }
+
+        /**
+         * @return the id of the colony.
+         */
+        public int getColonyId()
+        {
+            return colonyId;
+        }
+
+        /**
+         * @return the average time of the work done every tick, in milliseconds.
+         */
+        public double getAverageTickMs()
+        {
+            return ticks == 0 ? 0 : (double) tickNanos / ticks / NANOS_PER_MILLI;
+        }
+
+        /**
+         * @return the longest time of the work done every tick, in milliseconds.
+         */
+        public double getMaxTickMs()
+        {
+            return (double) maxTickNanos / NANOS_PER_MILLI;
+        }
+
+        /**
+         * @return the average time of a run of the deferred work, spread over the ticks between two runs, in
+         * milliseconds.
+         */
+        public double getAverageDeferredMs()
+        {
+            return deferredRuns == 0 ? 0 : (double) deferredNanos / deferredRuns / NANOS_PER_MILLI / DEFERRED_INTERVAL;
+        }
+
+        /**
+         * @return the longest time of a run of the deferred work, in milliseconds.
+         */
+        public double getMaxDeferredMs()
+        {
+            return (double) maxDeferredNanos / NANOS_PER_MILLI;
+        }
+
+        /**
+         * @return the most ticks the deferred work waited for its turn after it was due.
+         */
+        public long getMaxDeferredDelay()
+        {
+            return maxDeferredDelay;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.minecolonies.colony.buildings.BuildingTownHall;
 import com.minecolonies.colony.permissions.Permissions;
 import com.minecolonies.colony.workorders.AbstractWorkOrder;
 import com.minecolonies.configuration.Configurations;
+import com.minecolonies.network.messages.ColonyViewResyncMessage;
 import com.minecolonies.network.messages.PermissionsMessage;
 import com.minecolonies.network.messages.TownHallRenameMessage;
 import com.minecolonies.util.BlockPosUtil;
@@ -47,6 +48,8 @@ public final class ColonyView implements IColony
     @NotNull
     private Map<Integer, CitizenDataView>        citizens    = new HashMap<>();
     private int                                  maxCitizens = 0;
+    //  Asked the server for the whole colony, and didn't get it yet
+    private boolean isResyncRequested = false;
 
     /**
      * Base constructor for a colony.
@@ -104,6 +107,7 @@ public final class ColonyView implements IColony
      *
      * @return dimension ID of the view.
      */
+    @Override
     public int getDimension()
     {
         return dimensionId;
@@ -279,11 +283,29 @@ public final class ColonyView implements IColony
             citizens.clear();
             townHall = null;
             buildings.clear();
+            isResyncRequested = false;
         }
 
         return null;
     }
 
+    /**
+     * Ask the server for the whole colony, once until it arrives.
+     *
+     * @return the request, or null if it is asked already.
+     */
+    @Nullable
+    private IMessage requestResync()
+    {
+        if (isResyncRequested)
+        {
+            return null;
+        }
+
+        isResyncRequested = true;
+        return new ColonyViewResyncMessage(id);
+    }
+
     /**
      * Update permissions.
      *
@@ -313,7 +335,7 @@ public final class ColonyView implements IColony
 
     /**
      * Update a ColonyView's citizens given a network data ColonyView update packet
-     * This uses a full-replacement - citizens do not get updated and are instead overwritten
+     * A full view replaces the citizen, an update with only the changed properties is applied to it
      *
      * @param id  ID of the citizen
      * @param buf Network data
@@ -321,6 +343,18 @@ public final class ColonyView implements IColony
      */
     public IMessage handleColonyViewCitizensMessage(int id, ByteBuf buf)
     {
+        if (!CitizenDataView.isFullView(buf))
+        {
+            final CitizenDataView existing = citizens.get(id);
+            if (existing == null)
+            {
+                //  Changes to a citizen this view doesn't have, it missed something
+                return requestResync();
+            }
+            existing.deserialize(buf);
+            return null;
+        }
+
         final CitizenDataView citizen = CitizenData.createCitizenDataView(id, buf);
         if (citizen != null)
         {
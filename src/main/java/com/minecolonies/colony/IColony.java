@@ -24,6 +24,13 @@ public interface IColony
      */
     String getName();
 
+    /**
+     * Returns the dimension of the colony.
+     *
+     * @return Dimension ID.
+     */
+    int getDimension();
+
     /**
      * Returns the permissions of the colony.
      *
@@ -0,0 +1,89 @@
+package com.minecolonies.colony;
+
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The colony window a player has open: the window of a building, or of a citizen.
+ * The players which look at something of a colony get its updates right away, the others only now and then.
+ */
+final class OpenWindow
+{
+    /**
+     * Citizen id when the window isn't the one of a citizen.
+     */
+    static final int NO_CITIZEN = -1;
+
+    private final int      colonyId;
+    @Nullable
+    private final BlockPos building;
+    private final int      citizenId;
+
+    /**
+     * Creates the window of a building or a citizen.
+     *
+     * @param colonyId  the id of the colony.
+     * @param building  the building, or null for a citizen window.
+     * @param citizenId the citizen, or {@link #NO_CITIZEN} for a building window.
+     */
+    OpenWindow(int colonyId, @Nullable BlockPos building, int citizenId)
+    {
+        this.colonyId = colonyId;
+        this.building = building;
+        this.citizenId = citizenId;
+    }
+
+    /**
+     * Whether the window belongs to a colony.
+     *
+     * @param colony the colony.
+     * @return true if it shows something of the colony.
+     */
+    boolean isOf(@NotNull Colony colony)
+    {
+        return colonyId == colony.getID();
+    }
+
+    /**
+     * Whether the window shows the whole colony, which the town hall window does.
+     *
+     * @param colony the colony of the window.
+     * @return true for the town hall window.
+     */
+    boolean showsColony(@NotNull Colony colony)
+    {
+        return building != null && colony.getTownHall() != null && building.equals(colony.getTownHall().getID());
+    }
+
+    /**
+     * Whether the window shows a building.
+     *
+     * @param pos the position of the building.
+     * @return true if it is the window of the building.
+     */
+    boolean showsBuilding(@NotNull BlockPos pos)
+    {
+        return pos.equals(building);
+    }
+
+    /**
+     * Whether the window shows a citizen, either its own window or the one of its hut or home.
+     *
+     * @param citizen the citizen.
+     * @return true if the window shows it.
+     */
+    boolean showsCitizen(@NotNull CitizenData citizen)
+    {
+        if (citizen.getId() == citizenId)
+        {
+            return true;
+        }
+        if (building == null)
+        {
+            return false;
+        }
+        return (citizen.getWorkBuilding() != null && building.equals(citizen.getWorkBuilding().getID()))
+                 || (citizen.getHomeBuilding() != null && building.equals(citizen.getHomeBuilding().getID()));
+    }
+}
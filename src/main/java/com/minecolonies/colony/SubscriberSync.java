@@ -0,0 +1,201 @@
+package com.minecolonies.colony;
+
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Which version of each part of a colony a subscriber got last, and whether it gets newer ones this tick.
+ * <p>
+ * Every part of the colony has a version which goes up when it changes. A subscriber is due every few ticks, depending
+ * on how close it is to the colony, and then gets everything which is newer than what it has. Between two of these it
+ * only gets what its open colony window shows. A new subscriber has nothing yet, so it gets everything, without
+ * anything being sent again to the others.
+ * <p>
+ * Only used from the server thread.
+ */
+final class SubscriberSync
+{
+    /**
+     * Version of what the subscriber didn't get yet.
+     */
+    static final long NOT_SENT = -1;
+
+    /**
+     * The parts of the colony view which aren't per citizen or building.
+     */
+    enum Part
+    {
+        COLONY,
+        PERMISSIONS,
+        WORK_ORDERS
+    }
+
+    @NotNull
+    private final Map<Part, Long>     sentParts            = new EnumMap<>(Part.class);
+    @NotNull
+    private final Map<Integer, Long>  sentCitizens         = new HashMap<>();
+    @NotNull
+    private final Map<BlockPos, Long> sentBuildings        = new HashMap<>();
+    //  Versions of the citizens and buildings of the colony as a whole, up to which the subscriber has all of them
+    private       long                sentCitizensVersion  = NOT_SENT;
+    private       long                sentBuildingsVersion = NOT_SENT;
+    private       boolean             isDue;
+    @Nullable
+    private       OpenWindow          window;
+
+    /**
+     * Start a tick.
+     *
+     * @param isDue  whether the subscriber gets all changes this tick.
+     * @param window the window of the colony the subscriber has open, or null.
+     */
+    void startTick(boolean isDue, @Nullable OpenWindow window)
+    {
+        this.isDue = isDue;
+        this.window = window;
+    }
+
+    /**
+     * Get the window of the colony the subscriber has open this tick.
+     *
+     * @return the window, or null.
+     */
+    @Nullable
+    OpenWindow getWindow()
+    {
+        return window;
+    }
+
+    /**
+     * Whether the subscriber gets something this tick, if it is newer than what it has.
+     *
+     * @param isShown whether the open window shows it.
+     * @return true if the subscriber is due or looks at it.
+     */
+    boolean isReceiving(boolean isShown)
+    {
+        return isDue || isShown;
+    }
+
+    /**
+     * Whether the subscriber gets a part now, because it is newer than the one it has, and the subscriber is due or
+     * looks at it. If so, it counts as sent.
+     *
+     * @param part    the part.
+     * @param version the version of the part.
+     * @param isShown whether the open window shows it.
+     * @return true to send it now.
+     */
+    boolean take(@NotNull Part part, long version, boolean isShown)
+    {
+        return take(sentParts, part, version, isShown);
+    }
+
+    /**
+     * Like {@link #take(Part, long, boolean)}, for the view of a building.
+     *
+     * @param pos     the position of the building.
+     * @param version the version of the view of the building.
+     * @param isShown whether the open window shows it.
+     * @return true to send it now.
+     */
+    boolean takeBuilding(@NotNull BlockPos pos, long version, boolean isShown)
+    {
+        return take(sentBuildings, pos, version, isShown);
+    }
+
+    private <K> boolean take(@NotNull Map<K, Long> sent, @NotNull K key, long version, boolean isShown)
+    {
+        if (!isReceiving(isShown) || sent.getOrDefault(key, NOT_SENT) >= version)
+        {
+            return false;
+        }
+
+        sent.put(key, version);
+        return true;
+    }
+
+    /**
+     * Get the version of a citizen the subscriber has.
+     *
+     * @param citizenId the id of the citizen.
+     * @return the version, or {@link #NOT_SENT}.
+     */
+    long getSentCitizen(int citizenId)
+    {
+        return sentCitizens.getOrDefault(citizenId, NOT_SENT);
+    }
+
+    /**
+     * Record that the subscriber has a version of a citizen.
+     *
+     * @param citizenId the id of the citizen.
+     * @param version   the version.
+     */
+    void setSentCitizen(int citizenId, long version)
+    {
+        sentCitizens.put(citizenId, version);
+    }
+
+    /**
+     * Whether the subscriber may get citizens this tick which it doesn't have yet.
+     *
+     * @param citizensVersion the version of the citizens of the colony.
+     * @return true if it misses changes and is due or has a window open.
+     */
+    boolean isBehindOnCitizens(long citizensVersion)
+    {
+        return (isDue || window != null) && sentCitizensVersion < citizensVersion;
+    }
+
+    /**
+     * Whether the subscriber may get buildings this tick which it doesn't have yet.
+     *
+     * @param buildingsVersion the version of the buildings of the colony.
+     * @return true if it misses changes and is due or has a window open.
+     */
+    boolean isBehindOnBuildings(long buildingsVersion)
+    {
+        return (isDue || window != null) && sentBuildingsVersion < buildingsVersion;
+    }
+
+    /**
+     * Record that the subscriber got all citizens and buildings, if it was due.
+     *
+     * @param citizensVersion  the version of the citizens of the colony.
+     * @param buildingsVersion the version of the buildings of the colony.
+     */
+    void endTick(long citizensVersion, long buildingsVersion)
+    {
+        if (isDue)
+        {
+            sentCitizensVersion = citizensVersion;
+            sentBuildingsVersion = buildingsVersion;
+        }
+    }
+
+    /**
+     * Forget a removed citizen.
+     *
+     * @param citizenId the id of the citizen.
+     */
+    void removeCitizen(int citizenId)
+    {
+        sentCitizens.remove(citizenId);
+    }
+
+    /**
+     * Forget a removed building.
+     *
+     * @param pos the position of the building.
+     */
+    void removeBuilding(@NotNull BlockPos pos)
+    {
+        sentBuildings.remove(pos);
+    }
+}
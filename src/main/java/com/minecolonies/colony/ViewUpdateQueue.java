@@ -0,0 +1,83 @@
+package com.minecolonies.colony;
+
+import com.minecolonies.MineColonies;
+import com.minecolonies.network.messages.ColonyViewBundleMessage;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Collects the ColonyView updates of a colony during a tick, and sends them to each player as one
+ * {@link ColonyViewBundleMessage} at the end of it.
+ * <p>
+ * Players which get the same updates get the same bundle, so it is encoded and compressed only once.
+ * <p>
+ * Only used from the server thread.
+ */
+final class ViewUpdateQueue
+{
+    //  Updates per player, in the order they were queued
+    @NotNull
+    private final Map<EntityPlayerMP, List<IMessage>> updates  = new LinkedHashMap<>();
+    //  Run after the bundles are sent, to give back the buffers of the updates
+    @NotNull
+    private final List<Runnable>                      releases = new ArrayList<>();
+
+    /**
+     * Queue an update for a player.
+     *
+     * @param player  the player.
+     * @param message the update.
+     */
+    void add(@NotNull EntityPlayerMP player, @NotNull IMessage message)
+    {
+        updates.computeIfAbsent(player, key -> new ArrayList<>()).add(message);
+    }
+
+    /**
+     * Queue an update for several players.
+     *
+     * @param players the players.
+     * @param message the update.
+     */
+    void add(@NotNull Collection<EntityPlayerMP> players, @NotNull IMessage message)
+    {
+        for (@NotNull final EntityPlayerMP player : players)
+        {
+            add(player, message);
+        }
+    }
+
+    /**
+     * Run something once the queued updates are sent, like releasing their buffers.
+     *
+     * @param release what to run.
+     */
+    void releaseAfterSend(@NotNull Runnable release)
+    {
+        releases.add(release);
+    }
+
+    /**
+     * Send the queued updates, one bundle per player, and empty the queue.
+     */
+    void flush()
+    {
+        try
+        {
+            @NotNull final Map<List<IMessage>, ColonyViewBundleMessage> bundles = new HashMap<>();
+            for (@NotNull final Map.Entry<EntityPlayerMP, List<IMessage>> entry : updates.entrySet())
+            {
+                MineColonies.getNetwork().sendTo(bundles.computeIfAbsent(entry.getValue(), ColonyViewBundleMessage::new), entry.getKey());
+            }
+        }
+        finally
+        {
+            updates.clear();
+            releases.forEach(Runnable::run);
+            releases.clear();
+        }
+    }
+}
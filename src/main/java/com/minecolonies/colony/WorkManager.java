@@ -20,9 +20,7 @@ import java.util.stream.Collectors;
  */
 public class WorkManager
 {
-    private static final String TAG_WORK_ORDERS              = "workOrders";
-    //  Once a second
-    private static final int    WORK_ORDER_FULFILL_INCREMENT = 1 * 20;
+    private static final String TAG_WORK_ORDERS = "workOrders";
     /**
      * The Colony the workManager takes part of.
      */
@@ -31,9 +29,9 @@ public class WorkManager
     private Map<Integer, AbstractWorkOrder> workOrders     = new LinkedHashMap<>();
     private int                             topWorkOrderId = 0;
     /**
-     * Checks if there has been changes.
+     * Goes up with every change.
      */
-    private boolean                         dirty          = false;
+    private long                            version        = 0;
 
     /**
      * Constructor, saves reference to the colony.
@@ -64,6 +62,7 @@ public class WorkManager
     {
         workOrders.remove(orderId);
         colony.removeWorkOrder(orderId);
+        colony.markSaveNeeded();
     }
 
     /**
@@ -151,7 +150,7 @@ public class WorkManager
      */
     public void clearWorkForCitizen(@NotNull CitizenData citizen)
     {
-        dirty = true;
+        markDirty();
         workOrders.values().stream().filter(o -> o.isClaimedBy(citizen)).forEach(AbstractWorkOrder::clearClaimedBy);
     }
 
@@ -210,7 +209,7 @@ public class WorkManager
      */
     public void addWorkOrder(@NotNull AbstractWorkOrder order)
     {
-        dirty = true;
+        markDirty();
 
         if (order.getID() == 0)
         {
@@ -223,7 +222,7 @@ public class WorkManager
 
     /**
      * Process updates on the World Tick
-     * Currently, does periodic Work Order cleanup
+     * Currently, removes invalid Work Orders and picks up their changes
      *
      * @param event {@link net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent}
      */
@@ -238,41 +237,44 @@ public class WorkManager
                 if (!o.isValid(colony))
                 {
                     iter.remove();
-                    dirty = true;
+                    markDirty();
                 }
                 else if (o.hasChanged())
                 {
-                    dirty = true;
+                    markDirty();
                     o.resetChange();
                 }
             }
-
-            if ((event.world.getWorldTime() % WORK_ORDER_FULFILL_INCREMENT) == 0)
-            {
-                workOrders.values().stream().filter(o -> !o.isClaimed())
-                  .sorted((first, second) -> second.getPriority() > first.getPriority() ? 1 : (second.getPriority() < first.getPriority() ? -1 : 0))
-                  .forEach(o -> o.attemptToFulfill(colony));
-            }
         }
     }
 
     /**
-     * Checks if changes has been made.
-     *
-     * @return true if so.
+     * Try to find a worker for each unclaimed work order, most important first.
+     * Deferred work of the colony, about once a second.
+     */
+    public void fulfillWorkOrders()
+    {
+        workOrders.values().stream().filter(o -> !o.isClaimed())
+          .sorted((first, second) -> second.getPriority() > first.getPriority() ? 1 : (second.getPriority() < first.getPriority() ? -1 : 0))
+          .forEach(o -> o.attemptToFulfill(colony));
+    }
+
+    /**
+     * Marks the work orders changed, for the subscribers and the save.
      */
-    public boolean isDirty()
+    private void markDirty()
     {
-        return dirty;
+        ++version;
+        colony.markSaveNeeded();
     }
 
     /**
-     * Sets if changes has been made.
+     * Returns the version of the work orders, which goes up with every change.
      *
-     * @param dirty true if so. False to reset.
+     * @return the version.
      */
-    public void setDirty(final boolean dirty)
+    public long getVersion()
     {
-        this.dirty = dirty;
+        return version;
     }
 }
@@ -13,7 +13,10 @@ import com.minecolonies.util.BlockPosUtil;
 import com.minecolonies.util.LanguageHandler;
 import com.minecolonies.util.Log;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
@@ -31,6 +34,10 @@ import java.util.Map;
  */
 public abstract class AbstractBuilding
 {
+    /**
+     * Farthest distance from its hut a building watches block changes at, which the lumberjack does for its trees.
+     */
+    public static final  int                     MAX_BLOCK_WATCH_RANGE        = 150;
     private static final String                  TAG_BUILDING_TYPE            = "type";
     // Location is unique (within a Colony) and so can double as the Id
     private static final String                  TAG_LOCATION                 = "location";
@@ -69,8 +76,13 @@ public abstract class AbstractBuilding
     private int     buildingLevel = 0;
     private int     rotation      = 0;
     private String  style         = "classic";
-    //  State
-    private boolean dirty         = false;
+    //  State, goes up with every change
+    private long    version       = 0;
+    //  The view as the subscribers last got it, the version of the building it was taken from and its own version
+    @Nullable
+    private byte[]  sentView      = null;
+    private long    sentVersion   = -1;
+    private long    viewVersion   = 0;
 
     /**
      * Constructor for a AbstractBuilding.
@@ -405,21 +417,23 @@ public abstract class AbstractBuilding
     }
 
     /**
-     * Returns whether the instance is dirty or not.
+     * Returns whether the building changed since its view was last checked with {@link #updateSentView(ByteBuf)}.
      *
-     * @return true if dirty, false if not.
+     * @return true if it changed.
      */
-    public final boolean isDirty()
+    public final boolean isViewOutdated()
     {
-        return dirty;
+        return version != sentVersion;
     }
 
     /**
-     * Sets {@link #dirty} to false, meaning that the instance is up to date
+     * Returns the version of the view, which goes up every time {@link #updateSentView(ByteBuf)} finds it changed.
+     *
+     * @return the version.
      */
-    public final void clearDirty()
+    public final long getViewVersion()
     {
-        dirty = false;
+        return viewVersion;
     }
 
     /**
@@ -473,6 +487,18 @@ public abstract class AbstractBuilding
         // Can be overridden by other buildings.
     }
 
+    /**
+     * On change of a block in the world of the colony, up to {@link #MAX_BLOCK_WATCH_RANGE} from the hut.
+     *
+     * @param pos      the position of the block.
+     * @param oldState the block before.
+     * @param newState the block now.
+     */
+    public void onBlockChanged(@NotNull BlockPos pos, @NotNull IBlockState oldState, @NotNull IBlockState newState)
+    {
+        // Can be overridden by other buildings.
+    }
+
     /**
      * Requests an upgrade for the current building
      */
@@ -550,6 +576,7 @@ public abstract class AbstractBuilding
     public void setRotation(int rotation)
     {
         this.rotation = rotation;
+        markSaveNeeded();
     }
 
     /**
@@ -570,6 +597,7 @@ public abstract class AbstractBuilding
     public void setStyle(String style)
     {
         this.style = style;
+        markSaveNeeded();
     }
 
     /**
@@ -608,6 +636,26 @@ public abstract class AbstractBuilding
         buf.writeInt(getMaxBuildingLevel());
     }
 
+    /**
+     * Remembers the view the subscribers get now, and checks if it differs from the one they got before.
+     *
+     * @param view the view, from {@link #serializeToView(ByteBuf)}.
+     * @return true if the view changed.
+     */
+    public boolean updateSentView(@NotNull ByteBuf view)
+    {
+        sentVersion = version;
+        if (sentView != null && ByteBufUtil.equals(view, Unpooled.wrappedBuffer(sentView)))
+        {
+            return false;
+        }
+
+        sentView = new byte[view.readableBytes()];
+        view.getBytes(view.readerIndex(), sentView);
+        ++viewVersion;
+        return true;
+    }
+
     /**
      * Returns the level of the current object
      *
@@ -635,12 +683,20 @@ public abstract class AbstractBuilding
         ColonyManager.markDirty();
     }
 
+    /**
+     * Marks the building to be saved, for changes which aren't shown in its view.
+     */
+    public final void markSaveNeeded()
+    {
+        colony.markSaveNeeded();
+    }
+
     /**
      * Marks the instance and the building dirty
      */
     public final void markDirty()
     {
-        dirty = true;
+        ++version;
         colony.markBuildingsDirty();
     }
 
@@ -410,6 +410,7 @@ public class BuildingFarmer extends AbstractBuildingWorker
     public void setAssignManually(final boolean assignManually)
     {
         this.assignManually = assignManually;
+        markSaveNeeded();
     }
 
     @Override
@@ -7,7 +7,11 @@ import com.minecolonies.colony.Colony;
 import com.minecolonies.colony.ColonyView;
 import com.minecolonies.colony.jobs.AbstractJob;
 import com.minecolonies.colony.jobs.JobFisherman;
+import com.minecolonies.entity.ai.citizen.fisherman.PondRegistry;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -23,6 +27,20 @@ public class BuildingFisherman extends AbstractBuildingWorker
      * The job description.
      */
     private static final String FISHERMAN          = "Fisherman";
+    /**
+     * Tag to store the fishing spots.
+     */
+    private static final String TAG_POND_REGISTRY  = "pondRegistry";
+    /**
+     * Distance from the hut the fishing spots are registered at, the square of it was the range of the water search.
+     */
+    private static final int    POND_RADIUS        = 16;
+
+    /**
+     * The fishing spots around the hut.
+     */
+    @NotNull
+    private final PondRegistry pondRegistry;
 
     /**
      * Public constructor of the building, creates an object of the building.
@@ -33,6 +51,7 @@ public class BuildingFisherman extends AbstractBuildingWorker
     public BuildingFisherman(Colony c, BlockPos l)
     {
         super(c, l);
+        pondRegistry = new PondRegistry(l, POND_RADIUS);
     }
 
     /**
@@ -76,6 +95,65 @@ public class BuildingFisherman extends AbstractBuildingWorker
         }
     }
 
+    @Override
+    public void readFromNBT(@NotNull NBTTagCompound compound)
+    {
+        super.readFromNBT(compound);
+        pondRegistry.readFromNBT(compound.getCompoundTag(TAG_POND_REGISTRY));
+    }
+
+    @Override
+    public void writeToNBT(@NotNull NBTTagCompound compound)
+    {
+        super.writeToNBT(compound);
+        @NotNull final NBTTagCompound pondCompound = new NBTTagCompound();
+        pondRegistry.writeToNBT(pondCompound);
+        compound.setTag(TAG_POND_REGISTRY, pondCompound);
+    }
+
+    /**
+     * Scan the surroundings of the hut for fishing spots.
+     *
+     * @param event {@link TickEvent.WorldTickEvent}
+     */
+    @Override
+    public void onWorldTick(@NotNull TickEvent.WorldTickEvent event)
+    {
+        super.onWorldTick(event);
+
+        if (event.phase == TickEvent.Phase.END)
+        {
+            if (pondRegistry.onWorldTick(event.world))
+            {
+                markSaveNeeded();
+            }
+        }
+    }
+
+    /**
+     * Keep the fishing spots up to date when water or their shore changes.
+     *
+     * @param pos      the position of the block.
+     * @param oldState the block before.
+     * @param newState the block now.
+     */
+    @Override
+    public void onBlockChanged(@NotNull BlockPos pos, @NotNull IBlockState oldState, @NotNull IBlockState newState)
+    {
+        pondRegistry.onBlockChanged(pos, oldState, newState);
+    }
+
+    /**
+     * Getter of the fishing spots around the hut.
+     *
+     * @return the registry.
+     */
+    @NotNull
+    public PondRegistry getPondRegistry()
+    {
+        return pondRegistry;
+    }
+
     /**
      * Getter of the job description.
      *
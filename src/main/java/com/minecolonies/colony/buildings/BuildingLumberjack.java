@@ -7,8 +7,12 @@ import com.minecolonies.colony.Colony;
 import com.minecolonies.colony.ColonyView;
 import com.minecolonies.colony.jobs.AbstractJob;
 import com.minecolonies.colony.jobs.JobLumberjack;
+import com.minecolonies.entity.ai.citizen.lumberjack.TreeRegistry;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * The lumberjacks building.
@@ -27,6 +31,16 @@ public class BuildingLumberjack extends AbstractBuildingWorker
      * The hut description.
      */
     private static final String LUMBERJACK_HUT_NAME = "lumberjackHut";
+    /**
+     * Distance from the hut the trees are registered at, the farthest the lumberjack searches.
+     */
+    private static final int    TREE_RADIUS         = MAX_BLOCK_WATCH_RANGE;
+
+    /**
+     * The trees around the hut, created on the first tick.
+     */
+    @Nullable
+    private TreeRegistry treeRegistry;
 
     /**
      * Public constructor of the building, creates an object of the building.
@@ -80,6 +94,53 @@ public class BuildingLumberjack extends AbstractBuildingWorker
         }
     }
 
+    /**
+     * Scan the surroundings of the hut for trees.
+     *
+     * @param event {@link TickEvent.WorldTickEvent}
+     */
+    @Override
+    public void onWorldTick(@NotNull TickEvent.WorldTickEvent event)
+    {
+        super.onWorldTick(event);
+
+        if (event.phase == TickEvent.Phase.END)
+        {
+            getTreeRegistry().onWorldTick(event.world);
+        }
+    }
+
+    /**
+     * Keep the trees up to date when they are chopped, placed or grown.
+     *
+     * @param pos      the position of the block.
+     * @param oldState the block before.
+     * @param newState the block now.
+     */
+    @Override
+    public void onBlockChanged(@NotNull BlockPos pos, @NotNull IBlockState oldState, @NotNull IBlockState newState)
+    {
+        if (treeRegistry != null)
+        {
+            treeRegistry.onBlockChanged(pos, oldState, newState);
+        }
+    }
+
+    /**
+     * Getter of the trees around the hut.
+     *
+     * @return the registry.
+     */
+    @NotNull
+    public TreeRegistry getTreeRegistry()
+    {
+        if (treeRegistry == null)
+        {
+            treeRegistry = new TreeRegistry(getLocation(), TREE_RADIUS);
+        }
+        return treeRegistry;
+    }
+
     /**
      * Getter of the job description.
      *
@@ -349,6 +349,7 @@ public class BuildingMiner extends AbstractBuildingWorker
     public void addLevel(Level currentLevel)
     {
         levels.add(currentLevel);
+        markSaveNeeded();
     }
 
     /**
@@ -384,6 +385,7 @@ public class BuildingMiner extends AbstractBuildingWorker
     public void setCurrentLevel(int currentLevel)
     {
         this.currentLevel = currentLevel;
+        markSaveNeeded();
     }
 
     /**
@@ -433,6 +435,7 @@ public class BuildingMiner extends AbstractBuildingWorker
     public void setLadderLocation(BlockPos ladderLocation)
     {
         this.ladderLocation = ladderLocation;
+        markSaveNeeded();
     }
 
     /**
@@ -453,6 +456,7 @@ public class BuildingMiner extends AbstractBuildingWorker
     public void setFoundLadder(boolean foundLadder)
     {
         this.foundLadder = foundLadder;
+        markSaveNeeded();
     }
 
     /**
@@ -473,6 +477,7 @@ public class BuildingMiner extends AbstractBuildingWorker
     public void setVectorX(int vectorX)
     {
         this.vectorX = vectorX;
+        markSaveNeeded();
     }
 
     /**
@@ -493,6 +498,7 @@ public class BuildingMiner extends AbstractBuildingWorker
     public void setVectorZ(int vectorZ)
     {
         this.vectorZ = vectorZ;
+        markSaveNeeded();
     }
 
     /**
@@ -513,6 +519,7 @@ public class BuildingMiner extends AbstractBuildingWorker
     public void setCobbleLocation(BlockPos pos)
     {
         this.cobbleLocation = pos;
+        markSaveNeeded();
     }
 
     /**
@@ -523,6 +530,7 @@ public class BuildingMiner extends AbstractBuildingWorker
     public void setShaftStart(BlockPos pos)
     {
         this.shaftStart = pos;
+        markSaveNeeded();
     }
 
     /**
@@ -541,6 +549,7 @@ public class BuildingMiner extends AbstractBuildingWorker
     public void resetStartingLevelShaft()
     {
         this.startingLevelShaft = 0;
+        markSaveNeeded();
     }
 
     /**
@@ -549,6 +558,7 @@ public class BuildingMiner extends AbstractBuildingWorker
     public void incrementStartingLevelShaft()
     {
         this.startingLevelShaft++;
+        markSaveNeeded();
     }
 
     /**
@@ -252,6 +252,7 @@ public abstract class AbstractJob
     public void clearItemsNeeded()
     {
         itemsNeeded.clear();
+        getColony().markSaveNeeded();
     }
 
     /**
@@ -262,6 +263,7 @@ public abstract class AbstractJob
      */
     public void addItemNeeded(@NotNull ItemStack stack)
     {
+        getColony().markSaveNeeded();
         for (@NotNull ItemStack neededItem : itemsNeeded)
         {
             if ((stack.getItem().isDamageable() && stack.getItem() == neededItem.getItem()) || stack.isItemEqual(neededItem))
@@ -284,6 +286,7 @@ public abstract class AbstractJob
     @Nullable
     public ItemStack removeItemNeeded(@NotNull ItemStack stack)
     {
+        getColony().markSaveNeeded();
         @NotNull ItemStack stackCopy = stack.copy();
         for (@NotNull ItemStack neededItem : itemsNeeded)
         {
@@ -141,6 +141,7 @@ public class JobBuilder extends AbstractJob
     public void setSchematic(SchematicWrapper schematic)
     {
         this.schematic = schematic;
+        getColony().markSaveNeeded();
     }
 
     /**
@@ -199,5 +200,6 @@ public class JobBuilder extends AbstractJob
         {
             workOrderId = order.getID();
         }
+        getColony().markSaveNeeded();
     }
 }
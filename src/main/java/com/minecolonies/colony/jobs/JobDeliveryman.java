@@ -100,5 +100,6 @@ public class JobDeliveryman extends AbstractJob
     public void setDestination(BlockPos destination)
     {
         this.destination = destination;
+        getColony().markSaveNeeded();
     }
 }
@@ -154,6 +154,7 @@ public class JobFisherman extends AbstractJob
     public void setWater(BlockPos water)
     {
         this.water = water;
+        getColony().markSaveNeeded();
     }
 
     /**
@@ -175,6 +176,7 @@ public class JobFisherman extends AbstractJob
     public void addToPonds(BlockPos pond)
     {
         this.ponds.add(pond);
+        getColony().markSaveNeeded();
     }
 
     /**
@@ -185,6 +187,7 @@ public class JobFisherman extends AbstractJob
     public void removeFromPonds(BlockPos pond)
     {
         this.ponds.remove(pond);
+        getColony().markSaveNeeded();
     }
 
 
@@ -1,6 +1,7 @@
 package com.minecolonies.colony.permissions;
 
 import com.minecolonies.colony.Colony;
+import com.minecolonies.colony.ColonyManager;
 import com.minecolonies.network.PacketUtils;
 import com.minecolonies.util.AchievementUtils;
 import com.minecolonies.util.Utils;
@@ -47,7 +48,8 @@ public class Permissions implements IPermissions
     private Map<UUID, Player>  players     = new HashMap<>();
     @NotNull
     private Map<Rank, Integer> permissions = new EnumMap<>(Rank.class);
-    private boolean            dirty       = false;
+    //  Goes up with every change, for the subscribers to know what they missed
+    private long               version     = 0;
 
     /**
      * Saves the permissions with allowed actions
@@ -108,7 +110,8 @@ public class Permissions implements IPermissions
      */
     private void markDirty()
     {
-        dirty = true;
+        ++version;
+        colony.markSaveNeeded();
     }
 
     /**
@@ -177,6 +180,7 @@ public class Permissions implements IPermissions
             if(player != null)
             {
                 players.put(id, new Player(id, player.getName(), rank));
+                ColonyManager.onColonyMemberChanged(colony, id, rank);
             }
         }
 
@@ -377,6 +381,7 @@ public class Permissions implements IPermissions
         if (player != null)
         {
             player.rank = rank;
+            ColonyManager.onColonyMemberChanged(colony, id, rank);
             markDirty();
             AchievementUtils.syncAchievements(colony);
         }
@@ -402,6 +407,7 @@ public class Permissions implements IPermissions
     {
         @NotNull Player p = new Player(gameprofile.getId(), gameprofile.getName(), rank);
         players.put(p.id, p);
+        ColonyManager.onColonyMemberChanged(colony, p.id, rank);
 
         markDirty();
         AchievementUtils.syncAchievements(colony);
@@ -438,6 +444,7 @@ public class Permissions implements IPermissions
         AchievementUtils.syncAchievements(colony);
         if (player != null && player.getRank() != Rank.OWNER && players.remove(id) != null)
         {
+            ColonyManager.onColonyMemberChanged(colony, id, null);
             markDirty();
             return true;
         }
@@ -486,21 +493,13 @@ public class Permissions implements IPermissions
     }
 
     /**
-     * Returns if the instance is dirty
+     * Returns the version of the instance, which goes up with every change.
      *
-     * @return True if dirty, otherise false.
+     * @return the version.
      */
-    public boolean isDirty()
+    public long getVersion()
     {
-        return dirty;
-    }
-
-    /**
-     * Marks instance not dirty
-     */
-    public void clearDirty()
-    {
-        dirty = false;
+        return version;
     }
 
     /**
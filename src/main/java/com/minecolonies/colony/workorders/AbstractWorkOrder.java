@@ -185,6 +185,14 @@ public abstract class AbstractWorkOrder
         return changed;
     }
 
+    /**
+     * Marks the workOrder changed, so the work manager saves it and updates the subscribers.
+     */
+    protected final void markChanged()
+    {
+        changed = true;
+    }
+
     /**
      * Resets the changed variable.
      */
@@ -282,5 +282,6 @@ public class WorkOrderBuild extends AbstractWorkOrder
     public void setCleared(boolean cleared)
     {
         this.cleared = cleared;
+        markChanged();
     }
 }
@@ -17,6 +17,7 @@ public class ColoniesCommand extends AbstractSplitCommand
     private final ImmutableMap<String, ISubCommand> subCommands =
       new ImmutableMap.Builder<String, ISubCommand>()
         .put("list", new ListColonies(MinecoloniesCommand.DESC, ColoniesCommand.DESC, "list"))
+        .put("lag", new ColonyLag(MinecoloniesCommand.DESC, ColoniesCommand.DESC, "lag"))
         .build();
 
     /**
@@ -0,0 +1,87 @@
+package com.minecolonies.commands;
+
+import com.minecolonies.colony.Colony;
+import com.minecolonies.colony.ColonyManager;
+import com.minecolonies.colony.ColonyTickScheduler;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Show the time the colonies spend on their ticks, the slowest first, to find the colonies that slow the server down.
+ */
+public class ColonyLag extends AbstractSingleCommand
+{
+    private static final String RESET_ARGUMENT = "reset";
+    private static final String HEADER_TEXT    = "§2Colony tick times (every tick / deferred, per tick):";
+    private static final String LAG_TEXT       = "§2#%d %s: §favg %.3f ms, max %.2f ms / avg %.3f ms, max %.2f ms, waited %d ticks";
+    private static final String UNKNOWN_NAME   = "?";
+    private static final String RESET_TEXT     = "§2Colony tick times reset.";
+    private static final int    MAX_LINES      = 10;
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public ColonyLag(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @NotNull
+    @Override
+    public String getCommandUsage(@NotNull final ICommandSender sender)
+    {
+        return super.getCommandUsage(sender) + "[" + RESET_ARGUMENT + "]";
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        if (args.length != 0 && RESET_ARGUMENT.equalsIgnoreCase(args[0]))
+        {
+            ColonyManager.resetColonyLags();
+            sender.addChatMessage(new TextComponentString(RESET_TEXT));
+            return;
+        }
+
+        sender.addChatMessage(new TextComponentString(HEADER_TEXT));
+        final List<ColonyTickScheduler.Lag> lags = ColonyManager.getColonyLags();
+        for (@NotNull final ColonyTickScheduler.Lag lag : lags.subList(0, Math.min(MAX_LINES, lags.size())))
+        {
+            @Nullable final Colony colony = ColonyManager.getColony(lag.getColonyId());
+            sender.addChatMessage(new TextComponentString(String.format(LAG_TEXT, lag.getColonyId(), colony == null ? UNKNOWN_NAME : colony.getName(),
+              lag.getAverageTickMs(), lag.getMaxTickMs(), lag.getAverageDeferredMs(), lag.getMaxDeferredMs(), lag.getMaxDeferredDelay())));
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        final List<String> options = new ArrayList<>();
+        if (args.length == 1 && RESET_ARGUMENT.startsWith(args[0].toLowerCase()))
+        {
+            options.add(RESET_ARGUMENT);
+        }
+        return options;
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
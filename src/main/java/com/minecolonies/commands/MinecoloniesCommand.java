@@ -17,6 +17,7 @@ public class MinecoloniesCommand extends AbstractSplitCommand
     private final ImmutableMap<String, ISubCommand> subCommands =
       new ImmutableMap.Builder<String, ISubCommand>()
         .put("colonies", new ColoniesCommand(DESC))
+        .put("pathfinding", new PathfindingStats(DESC, "pathfinding"))
         .build();
 
     /**
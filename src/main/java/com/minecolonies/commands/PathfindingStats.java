@@ -0,0 +1,86 @@
+package com.minecolonies.commands;
+
+import com.minecolonies.entity.pathfinding.PathCache;
+import com.minecolonies.entity.pathfinding.Pathfinding;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Show the load of the pathfinding threads, to help sizing the thread pool.
+ */
+public class PathfindingStats extends AbstractSingleCommand
+{
+    private static final String RESET_ARGUMENT = "reset";
+    private static final String THREADS_TEXT   = "§2Threads: §f%d of %d busy";
+    private static final String QUEUE_TEXT     = "§2Queued jobs: §f%d";
+    private static final String JOBS_TEXT      = "§2Finished jobs: §f%d";
+    private static final String WAIT_TEXT      = "§2Wait time: §favg %.2f ms, max %.2f ms";
+    private static final String RUN_TEXT       = "§2Run time: §favg %.2f ms, max %.2f ms";
+    private static final String CACHE_TEXT     = "§2Path cache: §f%d paths, %d hits, %d misses";
+    private static final String RESET_TEXT     = "§2Pathfinding statistics reset.";
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public PathfindingStats(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @NotNull
+    @Override
+    public String getCommandUsage(@NotNull final ICommandSender sender)
+    {
+        return super.getCommandUsage(sender) + "[" + RESET_ARGUMENT + "]";
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        if (args.length != 0 && RESET_ARGUMENT.equalsIgnoreCase(args[0]))
+        {
+            Pathfinding.resetStatistics();
+            sender.addChatMessage(new TextComponentString(RESET_TEXT));
+            return;
+        }
+
+        sender.addChatMessage(new TextComponentString(String.format(THREADS_TEXT, Pathfinding.getActiveThreadCount(), Pathfinding.getMaxThreadCount())));
+        sender.addChatMessage(new TextComponentString(String.format(QUEUE_TEXT, Pathfinding.getQueueDepth())));
+        sender.addChatMessage(new TextComponentString(String.format(JOBS_TEXT, Pathfinding.getJobsCompleted())));
+        sender.addChatMessage(new TextComponentString(String.format(WAIT_TEXT, Pathfinding.getAverageWaitMs(), Pathfinding.getMaxWaitMs())));
+        sender.addChatMessage(new TextComponentString(String.format(RUN_TEXT, Pathfinding.getAverageRunMs(), Pathfinding.getMaxRunMs())));
+        sender.addChatMessage(new TextComponentString(String.format(CACHE_TEXT, PathCache.getTotalSize(), PathCache.getTotalHits(), PathCache.getTotalMisses())));
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        final List<String> options = new ArrayList<>();
+        if (args.length == 1 && RESET_ARGUMENT.startsWith(args[0].toLowerCase()))
+        {
+            options.add(RESET_ARGUMENT);
+        }
+        return options;
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
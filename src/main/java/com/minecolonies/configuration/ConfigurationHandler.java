@@ -53,6 +53,12 @@ public final class ConfigurationHandler
             maxBlocksCheckedByBuilder =
               config.get(CATEGORY_GAMEPLAY, "maxBlocksCheckedByBuilder", maxBlocksCheckedByBuilder, "Limits the number of checked blocks per builder update").getInt();
             chatFrequency = config.get(CATEGORY_GAMEPLAY, "chatFrequency", chatFrequency, "Chat Frequency (seconds)").getInt();
+            colonyDeferredTickBudgetMillis = config.get(CATEGORY_GAMEPLAY, "deferredTickBudget", colonyDeferredTickBudgetMillis,
+              "Milliseconds per tick spent on colony work which may wait (cleanup, work orders, achievements)").getInt();
+            colonyViewSyncTicksNear = getClampedInt(config, CATEGORY_GAMEPLAY, "viewSyncTicksNear", colonyViewSyncTicksNear, 1, 200,
+              "Ticks between colony updates for players in or near the colony, except for what their open colony window shows");
+            colonyViewSyncTicksFar = getClampedInt(config, CATEGORY_GAMEPLAY, "viewSyncTicksFar", colonyViewSyncTicksFar, 1, 1200,
+              "Ticks between colony updates for players far from the colony");
 
             enableInDevelopmentFeatures = config.get(CATEGORY_GAMEPLAY, "development", enableInDevelopmentFeatures,
               "Don't hide in-development features which do not work and may break your game").getBoolean();
@@ -60,7 +66,15 @@ public final class ConfigurationHandler
             pathfindingDebugDraw = config.get(CATEGORY_PATHFINDING, "debugDraw", pathfindingDebugDraw, "Render pathfinding results for debugging purposes (SSP only)").getBoolean();
             pathfindingDebugVerbosity = config.get(CATEGORY_PATHFINDING, "debugVerbosity", pathfindingDebugVerbosity,
               "Debug output verbosity of pathfinding (0=none, 1=results, 2=live work)").getInt();
-            pathfindingMaxThreadCount = config.get(CATEGORY_PATHFINDING, "maxThreads", pathfindingMaxThreadCount, "Maximum number of threads to use for pathfinding.").getInt();
+            pathfindingMaxThreadCount = config.get(CATEGORY_PATHFINDING, "maxThreads", pathfindingMaxThreadCount, "Number of threads to use for pathfinding.").getInt();
+            pathfindingMaxNodes = config.get(CATEGORY_PATHFINDING, "maxNodes", pathfindingMaxNodes,
+              "Maximum number of nodes a search for a path to a location examines before it returns the best path so far").getInt();
+            pathfindingMaxNodesResources = config.get(CATEGORY_PATHFINDING, "maxNodesResources", pathfindingMaxNodesResources,
+              "Maximum number of nodes a search for trees or water examines before it returns the best path so far").getInt();
+            pathfindingMaxSearchTimeMillis = config.get(CATEGORY_PATHFINDING, "maxSearchTime", pathfindingMaxSearchTimeMillis,
+              "Maximum time in milliseconds a path search may run before it returns the best path so far").getInt();
+            pathfindingMaxFlowFieldNodes = config.get(CATEGORY_PATHFINDING, "maxFlowFieldNodes", pathfindingMaxFlowFieldNodes,
+              "Maximum number of nodes a flood from a destination many citizens walk to covers").getInt();
 
             maleFirstNames = config.get(CATEGORY_NAMES, "maleFirstNames", maleFirstNames, "Male First Names").getStringList();
             femaleFirstNames = config.get(CATEGORY_NAMES, "femaleFirstNames", femaleFirstNames, "Female First Names").getStringList();
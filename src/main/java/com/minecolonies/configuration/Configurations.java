@@ -19,14 +19,21 @@ public class Configurations
     public static boolean alwaysRenderNameTag = true;
 
     //TODO change count to agreed upon value, possibly remove if we think this shouldn't be a problem
-    public static int maxBlocksCheckedByBuilder = 1000;
-    public static int chatFrequency             = 30;
+    public static int maxBlocksCheckedByBuilder      = 1000;
+    public static int chatFrequency                  = 30;
+    public static int colonyDeferredTickBudgetMillis = 2;
+    public static int colonyViewSyncTicksNear        = 10;
+    public static int colonyViewSyncTicksFar         = 100;
 
     public static boolean enableInDevelopmentFeatures = false;
 
-    public static boolean pathfindingDebugDraw      = false;
-    public static int     pathfindingDebugVerbosity = 0;
-    public static int     pathfindingMaxThreadCount = 2;
+    public static boolean pathfindingDebugDraw           = false;
+    public static int     pathfindingDebugVerbosity      = 0;
+    public static int     pathfindingMaxThreadCount      = 2;
+    public static int     pathfindingMaxNodes            = 10000;
+    public static int     pathfindingMaxNodesResources   = 30000;
+    public static int     pathfindingMaxSearchTimeMillis = 250;
+    public static int     pathfindingMaxFlowFieldNodes   = 65536;
 
     public static String[] maleFirstNames = new String[]
                                               {
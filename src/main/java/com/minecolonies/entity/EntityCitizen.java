@@ -558,7 +558,7 @@ public class EntityCitizen extends EntityAgeable implements INpc
             CitizenDataView citizenDataView = getCitizenDataView();
             if (citizenDataView != null)
             {
-                MineColonies.proxy.showCitizenWindow(citizenDataView);
+                MineColonies.proxy.showCitizenWindow(colonyId, citizenDataView);
             }
         }
         return true;
@@ -169,7 +169,7 @@ public class EntityAIStructureBuilder extends AbstractEntityAIStructure<JobBuild
                   "entity.builder.messageBuildStart",
                   job.getSchematic().getName());
 
-                if (!job.hasSchematic() || !job.getSchematic().decrementBlock())
+                if (!job.hasSchematic() || !decrementBlock())
                 {
                     return this.getState();
                 }
@@ -202,7 +202,7 @@ public class EntityAIStructureBuilder extends AbstractEntityAIStructure<JobBuild
                 }
                 else
                 {
-                    if (!job.hasSchematic() || !job.getSchematic().decrementBlock())
+                    if (!job.hasSchematic() || !decrementBlock())
                     {
                         return this.getState();
                     }
@@ -251,10 +251,19 @@ public class EntityAIStructureBuilder extends AbstractEntityAIStructure<JobBuild
 
     private boolean incrementBlock()
     {
+        //  The progress is saved with the job
+        job.getColony().markSaveNeeded();
         //method returns false if there is no next block (schematic finished)
         return job.getSchematic().incrementBlock();
     }
 
+    private boolean decrementBlock()
+    {
+        job.getColony().markSaveNeeded();
+        //method returns false if there is no previous block
+        return job.getSchematic().decrementBlock();
+    }
+
     private AIState startWorkingAtOwnBuilding()
     {
         if (walkToBuilding())
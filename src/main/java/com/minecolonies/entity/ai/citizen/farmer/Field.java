@@ -342,6 +342,7 @@ public class Field extends Container
         this.lengthMinusX = searchNextBlock(0, position.west(), EnumFacing.WEST, world);
         this.widthPlusZ = searchNextBlock(0, position.south(), EnumFacing.SOUTH, world);
         this.widthMinusZ = searchNextBlock(0, position.north(), EnumFacing.NORTH, world);
+        markColonySaveNeeded();
     }
 
     /**
@@ -421,7 +422,11 @@ public class Field extends Container
      */
     public void setTaken(boolean taken)
     {
-        this.taken = taken;
+        if (this.taken != taken)
+        {
+            this.taken = taken;
+            markColonyFieldsDirty();
+        }
     }
 
     /**
@@ -442,6 +447,7 @@ public class Field extends Container
     public void setFieldStage(FieldStage fieldStage)
     {
         this.fieldStage = fieldStage;
+        markColonySaveNeeded();
     }
 
     /**
@@ -548,6 +554,7 @@ public class Field extends Container
     public void setInventoryField(InventoryField inventory)
     {
         this.inventory = inventory;
+        markColonySaveNeeded();
     }
 
     /**
@@ -576,7 +583,33 @@ public class Field extends Container
         {
             this.inventory.setCustomName(LanguageHandler.format("com.minecolonies.gui.scarecrow.user", owner));
         }
-        this.owner = owner;
+        if (!owner.equals(this.owner))
+        {
+            this.owner = owner;
+            markColonyFieldsDirty();
+        }
+    }
+
+    /**
+     * Let the colony send the fields to its subscribers again, after a change they see.
+     */
+    private void markColonyFieldsDirty()
+    {
+        if (colony != null)
+        {
+            colony.markFieldsDirty();
+        }
+    }
+
+    /**
+     * Let the colony save the field, after a change its subscribers don't see.
+     */
+    private void markColonySaveNeeded()
+    {
+        if (colony != null)
+        {
+            colony.markSaveNeeded();
+        }
     }
 
     /**
@@ -12,7 +12,7 @@ import com.minecolonies.entity.pathfinding.PathJobFindWater;
 import com.minecolonies.sounds.FishermanSounds;
 import com.minecolonies.util.InventoryUtils;
 import com.minecolonies.util.SoundUtils;
-import com.minecolonies.util.Utils;
+import net.minecraft.block.material.Material;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
@@ -21,6 +21,7 @@ import net.minecraft.item.ItemFishingRod;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -126,6 +127,11 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
      */
     private static final int CHANCE_TO_PLAY_SOUND = 20;
 
+    /**
+     * Time in ticks to wait before looking for a fishing spot again, when there is none.
+     */
+    private static final int WAIT_BEFORE_SEARCH = 100;
+
     /**
      * The number of executed adjusts of the fisherman's rotation.
      */
@@ -354,8 +360,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
         }
         if (executedRotations >= MAX_ROTATIONS)
         {
-            job.removeFromPonds(job.getWater());
-            job.setWater(null);
+            discardWater();
             executedRotations = 0;
             return FISHERMAN_SEARCHING_WATER;
         }
@@ -375,6 +380,11 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
     {
         //Reset executedRotations when fisherman searches a new Pond
         executedRotations = 0;
+        @Nullable final BuildingFisherman building = getOwnBuilding();
+        if (building != null && building.getPondRegistry().isScanned())
+        {
+            return findRegisteredWater(building.getPondRegistry());
+        }
         //If he can't find any pond, tell that to the player
         //If 20 ponds are already stored, take a random stored location
         if (job.getPonds().size() >= MAX_PONDS)
@@ -384,6 +394,41 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
         return findNewWater();
     }
 
+    /**
+     * Take a random fishing spot from the ones registered around the hut.
+     * Only searches through the pathfinding until the hut has scanned its surroundings.
+     *
+     * @param registry the fishing spots around the hut.
+     * @return the next AIState.
+     */
+    private AIState findRegisteredWater(@NotNull final PondRegistry registry)
+    {
+        @Nullable final BlockPos water = registry.getRandomSpot(random);
+        if (water == null)
+        {
+            chatSpamFilter.talkWithoutSpam("entity.fisherman.messageWaterTooFar");
+            setDelay(WAIT_BEFORE_SEARCH);
+            return getState();
+        }
+
+        job.setWater(water);
+        return FISHERMAN_CHECK_WATER;
+    }
+
+    /**
+     * Stop fishing at the current water, and don't pick it again for a while.
+     */
+    private void discardWater()
+    {
+        @Nullable final BuildingFisherman building = getOwnBuilding();
+        if (building != null && job.getWater() != null)
+        {
+            building.getPondRegistry().markUnusable(job.getWater());
+        }
+        job.removeFromPonds(job.getWater());
+        job.setWater(null);
+    }
+
     /**
      * If the fisherman can't find 20 ponds or already has found 20, the fisherman should randomly choose a fishing spot
      * from the previously found ones.
@@ -577,12 +622,11 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
 
         if (world.getBlockState(worker.getPosition()).getBlock() == Blocks.WATER)
         {
-            job.removeFromPonds(job.getWater());
-            job.setWater(null);
+            discardWater();
             return FISHERMAN_SEARCHING_WATER;
         }
         //If there is no close water, try to move closer
-        if (!Utils.isBlockInRange(world, Blocks.WATER, (int) worker.posX, (int) worker.posY, (int) worker.posZ, MIN_DISTANCE_TO_WATER))
+        if (!isWaterInReach())
         {
             return FISHERMAN_WALKING_TO_WATER;
         }
@@ -596,6 +640,21 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
         return null;
     }
 
+    /**
+     * Checks if the water he fishes at is still there and close enough to throw the rod at.
+     *
+     * @return true if it is
+     */
+    private boolean isWaterInReach()
+    {
+        @Nullable final BlockPos water = job.getWater();
+        return water != null
+                 && Math.abs(water.getX() - (int) worker.posX) <= MIN_DISTANCE_TO_WATER
+                 && Math.abs(water.getY() - (int) worker.posY) <= MIN_DISTANCE_TO_WATER
+                 && Math.abs(water.getZ() - (int) worker.posZ) <= MIN_DISTANCE_TO_WATER
+                 && world.getBlockState(water).getMaterial() == Material.WATER;
+    }
+
     /**
      * Sets the rod as held item.
      */
@@ -0,0 +1,361 @@
+package com.minecolonies.entity.ai.citizen.fisherman;
+
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.util.Constants;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * The fishing spots around a fisherman hut, so the fisherman can pick one instead of searching for water.
+ * <p>
+ * A fishing spot is a {@link Pond}: a water block with air above, in a pool big enough to fish in, next to a block of
+ * shore the fisherman can stand on. The chunks in range are scanned one at a time and then rescanned slowly; a chunk
+ * in which water or the shore next to a spot changes is rescanned on the next tick.
+ * <p>
+ * Only used from the server thread.
+ */
+public class PondRegistry
+{
+    private static final String TAG_PONDS        = "ponds";
+    private static final String TAG_SCANNED      = "scanned";
+
+    /**
+     * Ticks between two chunks of the rescan.
+     */
+    private static final int    RESCAN_INTERVAL  = 20;
+    /**
+     * Minimum square distance between two spots of a chunk, so the spots are spread over the water.
+     */
+    private static final int    MIN_SPACING      = 40;
+    /**
+     * Ticks a spot the fisherman couldn't fish at is left out of the lookups.
+     */
+    private static final long   UNUSABLE_TIMEOUT = 6000;
+    private static final int    CHUNK_SHIFT      = 4;
+    private static final int    CHUNK_SIZE       = 16;
+
+    @NotNull
+    private final BlockPos             center;
+    private final int                  radius;
+    @NotNull
+    private final Map<Long, Set<Pond>> pondsByChunk = new HashMap<>();
+    //  Chunks in range, nearest to the center first
+    @NotNull
+    private final long[]               scanOrder;
+    @NotNull
+    private final Set<Long>            dirtyChunks  = new LinkedHashSet<>();
+    @NotNull
+    private final Map<BlockPos, Long>  unusable     = new HashMap<>();
+    private       int                  scanIndex    = 0;
+    private       boolean              scanned      = false;
+    private       long                 ticks        = 0;
+
+    /**
+     * Create the registry of the fishing spots around a hut.
+     *
+     * @param center the location of the hut.
+     * @param radius distance from the hut fishing spots are registered at.
+     */
+    public PondRegistry(@NotNull BlockPos center, int radius)
+    {
+        this.center = center;
+        this.radius = radius;
+
+        final int centerX = center.getX() >> CHUNK_SHIFT;
+        final int centerZ = center.getZ() >> CHUNK_SHIFT;
+        final int chunkRadius = (radius >> CHUNK_SHIFT) + 1;
+        @NotNull final List<long[]> chunks = new ArrayList<>();
+        for (int x = centerX - chunkRadius; x <= centerX + chunkRadius; ++x)
+        {
+            for (int z = centerZ - chunkRadius; z <= centerZ + chunkRadius; ++z)
+            {
+                chunks.add(new long[] {chunkKey(x, z), (long) (x - centerX) * (x - centerX) + (long) (z - centerZ) * (z - centerZ)});
+            }
+        }
+        chunks.sort(Comparator.comparingLong(chunk -> chunk[1]));
+        scanOrder = chunks.stream().mapToLong(chunk -> chunk[0]).toArray();
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ)
+    {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private static long chunkKey(@NotNull BlockPos pos)
+    {
+        return chunkKey(pos.getX() >> CHUNK_SHIFT, pos.getZ() >> CHUNK_SHIFT);
+    }
+
+    /**
+     * Scan the next chunk.
+     *
+     * @param world the world of the hut.
+     * @return true if the saved spots changed.
+     */
+    public boolean onWorldTick(@NotNull World world)
+    {
+        ++ticks;
+
+        final Iterator<Long> dirty = dirtyChunks.iterator();
+        if (dirty.hasNext())
+        {
+            final long chunk = dirty.next();
+            dirty.remove();
+            return scanChunk(world, chunk);
+        }
+
+        if (scanned && ticks % RESCAN_INTERVAL != 0)
+        {
+            return false;
+        }
+
+        boolean changed = scanChunk(world, scanOrder[scanIndex]);
+        if (++scanIndex == scanOrder.length)
+        {
+            scanIndex = 0;
+            changed |= !scanned;
+            scanned = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Rescan the chunk of a changed block, if it is water or the shore of a spot.
+     *
+     * @param pos      the position of the block.
+     * @param oldState the block before.
+     * @param newState the block now.
+     */
+    public void onBlockChanged(@NotNull BlockPos pos, @NotNull IBlockState oldState, @NotNull IBlockState newState)
+    {
+        if (!isInRange(pos))
+        {
+            return;
+        }
+
+        if (oldState.getMaterial() == Material.WATER || newState.getMaterial() == Material.WATER || isShoreOfSpot(pos))
+        {
+            dirtyChunks.add(chunkKey(pos));
+        }
+    }
+
+    /**
+     * Check if a block is next to a spot, where the fisherman stands.
+     *
+     * @param pos the block.
+     * @return true if it is.
+     */
+    private boolean isShoreOfSpot(@NotNull BlockPos pos)
+    {
+        for (@NotNull final EnumFacing facing : EnumFacing.HORIZONTALS)
+        {
+            @Nullable final Set<Pond> ponds = pondsByChunk.get(chunkKey(pos.offset(facing)));
+            if (ponds == null)
+            {
+                continue;
+            }
+
+            for (@NotNull final Pond pond : ponds)
+            {
+                final BlockPos water = pond.getLocation();
+                if (Math.abs(water.getX() - pos.getX()) + Math.abs(water.getZ() - pos.getZ()) <= 1
+                      && pos.getY() >= water.getY() && pos.getY() <= water.getY() + 2)
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isInRange(@NotNull BlockPos pos)
+    {
+        final long dx = pos.getX() - center.getX();
+        final long dz = pos.getZ() - center.getZ();
+        return dx * dx + dz * dz <= (long) radius * radius;
+    }
+
+    /**
+     * Find the fishing spots of a chunk, replacing the ones found before.
+     *
+     * @param world the world.
+     * @param key   the chunk.
+     * @return true if the spots of the chunk changed.
+     */
+    private boolean scanChunk(@NotNull World world, long key)
+    {
+        @Nullable final Chunk chunk = world.getChunkProvider().getLoadedChunk((int) (key >> 32), (int) key);
+        if (chunk == null)
+        {
+            //  Keep what was known, the chunk is scanned again when the scan comes around
+            return false;
+        }
+
+        @NotNull final Set<Pond> ponds = new HashSet<>();
+        for (int x = 0; x < CHUNK_SIZE; ++x)
+        {
+            for (int z = 0; z < CHUNK_SIZE; ++z)
+            {
+                final BlockPos water = new BlockPos((chunk.xPosition << CHUNK_SHIFT) + x, chunk.getHeightValue(x, z) - 1, (chunk.zPosition << CHUNK_SHIFT) + z);
+                if (!isInRange(water) || !hasShore(world, water) || isNearOther(ponds, water))
+                {
+                    continue;
+                }
+
+                @Nullable final Pond pond = Pond.createWater(world, water);
+                if (pond != null)
+                {
+                    ponds.add(pond);
+                }
+            }
+        }
+
+        if (ponds.isEmpty())
+        {
+            return pondsByChunk.remove(key) != null;
+        }
+        return !ponds.equals(pondsByChunk.put(key, ponds));
+    }
+
+    /**
+     * Check if there is a block next to the water the fisherman can stand on.
+     *
+     * @param world the world.
+     * @param water the water.
+     * @return true if there is.
+     */
+    private static boolean hasShore(@NotNull World world, @NotNull BlockPos water)
+    {
+        if (world.getBlockState(water).getMaterial() != Material.WATER)
+        {
+            return false;
+        }
+
+        for (@NotNull final EnumFacing facing : EnumFacing.HORIZONTALS)
+        {
+            final BlockPos shore = water.offset(facing);
+            if (world.getBlockState(shore).getMaterial().isSolid()
+                  && !world.getBlockState(shore.up()).getMaterial().blocksMovement()
+                  && !world.getBlockState(shore.up(2)).getMaterial().blocksMovement())
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNearOther(@NotNull Set<Pond> ponds, @NotNull BlockPos water)
+    {
+        for (@NotNull final Pond pond : ponds)
+        {
+            if (pond.getLocation().distanceSq(water) < MIN_SPACING)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Pick a random fishing spot.
+     *
+     * @param random the random to pick with.
+     * @return the water to fish at, or null if there is none.
+     */
+    @Nullable
+    public BlockPos getRandomSpot(@NotNull Random random)
+    {
+        unusable.values().removeIf(until -> until <= ticks);
+
+        @NotNull final List<BlockPos> spots = new ArrayList<>();
+        for (@NotNull final Set<Pond> ponds : pondsByChunk.values())
+        {
+            for (@NotNull final Pond pond : ponds)
+            {
+                if (!unusable.containsKey(pond.getLocation()))
+                {
+                    spots.add(pond.getLocation());
+                }
+            }
+        }
+
+        if (spots.isEmpty())
+        {
+            return null;
+        }
+        return spots.get(random.nextInt(spots.size()));
+    }
+
+    /**
+     * Leave a spot out of the lookups for a while, because the fisherman couldn't fish there.
+     *
+     * @param water the water of the spot.
+     */
+    public void markUnusable(@NotNull BlockPos water)
+    {
+        unusable.put(water, ticks + UNUSABLE_TIMEOUT);
+    }
+
+    /**
+     * @return true once every chunk in range was scanned at least once.
+     */
+    public boolean isScanned()
+    {
+        return scanned;
+    }
+
+    /**
+     * @return the number of registered fishing spots.
+     */
+    public int size()
+    {
+        return pondsByChunk.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Restore the spots found before the world was saved.
+     *
+     * @param compound the tag of the building.
+     */
+    public void readFromNBT(@NotNull NBTTagCompound compound)
+    {
+        pondsByChunk.clear();
+        final NBTTagList pondTagList = compound.getTagList(TAG_PONDS, Constants.NBT.TAG_COMPOUND);
+        for (int i = 0; i < pondTagList.tagCount(); ++i)
+        {
+            @NotNull final Pond pond = Pond.readFromNBT(pondTagList.getCompoundTagAt(i));
+            pondsByChunk.computeIfAbsent(chunkKey(pond.getLocation()), chunk -> new HashSet<>()).add(pond);
+        }
+        scanned = compound.getBoolean(TAG_SCANNED);
+    }
+
+    /**
+     * Save the spots.
+     *
+     * @param compound the tag of the building.
+     */
+    public void writeToNBT(@NotNull NBTTagCompound compound)
+    {
+        @NotNull final NBTTagList pondTagList = new NBTTagList();
+        for (@NotNull final Set<Pond> ponds : pondsByChunk.values())
+        {
+            for (@NotNull final Pond pond : ponds)
+            {
+                @NotNull final NBTTagCompound pondCompound = new NBTTagCompound();
+                pond.writeToNBT(pondCompound);
+                pondTagList.appendTag(pondCompound);
+            }
+        }
+        compound.setTag(TAG_PONDS, pondTagList);
+        compound.setBoolean(TAG_SCANNED, scanned);
+    }
+}
@@ -1,5 +1,6 @@
 package com.minecolonies.entity.ai.citizen.lumberjack;
 
+import com.minecolonies.colony.buildings.BuildingLumberjack;
 import com.minecolonies.colony.jobs.JobLumberjack;
 import com.minecolonies.entity.ai.basic.AbstractEntityAIInteract;
 import com.minecolonies.entity.ai.util.AIState;
@@ -73,6 +74,11 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
      */
     private static final double WALK_BACK_SPEED = 1.0;
 
+    /**
+     * How often he backs away from a tree before giving up on it
+     */
+    private static final int MAX_WALK_BACKS = 3;
+
     /**
      * Time in ticks to wait before placing a sapling.
      * Is used to collect falling saplings from the ground.
@@ -167,6 +173,10 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
      * has been increased by now.
      */
     private int searchIncrement = 0;
+    /**
+     * How often he backed away from the current tree.
+     */
+    private int walkBacks       = 0;
 
     /**
      * Create a new LumberjackAI
@@ -255,6 +265,12 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
      */
     private AIState findTree()
     {
+        @Nullable final BuildingLumberjack building = getOwnBuilding();
+        if (building != null && building.getTreeRegistry().isScanned())
+        {
+            return findRegisteredTree(building.getTreeRegistry());
+        }
+
         if (pathResult == null || pathResult.treeLocation == null)
         {
             pathResult = worker.getNavigator().moveToTree(SEARCH_RANGE + searchIncrement, 1.0D);
@@ -272,12 +288,43 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
         return getState();
     }
 
+    /**
+     * Take the nearest tree from the trees registered around the hut.
+     * Only searches through the pathfinding until the hut has scanned its surroundings.
+     *
+     * @param registry the trees around the hut.
+     * @return the next AIState
+     */
+    private AIState findRegisteredTree(@NotNull final TreeRegistry registry)
+    {
+        @Nullable final BlockPos location = registry.getNearestTree(worker.getPosition(), SEARCH_LIMIT);
+        if (location == null)
+        {
+            setDelay(WAIT_BEFORE_INCREMENT);
+            return LUMBERJACK_NO_TREES_FOUND;
+        }
+
+        if (!Tree.checkTree(world, location))
+        {
+            //  Gone since the last scan, the registry catches up on its own
+            registry.markUnreachable(location);
+            return getState();
+        }
+
+        job.tree = new Tree(world, location);
+        job.tree.findLogs(world);
+        job.getColony().markSaveNeeded();
+        walkBacks = 0;
+        return LUMBERJACK_CHOP_TREE;
+    }
+
     private AIState setNewTree()
     {
         if (pathResult.treeLocation != null)
         {
             job.tree = new Tree(world, pathResult.treeLocation);
             job.tree.findLogs(world);
+            job.getColony().markSaveNeeded();
         }
         else
         {
@@ -328,6 +375,11 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
         if (walkToBlock(location))
         {
             checkIfStuckOnLeaves(location);
+            if (walkBacks > MAX_WALK_BACKS)
+            {
+                giveUpTree();
+                return LUMBERJACK_SEARCHING_TREE;
+            }
             return getState();
         }
 
@@ -348,6 +400,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
             return getState();
         }
         job.tree.pollNextLog();
+        job.getColony().markSaveNeeded();
         return getState();
     }
 
@@ -378,6 +431,21 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
         tryGettingUnstuckFromLeaves();
     }
 
+    /**
+     * Leave a tree he can't get to, and don't pick it again for a while.
+     */
+    private void giveUpTree()
+    {
+        @Nullable final BuildingLumberjack building = getOwnBuilding();
+        if (building != null)
+        {
+            building.getTreeRegistry().markUnreachable(job.tree.getLocation());
+        }
+        job.tree = null;
+        job.getColony().markSaveNeeded();
+        walkBacks = 0;
+    }
+
     /**
      * Place a sappling for the current tree.
      */
@@ -386,6 +454,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
         if (plantSapling(job.tree.getLocation()))
         {
             job.tree = null;
+            job.getColony().markSaveNeeded();
         }
     }
 
@@ -402,6 +471,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
         {
             worker.getNavigator().moveAwayFromXYZ(worker.getPosition(), WALK_BACK_RANGE, WALK_BACK_SPEED);
             stillTicks = 0;
+            ++walkBacks;
             return;
         }
         if (!mineBlock(nextLeaves))
@@ -509,6 +579,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
 
                 getInventory().decrStackSize(saplingSlot, 1);
                 job.tree.removeStump(pos);
+                job.getColony().markSaveNeeded();
             }
             else
             {
@@ -634,6 +705,17 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
         return items.remove(index);
     }
 
+    /**
+     * Returns the lumberjack's work building.
+     *
+     * @return building instance
+     */
+    @Override
+    protected BuildingLumberjack getOwnBuilding()
+    {
+        return (BuildingLumberjack) worker.getWorkBuilding();
+    }
+
     /**
      * Calculates after how many actions the ai should dump it's inventory.
      * <p>
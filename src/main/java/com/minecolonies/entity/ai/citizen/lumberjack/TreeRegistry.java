@@ -0,0 +1,319 @@
+package com.minecolonies.entity.ai.citizen.lumberjack;
+
+import net.minecraft.block.BlockSapling;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * The trees around a lumberjack hut, so the lumberjack can pick the nearest one instead of searching for it.
+ * <p>
+ * The chunks in range are scanned one at a time, nearest to the hut first, and then rescanned slowly to pick up trees
+ * in chunks which weren't loaded yet. A chunk in which a log, leaves or sapling changes (a tree is chopped, placed or
+ * grows from a sapling) is rescanned on the next tick.
+ * <p>
+ * Only used from the server thread.
+ */
+public class TreeRegistry
+{
+    /**
+     * Chunks scanned per tick until the first scan is complete.
+     */
+    private static final int  CHUNKS_PER_TICK     = 1;
+    /**
+     * Ticks between two chunks of the rescan.
+     */
+    private static final int  RESCAN_INTERVAL     = 20;
+    /**
+     * How deep below the top block of a column a tree base is searched.
+     */
+    private static final int  MAX_SCAN_DEPTH      = 32;
+    /**
+     * Ticks a tree the lumberjack couldn't reach is left out of the lookups.
+     */
+    private static final long UNREACHABLE_TIMEOUT = 6000;
+    private static final int  CHUNK_SHIFT         = 4;
+    private static final int  CHUNK_SIZE          = 16;
+
+    @NotNull
+    private final BlockPos                 center;
+    private final int                      radius;
+    @NotNull
+    private final Map<Long, Set<BlockPos>> treesByChunk = new HashMap<>();
+    //  Chunks in range, nearest to the center first
+    @NotNull
+    private final long[]                   scanOrder;
+    @NotNull
+    private final Set<Long>                dirtyChunks  = new LinkedHashSet<>();
+    @NotNull
+    private final Map<BlockPos, Long>      unreachable  = new HashMap<>();
+    private       int                      scanIndex    = 0;
+    private       boolean                  scanned      = false;
+    private       long                     ticks        = 0;
+
+    /**
+     * Create the registry of the trees around a hut.
+     *
+     * @param center the location of the hut.
+     * @param radius distance from the hut trees are registered at.
+     */
+    public TreeRegistry(@NotNull BlockPos center, int radius)
+    {
+        this.center = center;
+        this.radius = radius;
+
+        final int centerX = center.getX() >> CHUNK_SHIFT;
+        final int centerZ = center.getZ() >> CHUNK_SHIFT;
+        final int chunkRadius = (radius >> CHUNK_SHIFT) + 1;
+        @NotNull final List<long[]> chunks = new ArrayList<>();
+        for (int x = centerX - chunkRadius; x <= centerX + chunkRadius; ++x)
+        {
+            for (int z = centerZ - chunkRadius; z <= centerZ + chunkRadius; ++z)
+            {
+                chunks.add(new long[] {chunkKey(x, z), (long) (x - centerX) * (x - centerX) + (long) (z - centerZ) * (z - centerZ)});
+            }
+        }
+        chunks.sort(Comparator.comparingLong(chunk -> chunk[1]));
+        scanOrder = chunks.stream().mapToLong(chunk -> chunk[0]).toArray();
+    }
+
+    /**
+     * Check if a block can be part of a tree, or turn into one.
+     *
+     * @param state the block.
+     * @return true for logs, leaves and saplings.
+     */
+    public static boolean isTreeBlock(@NotNull IBlockState state)
+    {
+        return state.getMaterial() == Material.WOOD || state.getMaterial() == Material.LEAVES || state.getBlock() instanceof BlockSapling;
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ)
+    {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Scan the next chunks.
+     *
+     * @param world the world of the hut.
+     */
+    public void onWorldTick(@NotNull World world)
+    {
+        ++ticks;
+
+        final Iterator<Long> dirty = dirtyChunks.iterator();
+        if (dirty.hasNext())
+        {
+            final long chunk = dirty.next();
+            dirty.remove();
+            scanChunk(world, chunk);
+            return;
+        }
+
+        if (scanned && ticks % RESCAN_INTERVAL != 0)
+        {
+            return;
+        }
+
+        for (int i = 0; i < CHUNKS_PER_TICK; ++i)
+        {
+            scanChunk(world, scanOrder[scanIndex]);
+            if (++scanIndex == scanOrder.length)
+            {
+                scanIndex = 0;
+                scanned = true;
+            }
+        }
+    }
+
+    /**
+     * Rescan the chunk of a changed block, if it may have been part of a tree.
+     *
+     * @param pos      the position of the block.
+     * @param oldState the block before.
+     * @param newState the block now.
+     */
+    public void onBlockChanged(@NotNull BlockPos pos, @NotNull IBlockState oldState, @NotNull IBlockState newState)
+    {
+        if ((isTreeBlock(oldState) || isTreeBlock(newState)) && isInRange(pos))
+        {
+            dirtyChunks.add(chunkKey(pos.getX() >> CHUNK_SHIFT, pos.getZ() >> CHUNK_SHIFT));
+        }
+    }
+
+    private boolean isInRange(@NotNull BlockPos pos)
+    {
+        final long dx = pos.getX() - center.getX();
+        final long dz = pos.getZ() - center.getZ();
+        return dx * dx + dz * dz <= (long) radius * radius;
+    }
+
+    /**
+     * Find the trees of a chunk, replacing the ones found before.
+     *
+     * @param world the world.
+     * @param key   the chunk.
+     */
+    private void scanChunk(@NotNull World world, long key)
+    {
+        final int chunkX = (int) (key >> 32);
+        final int chunkZ = (int) key;
+        @Nullable final Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+        if (chunk == null)
+        {
+            //  Keep what was known, the chunk is scanned again when the scan comes around
+            return;
+        }
+
+        @NotNull final Set<BlockPos> trees = new HashSet<>();
+        @NotNull final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int x = 0; x < CHUNK_SIZE; ++x)
+        {
+            for (int z = 0; z < CHUNK_SIZE; ++z)
+            {
+                @Nullable final BlockPos base = findTreeBase(world, pos, chunk, x, z);
+                if (base != null && isInRange(base) && Tree.checkTree(world, base))
+                {
+                    trees.add(base);
+                }
+            }
+        }
+
+        if (trees.isEmpty())
+        {
+            treesByChunk.remove(key);
+        }
+        else
+        {
+            treesByChunk.put(key, trees);
+        }
+    }
+
+    /**
+     * Walk down a column from its top block to the ground, looking for the lowest log standing on the ground.
+     *
+     * @param world the world.
+     * @param pos   scratch position.
+     * @param chunk the chunk.
+     * @param x     x within the chunk.
+     * @param z     z within the chunk.
+     * @return the log, or null.
+     */
+    @Nullable
+    private static BlockPos findTreeBase(@NotNull World world, @NotNull BlockPos.MutableBlockPos pos, @NotNull Chunk chunk, int x, int z)
+    {
+        final int worldX = (chunk.xPosition << CHUNK_SHIFT) + x;
+        final int worldZ = (chunk.zPosition << CHUNK_SHIFT) + z;
+        final int top = chunk.getHeightValue(x, z);
+        boolean log = false;
+        for (int y = top; y > 0 && y > top - MAX_SCAN_DEPTH; --y)
+        {
+            final IBlockState state = world.getBlockState(pos.setPos(worldX, y, worldZ));
+            final boolean isLog = state.getBlock().isWood(world, pos);
+            if (log && !isLog)
+            {
+                return state.getMaterial().isSolid() ? new BlockPos(worldX, y + 1, worldZ) : null;
+            }
+
+            if (!isLog && state.getMaterial().isSolid() && state.getMaterial() != Material.LEAVES)
+            {
+                //  Reached the ground
+                return null;
+            }
+            log = isLog;
+        }
+        return null;
+    }
+
+    /**
+     * Get the tree nearest to a position.
+     *
+     * @param from  the position, usually where the lumberjack is.
+     * @param range maximum distance of the tree from the hut.
+     * @return the base log of the tree, or null if there is none in range.
+     */
+    @Nullable
+    public BlockPos getNearestTree(@NotNull BlockPos from, int range)
+    {
+        final long rangeSq = (long) range * range;
+        final int fromX = from.getX() >> CHUNK_SHIFT;
+        final int fromZ = from.getZ() >> CHUNK_SHIFT;
+        final int maxRing = (int) ((Math.sqrt(from.distanceSq(center)) + Math.min(range, radius)) / CHUNK_SIZE) + 1;
+
+        unreachable.values().removeIf(until -> until <= ticks);
+
+        @Nullable BlockPos best = null;
+        double bestDistance = Double.MAX_VALUE;
+        for (int ring = 0; ring <= maxRing; ++ring)
+        {
+            //  Every tree in this ring or further out is at least this far away
+            final double ringDistance = (double) (ring - 1) * CHUNK_SIZE;
+            if (best != null && ring > 0 && ringDistance * ringDistance > bestDistance)
+            {
+                break;
+            }
+
+            for (int x = fromX - ring; x <= fromX + ring; ++x)
+            {
+                for (int z = fromZ - ring; z <= fromZ + ring; ++z)
+                {
+                    if (Math.abs(x - fromX) != ring && Math.abs(z - fromZ) != ring)
+                    {
+                        continue;
+                    }
+
+                    @Nullable final Set<BlockPos> trees = treesByChunk.get(chunkKey(x, z));
+                    if (trees == null)
+                    {
+                        continue;
+                    }
+
+                    for (@NotNull final BlockPos tree : trees)
+                    {
+                        final double distance = from.distanceSq(tree);
+                        if (distance < bestDistance && center.distanceSq(tree.getX(), center.getY(), tree.getZ()) <= rangeSq
+                              && !unreachable.containsKey(tree))
+                        {
+                            best = tree;
+                            bestDistance = distance;
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Leave a tree out of the lookups for a while, because the lumberjack couldn't reach it.
+     *
+     * @param tree the base log of the tree.
+     */
+    public void markUnreachable(@NotNull BlockPos tree)
+    {
+        unreachable.put(tree, ticks + UNREACHABLE_TIMEOUT);
+    }
+
+    /**
+     * @return true once every chunk in range was scanned at least once.
+     */
+    public boolean isScanned()
+    {
+        return scanned;
+    }
+
+    /**
+     * @return the number of registered trees.
+     */
+    public int size()
+    {
+        return treesByChunk.values().stream().mapToInt(Set::size).sum();
+    }
+}
@@ -823,6 +823,7 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructure<JobMiner>
         if (mineNode.getStatus() == Node.NodeStatus.AVAILABLE)
         {
             mineNode.setStatus(Node.NodeStatus.IN_PROGRESS);
+            getOwnBuilding().markSaveNeeded();
         }
 
         int xOffSet = getXDistance(direction) / 2;
@@ -890,6 +891,7 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructure<JobMiner>
         if (mineNode.getStatus() == Node.NodeStatus.IN_PROGRESS)
         {
             mineNode.setStatus(Node.NodeStatus.COMPLETED);
+            getOwnBuilding().markSaveNeeded();
         }
 
         workingNode = null;
@@ -1192,6 +1194,7 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructure<JobMiner>
         {
             node.setDirectionNegZ(status);
         }
+        getOwnBuilding().markSaveNeeded();
     }
 
     private Node.NodeStatus getNodeStatusForDirection(@NotNull Node node, int direction)
@@ -1368,6 +1371,7 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructure<JobMiner>
 
                     @NotNull Node newnode = createNewNodeInDirectionFromNode(currentNode, dir);
                     currentLevel.addNode(newnode);
+                    getOwnBuilding().markSaveNeeded();
                     return newnode;
                 }
             }
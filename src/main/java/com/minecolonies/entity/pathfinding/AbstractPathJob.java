@@ -4,7 +4,6 @@ import com.minecolonies.blocks.BlockHutField;
 import com.minecolonies.configuration.Configurations;
 import com.minecolonies.util.Log;
 import net.minecraft.block.*;
-import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.pathfinding.Path;
@@ -12,7 +11,6 @@ import net.minecraft.pathfinding.PathPoint;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
-import net.minecraft.world.ChunkCache;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
@@ -20,6 +18,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 /**
  * Abstract class for Jobs that run in the multithreaded path finder.
@@ -35,6 +34,20 @@ public abstract class AbstractPathJob implements Callable<Path>
     private static final   int    SHIFT_WEST            = 2;
     private static final   int    SHIFT_NORTH           = 3;
     private static final   int    SHIFT_EAST            = 4;
+    //  Node key layout, same as BlockPos#toLong: 26 bits x, 12 bits y, 26 bits z
+    private static final   long   KEY_XZ_MASK           = (1L << 26) - 1;
+    private static final   long   KEY_Y_MASK            = (1L << 12) - 1;
+    private static final   int    KEY_X_SHIFT           = 38;
+    private static final   int    KEY_Y_SHIFT           = 26;
+    //  Longest straight line covered by a single jump of the jump point search
+    private static final   int    MAX_JUMP_DISTANCE     = 16;
+    //  Classification of blocks by the jump point search
+    private static final   int    CELL_BLOCKED          = 0;
+    private static final   int    CELL_FLAT             = 1;
+    private static final   int    CELL_SPECIAL          = 2;
+    //  The clock is only read every so many expanded nodes
+    private static final   int    BUDGET_CHECK_INTERVAL = 64;
+    private static final   long   NANOS_PER_MILLI       = 1_000_000L;
     @Nullable
     protected static Set<Node>    lastDebugNodesVisited;
     @Nullable
@@ -47,8 +60,14 @@ public abstract class AbstractPathJob implements Callable<Path>
     protected final  IBlockAccess world;
     protected final  PathResult   result;
     private final    int          maxRange;
-    private final Queue<Node>        nodesOpen                    = new PriorityQueue<>(500);
-    private final Map<Integer, Node> nodesVisited                 = new HashMap<>();
+    //  Search state, borrowed from the NodePool of the running thread for the duration of the search
+    @Nullable
+    private       NodePool           nodePool                     = null;
+    private       NodeHeap           nodesOpen                    = null;
+    private       NodeTable          nodesVisited                 = null;
+    //  Scratch positions for block probes, so no BlockPos is allocated per neighbour
+    private final BlockPos.MutableBlockPos walkPos               = new BlockPos.MutableBlockPos();
+    private final BlockPos.MutableBlockPos probePos              = new BlockPos.MutableBlockPos();
     //  Debug Rendering
     protected     boolean            debugDrawEnabled             = false;
     protected     int                debugSleepMs                 = 0;
@@ -60,10 +79,16 @@ public abstract class AbstractPathJob implements Callable<Path>
     protected     Set<Node>          debugNodesPath               = null;
     //  Job rules/configuration
     private       boolean            allowSwimming                = true;
-    //  May be faster, but can produce strange results
+    //  Jump over stretches of flat ground instead of expanding every block of it
     private       boolean            allowJumpPointSearchTypeWalk = false;
     private       int                totalNodesAdded              = 0;
     private       int                totalNodesVisited            = 0;
+    //  Budget, shared by all passes of the search: nodes expanded so far and the time it has to end by
+    private       int                expandedNodes                = 0;
+    private       long               deadlineNanos                = 0;
+    //  Scheduling
+    private       PathPriority       priority                     = PathPriority.NORMAL;
+    private       int                colonyId                     = 0;
 
     /**
      * Check if we can walk on a surface, drop into, or neither.
@@ -98,20 +123,27 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     public AbstractPathJob(World world, @NotNull BlockPos start, @NotNull BlockPos end, int range, PathResult result)
     {
-        int minX = Math.min(start.getX(), end.getX());
-        int minZ = Math.min(start.getZ(), end.getZ());
-        int maxX = Math.max(start.getX(), end.getX());
-        int maxZ = Math.max(start.getZ(), end.getZ());
+        this(WorldSnapshot.createView(world, start, end, range), start, range, result);
+    }
 
-        this.world = new ChunkCache(world, new BlockPos(minX, 0, minZ), new BlockPos(maxX, 256, maxZ), range);
+    /**
+     * AbstractPathJob constructor for a search in a view of the world which was already set up, for example to search
+     * parts of a longer path from a path thread.
+     *
+     * @param world  the blocks to path in, which must cover the range around the start and end.
+     * @param start  the start position from which to path from
+     * @param range  maximum path range
+     * @param result path result
+     */
+    protected AbstractPathJob(@NotNull IBlockAccess world, @NotNull BlockPos start, int range, PathResult result)
+    {
+        this.world = world;
 
         this.start = new BlockPos(start);
         this.maxRange = range;
 
         this.result = result;
 
-        allowJumpPointSearchTypeWalk = false;
-
         if (Configurations.pathfindingDebugDraw)
         {
             debugDrawEnabled = true;
@@ -122,9 +154,9 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
     }
 
-    private static boolean onLadderGoingUp(@NotNull Node currentNode, @NotNull BlockPos dPos)
+    private static boolean onLadderGoingUp(@NotNull Node currentNode, int dx, int dy, int dz)
     {
-        return currentNode.isLadder && (dPos.getY() >= 0 || dPos.getX() != 0 || dPos.getZ() != 0);
+        return currentNode.isLadder && (dy >= 0 || dx != 0 || dz != 0);
     }
 
     /**
@@ -146,7 +178,7 @@ public abstract class AbstractPathJob implements Callable<Path>
 
         if (entity.isInWater())
         {
-            while (bs.getMaterial().isLiquid())
+            while (BlockStateTable.isLiquid(bs))
             {
                 pos.setPos(pos.getX(), pos.getY() + 1, pos.getZ());
                 bs = entity.worldObj.getBlockState(pos);
@@ -187,7 +219,7 @@ public abstract class AbstractPathJob implements Callable<Path>
      * @param pos   the position.
      * @param p     the path.
      */
-    private static void setLadderFacing(@NotNull IBlockAccess world, BlockPos pos, @NotNull PathPointExtended p)
+    static void setLadderFacing(@NotNull IBlockAccess world, BlockPos pos, @NotNull PathPointExtended p)
     {
         if (world.getBlockState(pos).getBlock() instanceof BlockVine)
         {
@@ -231,34 +263,36 @@ public abstract class AbstractPathJob implements Callable<Path>
     }
 
     /**
-     * Generate a pseudo-unique key for identifying a given node by it's coordinates
-     * Encodes the lowest 12 bits of x,z and all useful bits of y.
-     * This creates unique keys for all blocks within a 4096x256x4096 cube, which is FAR
-     * bigger volume than one should attempt to pathfind within
+     * Generate a unique key for identifying a given node by it's coordinates.
+     * Packs the coordinates like BlockPos#toLong does, which is unique for every block of the world.
      *
-     * @param pos BlockPos to generate key from
-     * @return key for node in map
+     * @param x x coordinate
+     * @param y y coordinate
+     * @param z z coordinate
+     * @return key for node in the table
      */
-    private static int computeNodeKey(@NotNull BlockPos pos)
+    private static long computeNodeKey(int x, int y, int z)
     {
-        return ((pos.getX() & 0xFFF) << 20) |
-                 ((pos.getY() & 0xFF) << 12) |
-                 (pos.getZ() & 0xFFF);
+        return (((long) x & KEY_XZ_MASK) << KEY_X_SHIFT) |
+                 (((long) y & KEY_Y_MASK) << KEY_Y_SHIFT) |
+                 ((long) z & KEY_XZ_MASK);
     }
 
     /**
      * Compute the cost (immediate 'g' value) of moving from the parent space to the new space,
      *
      * @param parent     The parent node being moved from
-     * @param dPos       The delta from the parent to the new space; assumes dx,dy,dz in range of [-1..1]
+     * @param dx         The x delta from the parent to the new space; in range of [-1..1]
+     * @param dy         The y delta from the parent to the new space; in range of [-1..1]
+     * @param dz         The z delta from the parent to the new space; in range of [-1..1]
      * @param isSwimming true is the current node would require the citizen to swim.
      * @return cost to move from the parent to the new position
      */
-    protected static double computeCost(Node parent, @NotNull BlockPos dPos, boolean isSwimming)
+    protected static double computeCost(Node parent, int dx, int dy, int dz, boolean isSwimming)
     {
         double cost = 1D;
 
-        if (dPos.getY() != 0 && (dPos.getX() != 0 || dPos.getZ() != 0))
+        if (dy != 0 && (dx != 0 || dz != 0))
         {
             //  Tax the cost for jumping, dropping (warning: also taxes stairs)
             cost *= 1.1D;
@@ -288,9 +322,9 @@ public abstract class AbstractPathJob implements Callable<Path>
         return node != null && node.closed;
     }
 
-    private static boolean calculateSwimming(@NotNull IBlockAccess world, @NotNull BlockPos pos, @Nullable Node node)
+    private boolean calculateSwimming(int x, int y, int z, @Nullable Node node)
     {
-        return (node != null) ? node.isSwimming : world.getBlockState(pos.down()).getMaterial().isLiquid();
+        return (node != null) ? node.isSwimming : BlockStateTable.isLiquid(world.getBlockState(probePos.setPos(x, y - 1, z)));
     }
 
     public PathResult getResult()
@@ -298,6 +332,152 @@ public abstract class AbstractPathJob implements Callable<Path>
         return result;
     }
 
+    /**
+     * Get the key under which identical requests can share this job, see {@link Pathfinding#enqueue(AbstractPathJob)}.
+     *
+     * @return the key, or null if the job can't be shared.
+     */
+    @Nullable
+    PathKey getSharingKey()
+    {
+        return null;
+    }
+
+    /**
+     * Getter for the maximum path range.
+     *
+     * @return the range.
+     */
+    protected int getMaxRange()
+    {
+        return maxRange;
+    }
+
+    /**
+     * Getter for the number of nodes the search may expand, before it returns a partial path.
+     *
+     * @return the maximum number of nodes.
+     */
+    protected int getMaxNodes()
+    {
+        return Configurations.pathfindingMaxNodes;
+    }
+
+    /**
+     * Getter for the time the search may run, before it returns a partial path.
+     *
+     * @return the time in milliseconds.
+     */
+    protected long getMaxSearchTime()
+    {
+        return Configurations.pathfindingMaxSearchTimeMillis;
+    }
+
+    /**
+     * Start the clock of the search budget, if it isn't running yet.
+     */
+    protected void startBudget()
+    {
+        if (deadlineNanos == 0)
+        {
+            deadlineNanos = System.nanoTime() + getMaxSearchTime() * NANOS_PER_MILLI;
+        }
+    }
+
+    /**
+     * Start the clock of the search budget again, with the full search time.
+     */
+    protected void restartBudget()
+    {
+        restartBudget(1);
+    }
+
+    /**
+     * Start the clock of the search budget again, with a part of the search time.
+     *
+     * @param divisor the search time is divided by it.
+     */
+    protected void restartBudget(int divisor)
+    {
+        deadlineNanos = System.nanoTime() + getMaxSearchTime() * NANOS_PER_MILLI / divisor;
+    }
+
+    /**
+     * Let another job run against the deadline of this one, for searches which are part of this job.
+     *
+     * @param job the other job.
+     */
+    void shareDeadline(@NotNull AbstractPathJob job)
+    {
+        startBudget();
+        job.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * @return number of nodes the search expanded, over all of its passes.
+     */
+    int getExpandedNodes()
+    {
+        return expandedNodes;
+    }
+
+    /**
+     * Count an expanded node against the budget.
+     *
+     * @return true if the budget is used up.
+     */
+    private boolean isOutOfBudget()
+    {
+        ++expandedNodes;
+        if (expandedNodes > getMaxNodes())
+        {
+            return true;
+        }
+
+        return expandedNodes % BUDGET_CHECK_INTERVAL == 0 && System.nanoTime() - deadlineNanos > 0;
+    }
+
+    /**
+     * Getter for the priority of the job in the pathfinding queue.
+     *
+     * @return the priority.
+     */
+    public PathPriority getPriority()
+    {
+        return priority;
+    }
+
+    /**
+     * Setter for the priority of the job in the pathfinding queue.
+     *
+     * @param priority the priority to set.
+     */
+    public void setPriority(@NotNull PathPriority priority)
+    {
+        this.priority = priority;
+    }
+
+    /**
+     * Getter for the id of the colony the job is run for, 0 if it doesn't belong to a colony.
+     *
+     * @return the colony id.
+     */
+    public int getColonyId()
+    {
+        return colonyId;
+    }
+
+    /**
+     * Setter for the id of the colony the job is run for.
+     * Jobs are shared fairly between colonies in the pathfinding queue.
+     *
+     * @param colonyId the colony id.
+     */
+    public void setColonyId(int colonyId)
+    {
+        this.colonyId = colonyId;
+    }
+
     /**
      * Callable method for initiating asynchronous task
      *
@@ -325,6 +505,86 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     @Nullable
     protected Path search()
+    {
+        startBudget();
+        nodePool = NodePool.acquire();
+        nodesOpen = nodePool.getOpen();
+        nodesVisited = nodePool.getVisited();
+
+        try
+        {
+            Path path = searchNodes();
+            if (path != null && allowJumpPointSearchTypeWalk && !result.getPathReachesDestination() && !result.isPartial())
+            {
+                //  Jumps are bounded in length and may miss a way around a large open area, so retry with plain A*
+                allowJumpPointSearchTypeWalk = false;
+                restartSearch();
+                path = searchNodes();
+            }
+            onSearchFinished();
+            return path;
+        }
+        finally
+        {
+            nodePool.release();
+            nodePool = null;
+            nodesOpen = null;
+            nodesVisited = null;
+        }
+    }
+
+    /**
+     * Called when the search is done, while its nodes can still be looked at with {@link #forEachClosedNode(Consumer)}.
+     */
+    protected void onSearchFinished()
+    {
+        //  Can be overridden by jobs which keep more than the path.
+    }
+
+    /**
+     * Pass every node the search expanded to an action.
+     * Only valid during {@link #onSearchFinished()}, the nodes are reused afterwards.
+     *
+     * @param action the action.
+     */
+    protected final void forEachClosedNode(@NotNull Consumer<Node> action)
+    {
+        nodesVisited.forEach(node ->
+        {
+            if (node.closed)
+            {
+                action.accept(node);
+            }
+        });
+    }
+
+    /**
+     * Throw away all nodes of a finished search, to run it again from the start.
+     */
+    private void restartSearch()
+    {
+        nodePool.release();
+        nodePool = NodePool.acquire();
+        nodesOpen = nodePool.getOpen();
+        nodesVisited = nodePool.getVisited();
+        totalNodesAdded = 0;
+        totalNodesVisited = 0;
+
+        if (debugDrawEnabled)
+        {
+            debugNodesVisited.clear();
+            debugNodesNotVisited.clear();
+            debugNodesPath.clear();
+        }
+    }
+
+    /**
+     * Run the A* loop on the borrowed search state.
+     *
+     * @return Path of a path to the given location, a best-effort, or null
+     */
+    @Nullable
+    private Path searchNodes()
     {
         Node bestNode = getAndSetupStartNode();
 
@@ -367,6 +627,17 @@ public abstract class AbstractPathJob implements Callable<Path>
                 bestNodeResultScore = nodeResultScore;
             }
 
+            if (isOutOfBudget())
+            {
+                //  Return the path to the best node so far; if it leads anywhere, the search can go on from its end
+                result.setPartial(bestNode.parent != null);
+                if (Configurations.pathfindingDebugVerbosity > DEBUG_VERBOSITY_NONE)
+                {
+                    Log.getLogger().info(String.format("Search budget used up after %d nodes", expandedNodes));
+                }
+                break;
+            }
+
             if (currentNode.steps <= maxRange)
             {
                 walkCurrentNode(currentNode);
@@ -423,52 +694,308 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     private void walkCurrentNode(@NotNull Node currentNode)
     {
-        BlockPos dPos = new BlockPos(0, 0, 0);
+        int dx = 0;
+        int dy = 0;
+        int dz = 0;
         if (currentNode.parent != null)
         {
-            dPos = currentNode.pos.subtract(currentNode.parent.pos);
+            dx = currentNode.pos.getX() - currentNode.parent.pos.getX();
+            dy = currentNode.pos.getY() - currentNode.parent.pos.getY();
+            dz = currentNode.pos.getZ() - currentNode.parent.pos.getZ();
         }
 
         //  On a ladder, we can go 1 straight-up
-        if (onLadderGoingUp(currentNode, dPos))
+        if (onLadderGoingUp(currentNode, dx, dy, dz))
         {
-            walk(currentNode, new BlockPos(0, 1, 0));
+            walk(currentNode, 0, 1, 0);
         }
 
         //  We can also go down 1, if the lower block is a ladder
-        if (onLadderGoingDown(currentNode, dPos))
+        if (onLadderGoingDown(currentNode, dx, dy, dz))
         {
-            walk(currentNode, new BlockPos(0, -1, 0));
+            walk(currentNode, 0, -1, 0);
         }
 
+        final boolean jump = allowJumpPointSearchTypeWalk && canJumpFrom(currentNode);
+
         // N
-        if (dPos.getZ() <= 0)
+        if (dz <= 0)
         {
-            walk(currentNode, new BlockPos(0, 0, -1));
+            walkOrJump(currentNode, 0, -1, jump);
         }
 
         // E
-        if (dPos.getX() >= 0)
+        if (dx >= 0)
         {
-            walk(currentNode, new BlockPos(1, 0, 0));
+            walkOrJump(currentNode, 1, 0, jump);
         }
 
         // S
-        if (dPos.getZ() >= 0)
+        if (dz >= 0)
         {
-            walk(currentNode, new BlockPos(0, 0, 1));
+            walkOrJump(currentNode, 0, 1, jump);
         }
 
         // W
-        if (dPos.getX() <= 0)
+        if (dx <= 0)
         {
-            walk(currentNode, new BlockPos(-1, 0, 0));
+            walkOrJump(currentNode, -1, 0, jump);
         }
     }
 
-    private boolean onLadderGoingDown(@NotNull Node currentNode, @NotNull BlockPos dPos)
+    /**
+     * Move one block in a horizontal direction, or jump to the next jump point in that direction.
+     *
+     * @param parent node being moved from.
+     * @param dx     x direction, in range of [-1..1].
+     * @param dz     z direction, in range of [-1..1].
+     * @param jump   true if the jump point search may be used from the parent.
+     */
+    private void walkOrJump(@NotNull Node parent, int dx, int dz, boolean jump)
     {
-        return (dPos.getY() <= 0 || dPos.getX() != 0 || dPos.getZ() != 0) && isLadder(currentNode.pos.down());
+        if (!jump)
+        {
+            walk(parent, dx, 0, dz);
+            return;
+        }
+
+        final int distance = jump(parent, dx, dz);
+        if (distance > 0)
+        {
+            addJumpPoint(parent, dx, dz, distance);
+        }
+        else if (distance == 0)
+        {
+            //  The very next block needs a ladder, a jump, a drop or a swim: plain A* handles that
+            walk(parent, dx, 0, dz);
+        }
+    }
+
+    /**
+     * Check if the jump point search can continue from a node: the citizen has to stand on solid, dry ground.
+     *
+     * @param node the node.
+     * @return true if jumps may start at the node.
+     */
+    private boolean canJumpFrom(@NotNull Node node)
+    {
+        return !node.isLadder && !node.isSwimming
+                 && isWalkableSurface(world.getBlockState(probePos.setPos(node.pos.getX(), node.pos.getY() - 1, node.pos.getZ()))) == SurfaceType.WALKABLE;
+    }
+
+    /**
+     * Follow the flat ground in a straight line from a node, until a jump point is found.
+     * A jump point is a block where the search has to branch out: the destination, a block where a side opens up
+     * (forced neighbour), or the last flat block before a ladder, liquid, step or drop.
+     * Jumps along the z axis additionally scan every row they cross along the x axis, so the paths skipped
+     * by the jump can still be found by turning at one of its jump points.
+     *
+     * @param origin node the jump starts at.
+     * @param dx     x direction, in range of [-1..1].
+     * @param dz     z direction, in range of [-1..1].
+     * @return distance to the jump point, 0 if the first block has to be walked normally, or -1 for a dead end.
+     */
+    private int jump(@NotNull Node origin, int dx, int dz)
+    {
+        final int y = origin.pos.getY();
+        int x = origin.pos.getX();
+        int z = origin.pos.getZ();
+
+        //  Offset to the blocks at either side of the line
+        final int sideX = dz;
+        final int sideZ = dx;
+        int left = getCellState(origin, x + sideX, y, z + sideZ);
+        int right = getCellState(origin, x - sideX, y, z - sideZ);
+
+        for (int distance = 1; distance <= MAX_JUMP_DISTANCE; ++distance)
+        {
+            x += dx;
+            z += dz;
+
+            final int cell = getCellState(origin, x, y, z);
+            if (cell == CELL_BLOCKED)
+            {
+                return -1;
+            }
+
+            if (cell == CELL_SPECIAL)
+            {
+                return distance - 1;
+            }
+
+            if (isJumpPointDestination(walkPos.setPos(x, y, z)))
+            {
+                return distance;
+            }
+
+            final int newLeft = getCellState(origin, x + sideX, y, z + sideZ);
+            final int newRight = getCellState(origin, x - sideX, y, z - sideZ);
+            if (isForcedNeighbour(left, newLeft) || isForcedNeighbour(right, newRight))
+            {
+                return distance;
+            }
+            left = newLeft;
+            right = newRight;
+
+            if (dz != 0 && (scanRow(origin, x, y, z, 1) || scanRow(origin, x, y, z, -1)))
+            {
+                return distance;
+            }
+        }
+
+        //  Long enough, continue from here
+        return MAX_JUMP_DISTANCE;
+    }
+
+    /**
+     * Scan a row along the x axis for a jump point, like {@link #jump(Node, int, int)} without adding any node.
+     * Rows longer than the maximum jump distance are assumed to have no jump point.
+     *
+     * @param origin node the jump which scans the row started at.
+     * @param startX x coordinate the scan starts at.
+     * @param y      y coordinate of the row.
+     * @param z      z coordinate of the row.
+     * @param dx     x direction, -1 or 1.
+     * @return true if the row has a jump point.
+     */
+    private boolean scanRow(@NotNull Node origin, int startX, int y, int z, int dx)
+    {
+        int x = startX;
+        int north = getCellState(origin, x, y, z - 1);
+        int south = getCellState(origin, x, y, z + 1);
+
+        for (int distance = 1; distance <= MAX_JUMP_DISTANCE; ++distance)
+        {
+            x += dx;
+
+            final int cell = getCellState(origin, x, y, z);
+            if (cell == CELL_BLOCKED)
+            {
+                return false;
+            }
+
+            if (cell == CELL_SPECIAL || isJumpPointDestination(walkPos.setPos(x, y, z)))
+            {
+                return true;
+            }
+
+            final int newNorth = getCellState(origin, x, y, z - 1);
+            final int newSouth = getCellState(origin, x, y, z + 1);
+            if (isForcedNeighbour(north, newNorth) || isForcedNeighbour(south, newSouth))
+            {
+                return true;
+            }
+            north = newNorth;
+            south = newSouth;
+        }
+
+        return false;
+    }
+
+    /**
+     * A side block forces a jump point if it can be entered and differs from the side block before it.
+     *
+     * @param previous state of the side block one step back.
+     * @param current  state of the side block.
+     * @return true if it is a forced neighbour.
+     */
+    private static boolean isForcedNeighbour(int previous, int current)
+    {
+        return current != CELL_BLOCKED && current != previous;
+    }
+
+    /**
+     * Classify a block for the jump point search.
+     *
+     * @param origin node the jump started at.
+     * @param x      x coordinate.
+     * @param y      y coordinate the jump runs at.
+     * @param z      z coordinate.
+     * @return CELL_FLAT if it can be walked into at the same height on dry ground, CELL_BLOCKED if it can't be entered
+     * at all, CELL_SPECIAL otherwise.
+     */
+    private int getCellState(@NotNull Node origin, int x, int y, int z)
+    {
+        final int height = getGroundHeight(origin, walkPos.setPos(x, y, z));
+        if (height < 0)
+        {
+            return CELL_BLOCKED;
+        }
+
+        if (height != y
+              || isLadder(probePos.setPos(x, y, z))
+              || isWalkableSurface(world.getBlockState(probePos.setPos(x, y - 1, z))) != SurfaceType.WALKABLE)
+        {
+            return CELL_SPECIAL;
+        }
+
+        return CELL_FLAT;
+    }
+
+    /**
+     * Add or update the node at the end of a jump.
+     * Every block of the jump is a level step on dry land, so the cost is the distance.
+     *
+     * @param parent   node the jump started at.
+     * @param dx       x direction, in range of [-1..1].
+     * @param dz       z direction, in range of [-1..1].
+     * @param distance length of the jump.
+     */
+    private void addJumpPoint(@NotNull Node parent, int dx, int dz, int distance)
+    {
+        final int x = parent.pos.getX() + dx * distance;
+        final int y = parent.pos.getY();
+        final int z = parent.pos.getZ() + dz * distance;
+
+        final long nodeKey = computeNodeKey(x, y, z);
+        Node node = nodesVisited.get(nodeKey);
+        if (nodeClosed(node))
+        {
+            return;
+        }
+
+        final double heuristic = computeHeuristic(walkPos.setPos(x, y, z));
+        final double cost = parent.cost + distance * computeCost(parent, dx, 0, dz, false);
+        final double score = cost + heuristic;
+
+        if (node != null)
+        {
+            if (updateCurrentNode(parent, node, heuristic, cost, score))
+            {
+                return;
+            }
+
+            nodesOpen.decreaseKey(node);
+        }
+        else
+        {
+            node = createNode(parent, x, y, z, nodeKey, false, heuristic, cost, score);
+            nodesOpen.push(node);
+        }
+
+        node.steps = parent.steps + distance;
+    }
+
+    /**
+     * Number of path points from the parent of a node to the node, more than one for a jump.
+     *
+     * @param node the node, which has a parent.
+     * @return the number of points.
+     */
+    private static int getSegmentLength(@NotNull Node node)
+    {
+        if (node.pos.getY() != node.parent.pos.getY())
+        {
+            return 1;
+        }
+
+        return Math.max(1, Math.abs(node.pos.getX() - node.parent.pos.getX()) + Math.abs(node.pos.getZ() - node.parent.pos.getZ()));
+    }
+
+    private boolean onLadderGoingDown(@NotNull Node currentNode, int dx, int dy, int dz)
+    {
+        return (dy <= 0 || dx != 0 || dz != 0)
+                 && isLadder(probePos.setPos(currentNode.pos.getX(), currentNode.pos.getY() - 1, currentNode.pos.getZ()));
     }
 
     private void handleDebugDraw()
@@ -487,20 +1014,20 @@ public abstract class AbstractPathJob implements Callable<Path>
     @NotNull
     private Node getAndSetupStartNode()
     {
-        @NotNull Node startNode = new Node(start,
-                                            computeHeuristic(start));
+        final double heuristic = computeHeuristic(start);
+        @NotNull Node startNode = obtainNode().set(null, start.getX(), start.getY(), start.getZ(), 0, heuristic, heuristic);
 
         if (isLadder(start))
         {
             startNode.isLadder = true;
         }
-        else if (world.getBlockState(start).getMaterial().isLiquid())
+        else if (BlockStateTable.isLiquid(world.getBlockState(start)))
         {
             startNode.isSwimming = true;
         }
 
-        nodesOpen.offer(startNode);
-        nodesVisited.put(computeNodeKey(start), startNode);
+        nodesOpen.push(startNode);
+        nodesVisited.put(computeNodeKey(start.getX(), start.getY(), start.getZ()), startNode);
 
         ++totalNodesAdded;
 
@@ -523,7 +1050,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         @Nullable Node node = targetNode;
         while (node.parent != null)
         {
-            ++pathLength;
+            pathLength += getSegmentLength(node);
             node = node.parent;
         }
 
@@ -565,6 +1092,16 @@ public abstract class AbstractPathJob implements Callable<Path>
 
             points[pathLength] = p;
 
+            //  Fill in the straight line of blocks skipped by a jump
+            final int segmentLength = getSegmentLength(node);
+            final int stepX = Integer.signum(node.parent.pos.getX() - node.pos.getX());
+            final int stepZ = Integer.signum(node.parent.pos.getZ() - node.pos.getZ());
+            for (int i = 1; i < segmentLength; ++i)
+            {
+                --pathLength;
+                points[pathLength] = new PathPointExtended(new BlockPos(node.pos.getX() + stepX * i, node.pos.getY(), node.pos.getZ() + stepZ * i));
+            }
+
             nextInPath = node;
             node = node.parent;
         }
@@ -618,6 +1155,18 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     protected abstract boolean isAtDestination(Node n);
 
+    /**
+     * Return true if the given position is a viable final destination, so a jump of the jump point search has to stop
+     * there. Jobs which enable the jump point search have to override this to match {@link #isAtDestination(Node)}.
+     *
+     * @param pos position to test
+     * @return true if the position is a viable destination
+     */
+    protected boolean isJumpPointDestination(@NotNull BlockPos pos)
+    {
+        return false;
+    }
+
     /**
      * Compute a 'result score' for the Node; if no destination is determined, the node that had the highest
      * 'result' score is used.
@@ -632,31 +1181,35 @@ public abstract class AbstractPathJob implements Callable<Path>
      * move and adding or updating a node, as appropriate
      *
      * @param parent Node being walked from
-     * @param dPos   Delta from parent, expected in range of [-1..1]
+     * @param dx     x delta from parent, expected in range of [-1..1]
+     * @param dy     y delta from parent, expected in range of [-1..1]
+     * @param dz     z delta from parent, expected in range of [-1..1]
      * @return true if a node was added or updated when attempting to move in the given direction
      */
-    protected final boolean walk(@NotNull Node parent, @NotNull BlockPos dPos)
+    protected final boolean walk(@NotNull Node parent, int dx, int dy, int dz)
     {
-        BlockPos pos = parent.pos.add(dPos);
+        final int x = parent.pos.getX() + dx;
+        int y = parent.pos.getY() + dy;
+        final int z = parent.pos.getZ() + dz;
 
         //  Cheap test to perform before doing a 'y' test
         //  Has this node been visited?
-        int nodeKey = computeNodeKey(pos);
+        long nodeKey = computeNodeKey(x, y, z);
         Node node = nodesVisited.get(nodeKey);
 
         //  Can we traverse into this node?  Fix the y up
-        int newY = getGroundHeight(parent, pos);
+        int newY = getGroundHeight(parent, walkPos.setPos(x, y, z));
 
         if (checkPreconditions(node, newY))
         {
             return false;
         }
 
-        if (pos.getY() != newY)
+        if (y != newY)
         {
             //  Has this node been visited?
-            pos = new BlockPos(pos.getX(), newY, pos.getZ());
-            nodeKey = computeNodeKey(pos);
+            y = newY;
+            nodeKey = computeNodeKey(x, y, z);
             node = nodesVisited.get(nodeKey);
             if (nodeClosed(node))
             {
@@ -665,12 +1218,11 @@ public abstract class AbstractPathJob implements Callable<Path>
             }
         }
 
-
-        boolean isSwimming = calculateSwimming(world, pos, node);
+        boolean isSwimming = calculateSwimming(x, y, z, node);
 
         //  Cost may have changed due to a jump up or drop
-        double stepCost = computeCost(parent, dPos, isSwimming);
-        double heuristic = computeHeuristic(pos);
+        double stepCost = computeCost(parent, dx, dy, dz, isSwimming);
+        double heuristic = computeHeuristic(walkPos.setPos(x, y, z));
         double cost = parent.cost + stepCost;
         double score = cost + heuristic;
 
@@ -680,42 +1232,41 @@ public abstract class AbstractPathJob implements Callable<Path>
             {
                 return false;
             }
+
+            nodesOpen.decreaseKey(node);
         }
         else
         {
-            node = createNode(parent, pos, nodeKey, isSwimming, heuristic, cost, score);
+            node = createNode(parent, x, y, z, nodeKey, isSwimming, heuristic, cost, score);
+            nodesOpen.push(node);
         }
 
-        nodesOpen.offer(node);
-
-        //  Jump Point Search-ish optimization:
-        // If this node was a (heuristic-based) improvement on our parent,
-        // lets go another step in the same direction...
-        performJumpPointSearch(parent, dPos, node);
-
         return true;
     }
 
-    private void performJumpPointSearch(@NotNull Node parent, @NotNull BlockPos dPos, @NotNull Node node)
+    /**
+     * Get a fresh Node from the pool of the running thread.
+     * Nodes shown by the debug renderer must outlive the search, so they are never pooled.
+     *
+     * @return an uninitialized node.
+     */
+    @NotNull
+    private Node obtainNode()
     {
-        if (allowJumpPointSearchTypeWalk && node.heuristic <= parent.heuristic)
-        {
-            walk(node, dPos);
-        }
+        return debugDrawEnabled ? new Node() : nodePool.obtain();
     }
 
     @NotNull
-    private Node createNode(Node parent, @NotNull BlockPos pos, int nodeKey, boolean isSwimming, double heuristic, double cost, double score)
+    private Node createNode(Node parent, int x, int y, int z, long nodeKey, boolean isSwimming, double heuristic, double cost, double score)
     {
-        Node node;
-        node = new Node(parent, pos, cost, heuristic, score);
+        final Node node = obtainNode().set(parent, x, y, z, cost, heuristic, score);
         nodesVisited.put(nodeKey, node);
         if (debugDrawEnabled)
         {
             debugNodesNotVisited.add(node);
         }
 
-        if (isLadder(pos))
+        if (isLadder(probePos.setPos(x, y, z)))
         {
             node.isLadder = true;
         }
@@ -737,7 +1288,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return true;
         }
 
-        if (!nodesOpen.remove(node))
+        if (!nodesOpen.contains(node))
         {
             return true;
         }
@@ -774,13 +1325,14 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
 
         //  Do we have something to stand on in the target space?
-        final IBlockState below = world.getBlockState(pos.down());
-        if (isWalkableSurface(below) == SurfaceType.WALKABLE)
+        final IBlockState below = world.getBlockState(probePos.setPos(pos.getX(), pos.getY() - 1, pos.getZ()));
+        final SurfaceType belowSurface = isWalkableSurface(below);
+        if (belowSurface == SurfaceType.WALKABLE)
         {
             //  Level path
             return pos.getY();
         }
-        else if(isWalkableSurface(below) == SurfaceType.NOT_PASSABLE)
+        else if(belowSurface == SurfaceType.NOT_PASSABLE)
         {
             return -1;
         }
@@ -792,12 +1344,12 @@ public abstract class AbstractPathJob implements Callable<Path>
     {
         boolean isSwimming = parent != null && parent.isSwimming;
 
-        if (below.getMaterial().isLiquid())
+        if (BlockStateTable.isLiquid(below))
         {
             return handleInLiquid(pos, below, isSwimming);
         }
 
-        if (isLadder(below.getBlock(), pos.down()))
+        if (isLadder(below, probePos.setPos(pos.getX(), pos.getY() - 1, pos.getZ())))
         {
             return pos.getY();
         }
@@ -814,8 +1366,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return -1;
         }
 
-        final BlockPos down = pos.down(2);
-        final IBlockState below = world.getBlockState(down);
+        final IBlockState below = world.getBlockState(probePos.setPos(pos.getX(), pos.getY() - 2, pos.getZ()));
         if (isWalkableSurface(below) == SurfaceType.WALKABLE)
         {
             //  Level path
@@ -833,7 +1384,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return pos.getY();
         }
 
-        if (allowSwimming && below.getMaterial() == Material.WATER)
+        if (allowSwimming && BlockStateTable.isWater(below))
         {
             //  This is water, and we are allowed to swim
             return pos.getY();
@@ -853,13 +1404,13 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
 
         //  Check for headroom in the target space
-        if (!isPassable(pos.up(2)))
+        if (!isPassable(probePos.setPos(pos.getX(), pos.getY() + 2, pos.getZ())))
         {
             return -1;
         }
 
         //  Check for jump room from the origin space
-        if (!isPassable(parent.pos.up(2)))
+        if (!isPassable(probePos.setPos(parent.pos.getX(), parent.pos.getY() + 2, parent.pos.getZ())))
         {
             return -1;
         }
@@ -870,15 +1421,15 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     private boolean checkHeadBlock(@Nullable Node parent, @NotNull BlockPos pos)
     {
-        if (!isPassable(pos.up()))
+        if (!isPassable(probePos.setPos(pos.getX(), pos.getY() + 1, pos.getZ())))
         {
             return true;
         }
 
         if (parent != null)
         {
-            final IBlockState hereState = world.getBlockState(parent.pos.down());
-            if (hereState.getMaterial().isLiquid() && !isPassable(pos))
+            final IBlockState hereState = world.getBlockState(probePos.setPos(parent.pos.getX(), parent.pos.getY() - 1, parent.pos.getZ()));
+            if (BlockStateTable.isLiquid(hereState) && !isPassable(pos))
             {
                 return true;
             }
@@ -894,21 +1445,8 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     protected boolean isPassable(@NotNull IBlockState block)
     {
-        if (block.getMaterial() != Material.AIR)
-        {
-            if (block.getMaterial().blocksMovement())
-            {
-                return block.getBlock() instanceof BlockDoor ||
-                         //  block instanceof BlockTrapDoor ||
-                         block.getBlock() instanceof BlockFenceGate;
-            }
-            else if (block.getMaterial().isLiquid())
-            {
-                return false;
-            }
-        }
-
-        return true;
+        //  Doors and fence gates can be passed, trapdoors can't
+        return BlockStateTable.isPassable(block);
     }
 
     protected boolean isPassable(BlockPos pos)
@@ -925,16 +1463,12 @@ public abstract class AbstractPathJob implements Callable<Path>
     @NotNull
     protected SurfaceType isWalkableSurface(@NotNull IBlockState blockState)
     {
-        final Block block = blockState.getBlock();
-        if(block instanceof BlockFence
-                || block instanceof BlockFenceGate
-                || block instanceof BlockWall
-                || block instanceof BlockHutField)
+        if (BlockStateTable.isFence(blockState))
         {
             return SurfaceType.NOT_PASSABLE;
         }
 
-        if(blockState.getMaterial().isSolid())
+        if (BlockStateTable.isSolid(blockState))
         {
             return SurfaceType.WALKABLE;
         }
@@ -942,6 +1476,17 @@ public abstract class AbstractPathJob implements Callable<Path>
         return SurfaceType.DROPABLE;
     }
 
+    /**
+     * Check if a block can be stood upon, for the hierarchical planner which has no access to the SurfaceType.
+     *
+     * @param blockState Block to check
+     * @return true if it is walkable.
+     */
+    boolean isSolidGround(@NotNull IBlockState blockState)
+    {
+        return isWalkableSurface(blockState) == SurfaceType.WALKABLE;
+    }
+
     /**
      * Is the block a ladder?
      *
@@ -951,12 +1496,43 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     protected boolean isLadder(@NotNull Block block, BlockPos pos)
     {
-        return block.isLadder(this.world.getBlockState(pos), world, pos, null);
+        return isLadder(world.getBlockState(pos), pos);
+    }
+
+    /**
+     * Is the block a ladder?
+     *
+     * @param blockState state of the block.
+     * @param pos        location of the block.
+     * @return true if the block is a ladder.
+     */
+    protected boolean isLadder(@NotNull IBlockState blockState, BlockPos pos)
+    {
+        return BlockStateTable.isLadder(blockState, world, pos);
     }
 
     protected boolean isLadder(BlockPos pos)
     {
-        return isLadder(world.getBlockState(pos).getBlock(), pos);
+        return isLadder(world.getBlockState(pos), pos);
+    }
+
+    /**
+     * Getter for the allowJumpPointSearchTypeWalk.
+     * @return true if flat ground is crossed with the jump point search.
+     */
+    protected boolean isAllowedJumpPointSearchTypeWalk()
+    {
+        return allowJumpPointSearchTypeWalk;
+    }
+
+    /**
+     * Setter for the allowJumpPointSearchTypeWalk.
+     * Ladders, liquids, steps and drops are still handled by plain A*.
+     * @param allowJumpPointSearchTypeWalk the value to set.
+     */
+    protected void setAllowJumpPointSearchTypeWalk(boolean allowJumpPointSearchTypeWalk)
+    {
+        this.allowJumpPointSearchTypeWalk = allowJumpPointSearchTypeWalk;
     }
 
     /**
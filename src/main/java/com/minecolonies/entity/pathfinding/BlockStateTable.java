@@ -0,0 +1,276 @@
+package com.minecolonies.entity.pathfinding;
+
+import com.minecolonies.blocks.BlockHutField;
+import com.minecolonies.util.Log;
+import net.minecraft.block.*;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * What the path search needs to know about a block state, looked up by its state id instead of asking the block.
+ * <p>
+ * The table is built from the block registry once all mods are loaded, and again when the ids are remapped.
+ * States whose answer can't be known without their position (blocks which decide themselves if they are a ladder),
+ * or which share their id with a state that answers differently, are marked to be asked every time.
+ * <p>
+ * Read from the pathfinding threads, the table is only ever replaced as a whole.
+ */
+public final class BlockStateTable
+{
+    //  Set for every state in the table, 0 means it has to be classified on the spot
+    private static final int CLASSIFIED     = 1;
+    //  Doesn't block movement, or is a door or fence gate
+    private static final int PASSABLE       = 1 << 1;
+    //  Solid material, can be stood upon
+    private static final int SOLID          = 1 << 2;
+    //  Fence, wall or field, can neither be stood upon nor dropped onto
+    private static final int FENCE          = 1 << 3;
+    private static final int LIQUID         = 1 << 4;
+    private static final int WATER          = 1 << 5;
+    private static final int LADDER         = 1 << 6;
+    //  The block decides itself if it is a ladder, depending on where it is
+    private static final int DYNAMIC_LADDER = 1 << 7;
+    private static final int DOOR           = 1 << 8;
+
+    private static volatile short[] flagsById = new short[0];
+
+    private BlockStateTable()
+    {
+        //  Hides default constructor.
+    }
+
+    /**
+     * Classify all registered block states.
+     * Has to be called again when the state ids change.
+     */
+    public static void rebuild()
+    {
+        @NotNull final Map<Class<?>, Integer> ladderFlags = new HashMap<>();
+        @NotNull final Map<Integer, Integer> flags = new HashMap<>();
+        int maxId = -1;
+
+        for (@NotNull final Block block : Block.REGISTRY)
+        {
+            final int ladder = ladderFlags.computeIfAbsent(block.getClass(), BlockStateTable::getLadderFlags);
+            for (@NotNull final IBlockState state : block.getBlockState().getValidStates())
+            {
+                final int id = Block.BLOCK_STATE_IDS.get(state);
+                if (id < 0)
+                {
+                    continue;
+                }
+
+                final int stateFlags = classify(state) | ladder;
+                @Nullable final Integer previous = flags.put(id, stateFlags);
+                if (previous != null && previous != stateFlags)
+                {
+                    //  States sharing this id disagree, ask them every time
+                    flags.put(id, 0);
+                }
+                maxId = Math.max(maxId, id);
+            }
+        }
+
+        @NotNull final short[] table = new short[maxId + 1];
+        for (@NotNull final Map.Entry<Integer, Integer> entry : flags.entrySet())
+        {
+            table[entry.getKey()] = (short) entry.getValue().intValue();
+        }
+        flagsById = table;
+
+        Log.getLogger().info("Classified " + flags.size() + " block states for the pathfinding");
+    }
+
+    /**
+     * Get the classification of a state, from the table if possible.
+     *
+     * @param state the state.
+     * @return the flags.
+     */
+    private static int getFlags(@NotNull IBlockState state)
+    {
+        final short[] table = flagsById;
+        final int id = Block.BLOCK_STATE_IDS.get(state);
+        if (id >= 0 && id < table.length && table[id] != 0)
+        {
+            return table[id];
+        }
+
+        return classify(state) | getLadderFlags(state.getBlock().getClass());
+    }
+
+    /**
+     * Classify a state by its material and block type.
+     *
+     * @param state the state.
+     * @return the flags, without the ladder ones.
+     */
+    private static int classify(@NotNull IBlockState state)
+    {
+        final Block block = state.getBlock();
+        final Material material = state.getMaterial();
+        int flags = CLASSIFIED;
+
+        if (block instanceof BlockDoor || block instanceof BlockFenceGate)
+        {
+            flags |= DOOR;
+        }
+
+        if (material == Material.AIR || (material.blocksMovement() ? (flags & DOOR) != 0 : !material.isLiquid()))
+        {
+            flags |= PASSABLE;
+        }
+
+        if (block instanceof BlockFence || block instanceof BlockFenceGate || block instanceof BlockWall || block instanceof BlockHutField)
+        {
+            flags |= FENCE;
+        }
+        else if (material.isSolid())
+        {
+            flags |= SOLID;
+        }
+
+        if (material.isLiquid())
+        {
+            flags |= LIQUID;
+        }
+
+        if (material == Material.WATER)
+        {
+            flags |= WATER;
+        }
+
+        return flags;
+    }
+
+    /**
+     * Find out how a type of block answers if it is a ladder: never (not overridden), always (vanilla ladders and vines)
+     * or depending on its position (overridden by a mod).
+     *
+     * @param blockClass the class of the block.
+     * @return LADDER, DYNAMIC_LADDER or 0.
+     */
+    private static int getLadderFlags(@NotNull Class<?> blockClass)
+    {
+        final Class<?> declaringClass;
+        try
+        {
+            declaringClass = blockClass.getMethod("isLadder", IBlockState.class, IBlockAccess.class, BlockPos.class, EntityLivingBase.class).getDeclaringClass();
+        }
+        catch (NoSuchMethodException e)
+        {
+            Log.getLogger().warn("Can't find out if " + blockClass.getName() + " is a ladder", e);
+            return DYNAMIC_LADDER;
+        }
+
+        if (declaringClass == Block.class)
+        {
+            return 0;
+        }
+
+        if (declaringClass == BlockLadder.class || declaringClass == BlockVine.class)
+        {
+            return LADDER;
+        }
+
+        return DYNAMIC_LADDER;
+    }
+
+    /**
+     * @param state the state.
+     * @return true if the state doesn't block movement.
+     */
+    public static boolean isPassable(@NotNull IBlockState state)
+    {
+        return (getFlags(state) & PASSABLE) != 0;
+    }
+
+    /**
+     * @param state the state.
+     * @return true if the state can be stood upon.
+     */
+    public static boolean isSolid(@NotNull IBlockState state)
+    {
+        return (getFlags(state) & SOLID) != 0;
+    }
+
+    /**
+     * @param state the state.
+     * @return true if the state is a fence or alike, which can't be stood upon nor dropped onto.
+     */
+    public static boolean isFence(@NotNull IBlockState state)
+    {
+        return (getFlags(state) & FENCE) != 0;
+    }
+
+    /**
+     * @param state the state.
+     * @return true if the state is a liquid.
+     */
+    public static boolean isLiquid(@NotNull IBlockState state)
+    {
+        return (getFlags(state) & LIQUID) != 0;
+    }
+
+    /**
+     * @param state the state.
+     * @return true if the state is water.
+     */
+    public static boolean isWater(@NotNull IBlockState state)
+    {
+        return (getFlags(state) & WATER) != 0;
+    }
+
+    /**
+     * @param state the state.
+     * @return true if the state is a door or fence gate.
+     */
+    public static boolean isDoor(@NotNull IBlockState state)
+    {
+        return (getFlags(state) & DOOR) != 0;
+    }
+
+    /**
+     * Check if two states are the same to the path searches, like a door which was opened or a crop which grew.
+     * States which decide themselves if they are a ladder never count as the same as another one.
+     *
+     * @param first  a state.
+     * @param second another state.
+     * @return true if a path through one of them is a path through the other as well.
+     */
+    public static boolean isSameForMovement(@NotNull IBlockState first, @NotNull IBlockState second)
+    {
+        if (first == second)
+        {
+            return true;
+        }
+        final int flags = getFlags(first);
+        return flags == getFlags(second) && (flags & DYNAMIC_LADDER) == 0;
+    }
+
+    /**
+     * Is the state a ladder? Only asks the block if it decides that itself.
+     *
+     * @param state the state.
+     * @param world the world it is in.
+     * @param pos   the position of the state.
+     * @return true if it can be climbed.
+     */
+    public static boolean isLadder(@NotNull IBlockState state, @NotNull IBlockAccess world, @NotNull BlockPos pos)
+    {
+        final int flags = getFlags(state);
+        if ((flags & DYNAMIC_LADDER) != 0)
+        {
+            return state.getBlock().isLadder(state, world, pos, null);
+        }
+        return (flags & LADDER) != 0;
+    }
+}
@@ -0,0 +1,908 @@
+package com.minecolonies.entity.pathfinding;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Abstract graph over the chunks of a colony, used to plan long paths hierarchically (HPA*).
+ * <p>
+ * The nodes are portals: pairs of blocks on either side of a chunk border, where a citizen can walk from one chunk
+ * into the other and back. The portals of a chunk are connected by their walking distance inside that chunk, and a
+ * portal is connected to its twin on the other side of the border by a single step.
+ * <p>
+ * Chunks are scanned lazily by the path jobs which need them, and scanned again after one of their blocks changed.
+ * Every change counts up the generation of the graph, and a chunk is only scanned from a view of the world which is
+ * at least as new as its last change, so a job whose view is older can't put back what the change replaced. Jobs
+ * scan without a lock; when two of them scan the same chunk, the newer scan is kept.
+ * The graph only covers a vertical window around the colony center.
+ */
+public final class ChunkPortalGraph
+{
+    private static final Map<Integer, ChunkPortalGraph> GRAPHS = new ConcurrentHashMap<>();
+
+    private static final int   CHUNK_SHIFT    = 4;
+    private static final int   CHUNK_SIZE     = 16;
+    private static final int   CHUNK_MASK     = CHUNK_SIZE - 1;
+    //  A chunk is scanned together with a border of one block around it
+    private static final int   SCAN_SIZE      = CHUNK_SIZE + 2;
+    //  Vertical window of the graph, relative to the colony center
+    private static final int   BELOW_CENTER   = 24;
+    private static final int   ABOVE_CENTER   = 40;
+    //  Entrances at least this wide get a portal at both ends instead of one in the middle
+    private static final int   WIDE_ENTRANCE  = 6;
+    //  Give up on the abstract search after this many portals
+    private static final int   MAX_EXPANSIONS = 10000;
+    //  North, east, south, west
+    private static final int[] DIR_X          = {0, 1, 0, -1};
+    private static final int[] DIR_Z          = {-1, 0, 1, 0};
+
+    private final int                 dimension;
+    @NotNull
+    private final BlockPos            center;
+    private final int                 radius;
+    private final int                 minY;
+    private final int                 height;
+    //  Counted up by the server thread with every change in the area
+    private final AtomicLong          generation = new AtomicLong();
+    //  Generation of the last change per chunk
+    private final Map<Long, Long>     changedAt  = new ConcurrentHashMap<>();
+    private final Map<Long, Cluster>  clusters   = new ConcurrentHashMap<>();
+    //  Borders between a chunk and its neighbour in +x, resp. +z, keyed by the chunk
+    private final Map<Long, Border>   bordersX   = new ConcurrentHashMap<>();
+    private final Map<Long, Border>   bordersZ   = new ConcurrentHashMap<>();
+
+    private ChunkPortalGraph(int dimension, @NotNull BlockPos center, int radius)
+    {
+        this.dimension = dimension;
+        this.center = center;
+        this.radius = radius;
+        this.minY = Math.max(1, center.getY() - BELOW_CENTER);
+        this.height = Math.min(254, center.getY() + ABOVE_CENTER) - minY;
+    }
+
+    /**
+     * Get the graph of a colony, creating it if needed.
+     *
+     * @param colonyId  the colony id.
+     * @param dimension the dimension of the colony.
+     * @param center    the center of the colony.
+     * @param radius    the radius of the colony, in blocks.
+     * @return the graph.
+     */
+    @NotNull
+    public static ChunkPortalGraph forColony(int colonyId, int dimension, @NotNull BlockPos center, int radius)
+    {
+        return GRAPHS.compute(colonyId, (id, graph) ->
+                                          graph != null && graph.dimension == dimension && graph.center.equals(center) && graph.radius == radius
+                                            ? graph
+                                            : new ChunkPortalGraph(dimension, center, radius));
+    }
+
+    /**
+     * Mark the parts of all graphs affected by a changed block to be scanned again.
+     *
+     * @param dimension the dimension of the block.
+     * @param pos       the position of the block.
+     */
+    public static void onBlockChanged(int dimension, @NotNull BlockPos pos)
+    {
+        for (@NotNull final ChunkPortalGraph graph : GRAPHS.values())
+        {
+            if (graph.dimension == dimension)
+            {
+                graph.markDirty(pos);
+            }
+        }
+    }
+
+    /**
+     * Forget the graphs of an unloaded dimension.
+     *
+     * @param dimension the dimension.
+     */
+    public static void onWorldUnload(int dimension)
+    {
+        GRAPHS.values().removeIf(graph -> graph.dimension == dimension);
+    }
+
+    /**
+     * Forget the graph of an unloaded colony.
+     *
+     * @param colonyId the colony id.
+     */
+    public static void onColonyUnload(int colonyId)
+    {
+        GRAPHS.remove(colonyId);
+    }
+
+    /**
+     * Get the generation of the graph, to be taken right after a job created its view of the world.
+     * The view has every change up to this generation.
+     *
+     * @return the number of changes in the area so far.
+     */
+    long getGeneration()
+    {
+        return generation.get();
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ)
+    {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private void markDirty(@NotNull BlockPos pos)
+    {
+        final int x = pos.getX();
+        final int z = pos.getZ();
+        if (pos.getY() < minY - 2 || pos.getY() > minY + height + 2
+              || Math.abs(x - center.getX()) > radius + CHUNK_SIZE || Math.abs(z - center.getZ()) > radius + CHUNK_SIZE)
+        {
+            return;
+        }
+
+        final int chunkX = x >> CHUNK_SHIFT;
+        final int chunkZ = z >> CHUNK_SHIFT;
+        final long changed = generation.incrementAndGet();
+        changedAt.put(chunkKey(chunkX, chunkZ), changed);
+
+        //  Blocks at the edge of a chunk are part of the scan of the neighbour as well
+        if ((x & CHUNK_MASK) == 0)
+        {
+            changedAt.put(chunkKey(chunkX - 1, chunkZ), changed);
+        }
+        else if ((x & CHUNK_MASK) == CHUNK_MASK)
+        {
+            changedAt.put(chunkKey(chunkX + 1, chunkZ), changed);
+        }
+
+        if ((z & CHUNK_MASK) == 0)
+        {
+            changedAt.put(chunkKey(chunkX, chunkZ - 1), changed);
+        }
+        else if ((z & CHUNK_MASK) == CHUNK_MASK)
+        {
+            changedAt.put(chunkKey(chunkX, chunkZ + 1), changed);
+        }
+    }
+
+    private long getLastChange(int chunkX, int chunkZ)
+    {
+        @Nullable final Long changed = changedAt.get(chunkKey(chunkX, chunkZ));
+        return changed == null ? 0 : changed;
+    }
+
+    /**
+     * Get the generation a cluster has to be from to be used: the last change of the chunk, or of a neighbour, whose
+     * border portals the cluster shares.
+     */
+    private long getRequiredGeneration(int chunkX, int chunkZ)
+    {
+        long required = getLastChange(chunkX, chunkZ);
+        for (int dir = 0; dir < DIR_X.length; ++dir)
+        {
+            required = Math.max(required, getLastChange(chunkX + DIR_X[dir], chunkZ + DIR_Z[dir]));
+        }
+        return required;
+    }
+
+    private boolean isInArea(int chunkX, int chunkZ)
+    {
+        final int minX = chunkX << CHUNK_SHIFT;
+        final int minZ = chunkZ << CHUNK_SHIFT;
+        return minX + CHUNK_MASK >= center.getX() - radius && minX <= center.getX() + radius
+                 && minZ + CHUNK_MASK >= center.getZ() - radius && minZ <= center.getZ() + radius;
+    }
+
+    /**
+     * Plan a path on the graph.
+     *
+     * @param job            the job the plan is made for, which defines what is passable and what can be stood upon.
+     * @param world          the blocks the job searches in, used to scan missing chunks.
+     * @param viewGeneration the generation of the graph when the view of the job was created.
+     * @param from           start position.
+     * @param to             destination.
+     * @param range          range of the job; only chunks within that range of the start and destination are in its world.
+     * @return the portals at which the path leaves a chunk, in order, or null if the graph can't plan this path.
+     */
+    @Nullable
+    List<BlockPos> plan(
+                         @NotNull AbstractPathJob job,
+                         @NotNull IBlockAccess world,
+                         long viewGeneration,
+                         @NotNull BlockPos from,
+                         @NotNull BlockPos to,
+                         int range)
+    {
+        return new Planner(job, world, viewGeneration, from, to, range).plan();
+    }
+
+    /**
+     * A single search on the graph.
+     */
+    private final class Planner
+    {
+        @NotNull
+        private final AbstractPathJob         job;
+        @NotNull
+        private final IBlockAccess            world;
+        private final long                    viewGeneration;
+        @NotNull
+        private final BlockPos                from;
+        @NotNull
+        private final BlockPos                to;
+        private final int                     minChunkX;
+        private final int                     minChunkZ;
+        private final int                     maxChunkX;
+        private final int                     maxChunkZ;
+        private final Map<Portal, Integer>    costs   = new IdentityHashMap<>();
+        private final Map<Portal, Portal>     parents = new IdentityHashMap<>();
+        private final PriorityQueue<OpenNode> open    = new PriorityQueue<>();
+        //  Each chunk is looked up once, so a scan of another job can't change a cluster during the search
+        private final Map<Long, Cluster>      used    = new HashMap<>();
+
+        private Planner(@NotNull AbstractPathJob job, @NotNull IBlockAccess world, long viewGeneration, @NotNull BlockPos from, @NotNull BlockPos to, int range)
+        {
+            this.job = job;
+            this.world = world;
+            this.viewGeneration = viewGeneration;
+            this.from = from;
+            this.to = to;
+            this.minChunkX = (Math.min(from.getX(), to.getX()) - range) >> CHUNK_SHIFT;
+            this.minChunkZ = (Math.min(from.getZ(), to.getZ()) - range) >> CHUNK_SHIFT;
+            this.maxChunkX = (Math.max(from.getX(), to.getX()) + range) >> CHUNK_SHIFT;
+            this.maxChunkZ = (Math.max(from.getZ(), to.getZ()) + range) >> CHUNK_SHIFT;
+        }
+
+        private boolean isUsable(int chunkX, int chunkZ)
+        {
+            return chunkX >= minChunkX && chunkX <= maxChunkX && chunkZ >= minChunkZ && chunkZ <= maxChunkZ && isInArea(chunkX, chunkZ);
+        }
+
+        @Nullable
+        private List<BlockPos> plan()
+        {
+            final int startChunkX = from.getX() >> CHUNK_SHIFT;
+            final int startChunkZ = from.getZ() >> CHUNK_SHIFT;
+            final int goalChunkX = to.getX() >> CHUNK_SHIFT;
+            final int goalChunkZ = to.getZ() >> CHUNK_SHIFT;
+            if ((startChunkX == goalChunkX && startChunkZ == goalChunkZ)
+                  || !isUsable(startChunkX, startChunkZ) || !isUsable(goalChunkX, goalChunkZ))
+            {
+                return null;
+            }
+
+            @Nullable final Cluster startCluster = getCluster(startChunkX, startChunkZ);
+            @Nullable final Cluster goalCluster = getCluster(goalChunkX, goalChunkZ);
+            if (startCluster == null || goalCluster == null)
+            {
+                return null;
+            }
+
+            final int[] startCosts = new ChunkScan(job, world, startChunkX, startChunkZ).distancesToPortals(startCluster, from, false);
+            final int[] goalCosts = new ChunkScan(job, world, goalChunkX, goalChunkZ).distancesToPortals(goalCluster, to, true);
+            if (startCosts == null || goalCosts == null)
+            {
+                return null;
+            }
+
+            for (int i = 0; i < startCosts.length; ++i)
+            {
+                if (startCosts[i] >= 0)
+                {
+                    relax(null, startCluster.portals.get(i), startCosts[i]);
+                }
+            }
+
+            Portal bestLast = null;
+            int bestCost = Integer.MAX_VALUE;
+            int expansions = 0;
+
+            while (!open.isEmpty() && expansions < MAX_EXPANSIONS)
+            {
+                final OpenNode node = open.poll();
+                if (node.score >= bestCost)
+                {
+                    break;
+                }
+
+                final Portal portal = node.portal;
+                if (node.cost > costs.get(portal))
+                {
+                    //  Outdated entry
+                    continue;
+                }
+                ++expansions;
+
+                @Nullable final Cluster cluster = getCluster(portal.chunkX, portal.chunkZ);
+                if (cluster == null)
+                {
+                    //  Changed after the view of the job was created
+                    return null;
+                }
+
+                //  A twin from a border another job scanned again after the neighbour cluster was taken leads nowhere
+                final int index = cluster.indexOf(portal);
+                if (index < 0)
+                {
+                    continue;
+                }
+
+                if (portal.chunkX == goalChunkX && portal.chunkZ == goalChunkZ)
+                {
+                    final int goalIndex = goalCluster.indexOf(portal);
+                    if (goalIndex >= 0 && goalCosts[goalIndex] >= 0 && node.cost + goalCosts[goalIndex] < bestCost)
+                    {
+                        bestCost = node.cost + goalCosts[goalIndex];
+                        bestLast = portal;
+                    }
+                }
+
+                final int[] edges = cluster.costs[index];
+                for (int i = 0; i < edges.length; ++i)
+                {
+                    if (edges[i] > 0)
+                    {
+                        relax(portal, cluster.portals.get(i), node.cost + edges[i]);
+                    }
+                }
+
+                final Portal twin = portal.twin;
+                if (isUsable(twin.chunkX, twin.chunkZ))
+                {
+                    relax(portal, twin, node.cost + 1);
+                }
+            }
+
+            if (bestLast == null)
+            {
+                return null;
+            }
+
+            //  Walk back, keeping the portals where the path crosses into the next chunk
+            final LinkedList<BlockPos> exits = new LinkedList<>();
+            Portal next = null;
+            for (Portal portal = bestLast; portal != null; portal = parents.get(portal))
+            {
+                if (next != null && next == portal.twin)
+                {
+                    exits.addFirst(portal.pos);
+                }
+                next = portal;
+            }
+
+            return exits;
+        }
+
+        private void relax(@Nullable Portal parent, @NotNull Portal portal, int cost)
+        {
+            final Integer known = costs.get(portal);
+            if (known != null && known <= cost)
+            {
+                return;
+            }
+
+            costs.put(portal, cost);
+            parents.put(portal, parent);
+
+            final int heuristic = Math.abs(portal.pos.getX() - to.getX()) + Math.abs(portal.pos.getZ() - to.getZ());
+            open.add(new OpenNode(portal, cost, cost + heuristic));
+        }
+
+        /**
+         * Get the cluster of a chunk, scanning it if needed.
+         *
+         * @param chunkX chunk x.
+         * @param chunkZ chunk z.
+         * @return the cluster, or null if the chunk changed after the view of the job was created.
+         */
+        @Nullable
+        private Cluster getCluster(int chunkX, int chunkZ)
+        {
+            final long key = chunkKey(chunkX, chunkZ);
+            if (used.containsKey(key))
+            {
+                return used.get(key);
+            }
+
+            @Nullable final Cluster cluster = findCluster(key, chunkX, chunkZ);
+            used.put(key, cluster);
+            return cluster;
+        }
+
+        @Nullable
+        private Cluster findCluster(long key, int chunkX, int chunkZ)
+        {
+            final long required = getRequiredGeneration(chunkX, chunkZ);
+            @Nullable final Cluster cluster = clusters.get(key);
+            if (cluster != null && cluster.generation >= required)
+            {
+                return cluster;
+            }
+
+            if (viewGeneration < required)
+            {
+                return null;
+            }
+
+            @Nullable final Cluster scanned = new ChunkScan(job, world, chunkX, chunkZ).buildCluster(viewGeneration);
+            if (scanned == null)
+            {
+                return null;
+            }
+            return clusters.merge(key, scanned, ChunkPortalGraph::newer);
+        }
+    }
+
+    /**
+     * Entry of the open set of the abstract search.
+     */
+    private static final class OpenNode implements Comparable<OpenNode>
+    {
+        @NotNull
+        private final Portal portal;
+        private final int    cost;
+        private final int    score;
+
+        private OpenNode(@NotNull Portal portal, int cost, int score)
+        {
+            this.portal = portal;
+            this.cost = cost;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(@NotNull OpenNode o)
+        {
+            return Integer.compare(score, o.score);
+        }
+    }
+
+    @NotNull
+    private static Cluster newer(@NotNull Cluster known, @NotNull Cluster scanned)
+    {
+        return known.generation >= scanned.generation ? known : scanned;
+    }
+
+    @NotNull
+    private static Border newer(@NotNull Border known, @NotNull Border scanned)
+    {
+        return known.generation >= scanned.generation ? known : scanned;
+    }
+
+    /**
+     * One side of a walkable crossing between two chunks.
+     */
+    private static final class Portal
+    {
+        @NotNull
+        private final BlockPos pos;
+        private final int      chunkX;
+        private final int      chunkZ;
+        //  Other side of the border, set before the portal is shared
+        private       Portal   twin;
+
+        private Portal(@NotNull BlockPos pos)
+        {
+            this.pos = pos;
+            this.chunkX = pos.getX() >> CHUNK_SHIFT;
+            this.chunkZ = pos.getZ() >> CHUNK_SHIFT;
+        }
+    }
+
+    /**
+     * The portals on a border between two chunks, both sides of each.
+     */
+    private static final class Border
+    {
+        @NotNull
+        private final Portal[] portals;
+        //  Generation of the graph the border was scanned at, or before
+        private final long     generation;
+
+        private Border(@NotNull Portal[] portals, long generation)
+        {
+            this.portals = portals;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * The portals of a chunk, and the walking distances between them.
+     */
+    private static final class Cluster
+    {
+        @NotNull
+        private final List<Portal>         portals;
+        @NotNull
+        private final Map<Portal, Integer> indices = new IdentityHashMap<>();
+        //  costs[a][b] is the distance from portal a to portal b, -1 if b can't be reached and 0 for a itself
+        @NotNull
+        private final int[][]              costs;
+        //  Generation of the graph the chunk was scanned at, or before
+        private final long                 generation;
+
+        private Cluster(@NotNull List<Portal> portals, @NotNull int[][] costs, long generation)
+        {
+            this.portals = portals;
+            this.costs = costs;
+            this.generation = generation;
+            for (int i = 0; i < portals.size(); ++i)
+            {
+                indices.put(portals.get(i), i);
+            }
+        }
+
+        /**
+         * @param portal a portal.
+         * @return the index of the portal in this cluster, or -1 if it isn't one of its portals.
+         */
+        private int indexOf(@NotNull Portal portal)
+        {
+            @Nullable final Integer index = indices.get(portal);
+            return index == null ? -1 : index;
+        }
+    }
+
+    /**
+     * Snapshot of what can be walked in a chunk and the block around it, within the vertical window of the graph.
+     * Uses the same walking rules as the block by block search: a citizen stands in two passable blocks on top of a solid
+     * one, and can step up or drop one block.
+     */
+    private final class ChunkScan
+    {
+        private final int    chunkX;
+        private final int    chunkZ;
+        private final int    originX;
+        private final int    originZ;
+        //  Layers minY - 1 up to minY + height + 1
+        private final int    layers;
+        private final BitSet passable = new BitSet();
+        private final BitSet ground   = new BitSet();
+
+        private ChunkScan(@NotNull AbstractPathJob job, @NotNull IBlockAccess world, int chunkX, int chunkZ)
+        {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.originX = chunkX << CHUNK_SHIFT;
+            this.originZ = chunkZ << CHUNK_SHIFT;
+            this.layers = height + 3;
+
+            final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+            for (int lx = -1; lx <= CHUNK_SIZE; ++lx)
+            {
+                for (int lz = -1; lz <= CHUNK_SIZE; ++lz)
+                {
+                    for (int ly = -1; ly <= height + 1; ++ly)
+                    {
+                        final IBlockState state = world.getBlockState(pos.setPos(originX + lx, minY + ly, originZ + lz));
+                        final int index = index(lx, ly, lz);
+                        if (job.isPassable(state))
+                        {
+                            passable.set(index);
+                        }
+                        if (job.isSolidGround(state))
+                        {
+                            ground.set(index);
+                        }
+                    }
+                }
+            }
+        }
+
+        private int index(int lx, int ly, int lz)
+        {
+            return ((lx + 1) * SCAN_SIZE + (lz + 1)) * layers + (ly + 1);
+        }
+
+        private boolean isStandable(int lx, int ly, int lz)
+        {
+            return ly >= 0 && ly < height
+                     && passable.get(index(lx, ly, lz)) && passable.get(index(lx, ly + 1, lz)) && ground.get(index(lx, ly - 1, lz));
+        }
+
+        /**
+         * Check a single step between two horizontally adjacent standable blocks: level, jump up one or drop one.
+         */
+        private boolean canStep(int lx, int ly, int lz, int nx, int ny, int nz)
+        {
+            if (!isStandable(nx, ny, nz))
+            {
+                return false;
+            }
+
+            if (ny == ly)
+            {
+                return true;
+            }
+
+            if (ny == ly + 1)
+            {
+                //  Room to jump
+                return passable.get(index(lx, ly + 2, lz));
+            }
+
+            //  Room to walk over the edge before dropping
+            return ny == ly - 1 && passable.get(index(nx, ny + 2, nz));
+        }
+
+        /**
+         * Scan the chunk: find or reuse the portals on its four borders and connect them.
+         *
+         * @param viewGeneration the generation of the graph when the view of the job was created.
+         * @return the cluster, or null if a border changed after the view was created.
+         */
+        @Nullable
+        private Cluster buildCluster(long viewGeneration)
+        {
+            final List<Portal> portals = new ArrayList<>();
+            for (int dir = 0; dir < DIR_X.length; ++dir)
+            {
+                final int neighbourX = chunkX + DIR_X[dir];
+                final int neighbourZ = chunkZ + DIR_Z[dir];
+                final boolean positive = DIR_X[dir] + DIR_Z[dir] > 0;
+                final Map<Long, Border> borders = DIR_X[dir] != 0 ? bordersX : bordersZ;
+                final long key = positive ? chunkKey(chunkX, chunkZ) : chunkKey(neighbourX, neighbourZ);
+                final long required = Math.max(getLastChange(chunkX, chunkZ), getLastChange(neighbourX, neighbourZ));
+
+                Border border = borders.get(key);
+                if (border == null || border.generation < required)
+                {
+                    if (viewGeneration < required)
+                    {
+                        return null;
+                    }
+                    border = borders.merge(key, new Border(findCrossings(dir), viewGeneration), ChunkPortalGraph::newer);
+                }
+
+                for (@NotNull final Portal portal : border.portals)
+                {
+                    //  The border holds both sides, keep the ones in this chunk
+                    if (portal.chunkX == chunkX && portal.chunkZ == chunkZ)
+                    {
+                        portals.add(portal);
+                    }
+                }
+            }
+
+            final int[][] costs = new int[portals.size()][];
+            for (int i = 0; i < portals.size(); ++i)
+            {
+                final int[] distances = walk(Collections.singletonList(portals.get(i).pos), false);
+                costs[i] = new int[portals.size()];
+                for (int j = 0; j < portals.size(); ++j)
+                {
+                    costs[i][j] = distances[interiorIndex(portals.get(j).pos)];
+                }
+            }
+
+            return new Cluster(portals, costs, viewGeneration);
+        }
+
+        /**
+         * Find the crossings over one border of the chunk, and create a pair of portals per entrance.
+         *
+         * @param dir direction of the border.
+         * @return both sides of every portal on the border.
+         */
+        @NotNull
+        private Portal[] findCrossings(int dir)
+        {
+            final int dx = DIR_X[dir];
+            final int dz = DIR_Z[dir];
+            final List<Portal> result = new ArrayList<>();
+            //  Open entrances: the crossings of every run of neighbouring columns at about the same height
+            List<List<int[]>> runs = new ArrayList<>();
+
+            for (int i = 0; i < CHUNK_SIZE; ++i)
+            {
+                final int lx = dx != 0 ? (dx > 0 ? CHUNK_MASK : 0) : i;
+                final int lz = dz != 0 ? (dz > 0 ? CHUNK_MASK : 0) : i;
+                final List<List<int[]>> nextRuns = new ArrayList<>();
+
+                for (int ly = 0; ly < height; ++ly)
+                {
+                    final int ny = findCrossing(lx, ly, lz, lx + dx, lz + dz);
+                    if (ny == Integer.MIN_VALUE)
+                    {
+                        continue;
+                    }
+
+                    final int[] crossing = {lx, ly, lz, ny};
+                    List<int[]> run = null;
+                    for (final List<int[]> open : runs)
+                    {
+                        if (Math.abs(open.get(open.size() - 1)[1] - ly) <= 1)
+                        {
+                            run = open;
+                            break;
+                        }
+                    }
+
+                    if (run == null)
+                    {
+                        run = new ArrayList<>();
+                    }
+                    else
+                    {
+                        runs.remove(run);
+                    }
+                    run.add(crossing);
+                    nextRuns.add(run);
+                }
+
+                closeRuns(runs, dx, dz, result);
+                runs = nextRuns;
+            }
+            closeRuns(runs, dx, dz, result);
+
+            return result.toArray(new Portal[result.size()]);
+        }
+
+        /**
+         * Find the height at which a standable block can be crossed into the neighbouring column and back.
+         *
+         * @return the y of the neighbouring block, or Integer.MIN_VALUE if there is no crossing.
+         */
+        private int findCrossing(int lx, int ly, int lz, int nx, int nz)
+        {
+            if (!isStandable(lx, ly, lz))
+            {
+                return Integer.MIN_VALUE;
+            }
+
+            for (final int ny : new int[] {ly, ly + 1, ly - 1})
+            {
+                if (canStep(lx, ly, lz, nx, ny, nz) && canStep(nx, ny, nz, lx, ly, lz))
+                {
+                    return ny;
+                }
+            }
+            return Integer.MIN_VALUE;
+        }
+
+        private void closeRuns(@NotNull List<List<int[]>> runs, int dx, int dz, @NotNull List<Portal> result)
+        {
+            for (@NotNull final List<int[]> run : runs)
+            {
+                if (run.size() >= WIDE_ENTRANCE)
+                {
+                    addPortalPair(run.get(0), dx, dz, result);
+                    addPortalPair(run.get(run.size() - 1), dx, dz, result);
+                }
+                else
+                {
+                    addPortalPair(run.get(run.size() / 2), dx, dz, result);
+                }
+            }
+        }
+
+        private void addPortalPair(@NotNull int[] crossing, int dx, int dz, @NotNull List<Portal> result)
+        {
+            final Portal inside = new Portal(new BlockPos(originX + crossing[0], minY + crossing[1], originZ + crossing[2]));
+            final Portal outside = new Portal(new BlockPos(originX + crossing[0] + dx, minY + crossing[3], originZ + crossing[2] + dz));
+            inside.twin = outside;
+            outside.twin = inside;
+            result.add(inside);
+            result.add(outside);
+        }
+
+        private int interiorIndex(int lx, int ly, int lz)
+        {
+            return (lx * CHUNK_SIZE + lz) * height + ly;
+        }
+
+        private int interiorIndex(@NotNull BlockPos pos)
+        {
+            return interiorIndex(pos.getX() - originX, pos.getY() - minY, pos.getZ() - originZ);
+        }
+
+        /**
+         * Breadth first walk inside the chunk.
+         *
+         * @param sources positions to start from, inside the chunk.
+         * @param reverse true to follow the steps backwards, giving the distance from every block to the sources.
+         * @return distance per interior index, -1 where not reached.
+         */
+        @NotNull
+        private int[] walk(@NotNull Collection<BlockPos> sources, boolean reverse)
+        {
+            final int[] distances = new int[CHUNK_SIZE * CHUNK_SIZE * height];
+            Arrays.fill(distances, -1);
+            final int[] queue = new int[distances.length];
+            int head = 0;
+            int tail = 0;
+
+            for (@NotNull final BlockPos source : sources)
+            {
+                final int index = interiorIndex(source);
+                if (distances[index] < 0)
+                {
+                    distances[index] = 0;
+                    queue[tail++] = index;
+                }
+            }
+
+            while (head < tail)
+            {
+                final int index = queue[head++];
+                final int ly = index % height;
+                final int lz = (index / height) % CHUNK_SIZE;
+                final int lx = index / height / CHUNK_SIZE;
+
+                for (int dir = 0; dir < DIR_X.length; ++dir)
+                {
+                    final int nx = lx + DIR_X[dir];
+                    final int nz = lz + DIR_Z[dir];
+                    if (nx < 0 || nx >= CHUNK_SIZE || nz < 0 || nz >= CHUNK_SIZE)
+                    {
+                        continue;
+                    }
+
+                    for (int ny = ly - 1; ny <= ly + 1; ++ny)
+                    {
+                        if (ny < 0 || ny >= height)
+                        {
+                            continue;
+                        }
+
+                        final int next = interiorIndex(nx, ny, nz);
+                        if (distances[next] < 0
+                              && (reverse ? canStep(nx, ny, nz, lx, ly, lz) : canStep(lx, ly, lz, nx, ny, nz)))
+                        {
+                            distances[next] = distances[index] + 1;
+                            queue[tail++] = next;
+                        }
+                    }
+                }
+            }
+
+            return distances;
+        }
+
+        /**
+         * Get the walking distances between a position and the portals of the chunk.
+         * The walk starts at every standable block next to the position, so destinations which can't be stood in work too.
+         *
+         * @param cluster the cluster of this chunk.
+         * @param pos     the position, inside the chunk.
+         * @param reverse true for the distances from the portals to the position.
+         * @return distance per portal, -1 if not reachable, or null if there is nothing to stand on near the position.
+         */
+        @Nullable
+        private int[] distancesToPortals(@NotNull Cluster cluster, @NotNull BlockPos pos, boolean reverse)
+        {
+            final List<BlockPos> sources = new ArrayList<>();
+            for (final BlockPos candidate : BlockPos.getAllInBox(pos.add(-1, -1, -1), pos.add(1, 1, 1)))
+            {
+                final int lx = candidate.getX() - originX;
+                final int ly = candidate.getY() - minY;
+                final int lz = candidate.getZ() - originZ;
+                if (lx >= 0 && lx < CHUNK_SIZE && lz >= 0 && lz < CHUNK_SIZE && isStandable(lx, ly, lz))
+                {
+                    sources.add(candidate);
+                }
+            }
+
+            if (sources.isEmpty())
+            {
+                return null;
+            }
+
+            final int[] distances = walk(sources, reverse);
+            final int[] result = new int[cluster.portals.size()];
+            for (int i = 0; i < result.length; ++i)
+            {
+                result[i] = distances[interiorIndex(cluster.portals.get(i).pos)];
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.minecolonies.entity.pathfinding;
+
+import net.minecraft.pathfinding.Path;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The next step towards a destination, for every block a flood from that destination reached.
+ * A citizen anywhere in the field follows the steps instead of searching a path.
+ * <p>
+ * Filled on a path thread by {@link PathJobFlowField}, never changed afterwards.
+ */
+final class FlowField
+{
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    //  A step is stored as (dx + 1) * 9 + (dy + 1) * 3 + (dz + 1) + 1, 0 marks an empty slot
+    private static final int  STEP_MASK       = 0x1F;
+    private static final int  LADDER          = 0x20;
+
+    @NotNull
+    private final BlockPos destination;
+    private final long[]   keys;
+    private final byte[]   steps;
+    private final int      mask;
+    private       int      size = 0;
+    private       int      minX = Integer.MAX_VALUE;
+    private       int      minY = Integer.MAX_VALUE;
+    private       int      minZ = Integer.MAX_VALUE;
+    private       int      maxX = Integer.MIN_VALUE;
+    private       int      maxY = Integer.MIN_VALUE;
+    private       int      maxZ = Integer.MIN_VALUE;
+
+    /**
+     * Create an empty field.
+     *
+     * @param destination where the steps lead to.
+     * @param capacity    number of blocks which will be added.
+     */
+    FlowField(@NotNull BlockPos destination, int capacity)
+    {
+        this.destination = destination;
+        //  Keep the load factor at 1/2 at most
+        final int tableSize = Integer.highestOneBit(Math.max(capacity, 1) * 4 - 1);
+        keys = new long[tableSize];
+        steps = new byte[tableSize];
+        mask = tableSize - 1;
+    }
+
+    private static int slot(final long key)
+    {
+        final long h = key * HASH_MULTIPLIER;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int find(final long key)
+    {
+        int i = slot(key) & mask;
+        while (steps[i] != 0 && keys[i] != key)
+        {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /**
+     * Add a block, with the block to walk to from it.
+     *
+     * @param pos      the block.
+     * @param next     the next block, one step away, or the block itself for the destination.
+     * @param isLadder true if the block is a ladder.
+     */
+    void add(@NotNull BlockPos pos, @NotNull BlockPos next, boolean isLadder)
+    {
+        final int step = (next.getX() - pos.getX() + 1) * 9 + (next.getY() - pos.getY() + 1) * 3 + (next.getZ() - pos.getZ() + 1) + 1;
+        final int i = find(pos.toLong());
+        if (steps[i] == 0)
+        {
+            ++size;
+        }
+        keys[i] = pos.toLong();
+        steps[i] = (byte) (step | (isLadder ? LADDER : 0));
+
+        minX = Math.min(minX, pos.getX());
+        minY = Math.min(minY, pos.getY());
+        minZ = Math.min(minZ, pos.getZ());
+        maxX = Math.max(maxX, pos.getX());
+        maxY = Math.max(maxY, pos.getY());
+        maxZ = Math.max(maxZ, pos.getZ());
+    }
+
+    /**
+     * @param pos a block.
+     * @return true if the flood reached the block.
+     */
+    boolean contains(@NotNull BlockPos pos)
+    {
+        return steps[find(pos.toLong())] != 0;
+    }
+
+    /**
+     * Check if a changed block can make a step of the field impossible: it is one of the blocks, the ground below one,
+     * or the space for the head above one.
+     *
+     * @param pos the changed block.
+     * @return true if the field has to be dropped.
+     */
+    boolean isAffectedBy(@NotNull BlockPos pos)
+    {
+        if (pos.getX() < minX || pos.getX() > maxX || pos.getZ() < minZ || pos.getZ() > maxZ
+              || pos.getY() < minY - 1 || pos.getY() > maxY + 1)
+        {
+            return false;
+        }
+        return contains(pos) || contains(pos.up()) || contains(pos.down());
+    }
+
+    /**
+     * Follow the steps from a start to the destination.
+     *
+     * @param start the start, where the entity stands.
+     * @param world the world, to look up the facing of ladders.
+     * @return the path, without the start, or null if the flood didn't reach the start.
+     */
+    @Nullable
+    Path createPath(@NotNull BlockPos start, @NotNull IBlockAccess world)
+    {
+        int current = steps[find(start.toLong())];
+        if (current == 0)
+        {
+            return null;
+        }
+
+        @NotNull final List<PathPointExtended> points = new ArrayList<>();
+        BlockPos pos = start;
+        //  Every block is visited once at most, the steps can't run in a circle
+        while (!pos.equals(destination) && points.size() <= size)
+        {
+            final BlockPos next = nextOf(pos, current);
+            final int nextStep = steps[find(next.toLong())];
+            if (nextStep == 0)
+            {
+                return null;
+            }
+
+            //  On a ladder when climbing it, or when just having climbed off it, like the searched paths
+            @NotNull final PathPointExtended point = new PathPointExtended(next);
+            final BlockPos after = nextOf(next, nextStep);
+            if ((nextStep & LADDER) != 0 && !after.equals(next) && after.getX() == next.getX() && after.getZ() == next.getZ())
+            {
+                point.isOnLadder = true;
+                if (after.getY() > next.getY())
+                {
+                    AbstractPathJob.setLadderFacing(world, next, point);
+                }
+            }
+            else if ((current & LADDER) != 0 && pos.getX() == next.getX() && pos.getZ() == next.getZ())
+            {
+                point.isOnLadder = true;
+            }
+            points.add(point);
+
+            pos = next;
+            current = nextStep;
+        }
+
+        if (!pos.equals(destination))
+        {
+            return null;
+        }
+        return new Path(points.toArray(new PathPointExtended[points.size()]));
+    }
+
+    @NotNull
+    private static BlockPos nextOf(@NotNull BlockPos pos, int stored)
+    {
+        final int step = (stored & STEP_MASK) - 1;
+        return pos.add(step / 9 - 1, (step / 3) % 3 - 1, step % 3 - 1);
+    }
+
+    /**
+     * @return where the steps lead to.
+     */
+    @NotNull
+    BlockPos getDestination()
+    {
+        return destination;
+    }
+
+    /**
+     * @return number of blocks in the field.
+     */
+    int size()
+    {
+        return size;
+    }
+}
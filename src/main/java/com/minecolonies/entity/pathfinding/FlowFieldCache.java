@@ -0,0 +1,455 @@
+package com.minecolonies.entity.pathfinding;
+
+import com.minecolonies.configuration.Configurations;
+import com.minecolonies.util.Log;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Flow fields of the destinations many citizens of a colony walk to at once, like their huts in the morning or the
+ * town hall, so they follow one flood instead of searching a path each.
+ * <p>
+ * A destination gets a flood once it is requested often enough within a short time. Until the flood is done, and for
+ * citizens outside of it, paths are searched as usual. A field is dropped when a block one of its steps depends on
+ * changes in a way the path searches tell apart, or when it is the least recently used one and the cache is full.
+ * Changes during a flood are kept and checked against its field once it is done.
+ * <p>
+ * Floods are started at the end of the world tick, one per colony and tick, and not in the path request which made
+ * the demand, so that request doesn't wait for the view of the flood.
+ * <p>
+ * Only used from the server thread.
+ */
+public final class FlowFieldCache
+{
+    private static final Map<Integer, FlowFieldCache> CACHES = new HashMap<>();
+
+    private static final int  MAX_FIELDS        = 8;
+    //  Requests for a destination within the window which make it worth a flood
+    private static final int  DEMAND_THRESHOLD  = 4;
+    private static final long DEMAND_WINDOW     = 200;
+    private static final int  MAX_DEMANDS       = 256;
+    //  Squared distance from the requested destination at which a flood may start
+    private static final int  MAX_SEED_DISTANCE = 1;
+    //  Changes kept for a running flood, with more of them it is not used
+    private static final int  MAX_FLOOD_CHANGES = 64;
+
+    private final int                      colonyId;
+    private final int                      dimension;
+    private final int                      range;
+    private final Map<BlockPos, FlowField> fields        = new LinkedHashMap<BlockPos, FlowField>(MAX_FIELDS, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<BlockPos, FlowField> eldest)
+        {
+            return size() > MAX_FIELDS;
+        }
+    };
+    private final Map<BlockPos, Flood>     floods        = new HashMap<>();
+    private final Set<BlockPos>            pendingFloods = new LinkedHashSet<>();
+    private final Map<BlockPos, Demand>    demands       = new HashMap<>();
+    private       long                     hits          = 0;
+    private       long                     misses        = 0;
+    private       long                     floodsRun     = 0;
+    private       long                     invalidations = 0;
+
+    /**
+     * Create an empty cache.
+     *
+     * @param colonyId  the colony the fields are for.
+     * @param dimension the dimension of the colony.
+     * @param range     how far a flood spreads, in steps.
+     */
+    FlowFieldCache(int colonyId, int dimension, int range)
+    {
+        this.colonyId = colonyId;
+        this.dimension = dimension;
+        this.range = range;
+    }
+
+    /**
+     * Get the cache of a colony, creating it if needed.
+     *
+     * @param colonyId  the colony id.
+     * @param dimension the dimension of the colony.
+     * @return the cache.
+     */
+    @NotNull
+    public static FlowFieldCache forColony(int colonyId, int dimension)
+    {
+        FlowFieldCache cache = CACHES.get(colonyId);
+        if (cache == null || cache.dimension != dimension)
+        {
+            //  A flood covers the colony, like the range of the town hall
+            cache = new FlowFieldCache(colonyId, dimension, Configurations.workingRangeTownHall);
+            CACHES.put(colonyId, cache);
+        }
+        return cache;
+    }
+
+    /**
+     * Drop the fields and running floods affected by a changed block.
+     *
+     * @param dimension the dimension of the block.
+     * @param pos       the position of the block.
+     * @param oldState  the block before.
+     * @param newState  the block now.
+     */
+    public static void onBlockChanged(int dimension, @NotNull BlockPos pos, @NotNull IBlockState oldState, @NotNull IBlockState newState)
+    {
+        if (BlockStateTable.isSameForMovement(oldState, newState))
+        {
+            return;
+        }
+
+        for (@NotNull final FlowFieldCache cache : CACHES.values())
+        {
+            if (cache.dimension == dimension)
+            {
+                cache.invalidate(pos);
+            }
+        }
+    }
+
+    /**
+     * Start a waiting flood of every colony in a dimension. Called from the server thread at the end of its tick.
+     *
+     * @param world the world which ticked.
+     */
+    public static void onWorldTick(@NotNull World world)
+    {
+        final int worldDimension = world.provider.getDimension();
+        for (@NotNull final FlowFieldCache cache : CACHES.values())
+        {
+            if (cache.dimension == worldDimension)
+            {
+                cache.startFlood(world);
+            }
+        }
+    }
+
+    /**
+     * Forget the caches of an unloaded dimension.
+     *
+     * @param dimension the dimension.
+     */
+    public static void onWorldUnload(int dimension)
+    {
+        CACHES.values().removeIf(cache ->
+        {
+            if (cache.dimension != dimension)
+            {
+                return false;
+            }
+            cache.floods.values().forEach(flood -> flood.future.cancel(true));
+            return true;
+        });
+    }
+
+    /**
+     * @return the hits of all caches.
+     */
+    public static long getTotalHits()
+    {
+        return CACHES.values().stream().mapToLong(FlowFieldCache::getHits).sum();
+    }
+
+    /**
+     * @return the number of fields in all caches.
+     */
+    public static int getTotalSize()
+    {
+        return CACHES.values().stream().mapToInt(FlowFieldCache::size).sum();
+    }
+
+    /**
+     * Reset the counters of all caches.
+     */
+    public static void resetAllStatistics()
+    {
+        CACHES.values().forEach(FlowFieldCache::resetStatistics);
+    }
+
+    /**
+     * Look up the way to a destination, and count the request towards a flood of the destination.
+     *
+     * @param world       the world of the colony.
+     * @param start       where the entity stands.
+     * @param destination the destination.
+     * @return the path from the field of the destination, or null if there is none which reaches the start.
+     */
+    @Nullable
+    public Path get(@NotNull World world, @NotNull BlockPos start, @NotNull BlockPos destination)
+    {
+        collectFloods();
+
+        @Nullable final FlowField field = fields.get(destination);
+        if (field != null)
+        {
+            @Nullable final Path path = field.createPath(start, world);
+            if (path != null)
+            {
+                ++hits;
+                return path;
+            }
+        }
+        else
+        {
+            addDemand(world, destination);
+        }
+
+        ++misses;
+        return null;
+    }
+
+    /**
+     * Count a request for a destination, and let its flood wait for the end of the tick once there are enough.
+     *
+     * @param world       the world of the colony.
+     * @param destination the destination.
+     */
+    private void addDemand(@NotNull World world, @NotNull BlockPos destination)
+    {
+        if (floods.containsKey(destination) || pendingFloods.contains(destination))
+        {
+            return;
+        }
+
+        final long time = world.getTotalWorldTime();
+        demands.values().removeIf(demand -> time - demand.since > DEMAND_WINDOW);
+        if (demands.size() >= MAX_DEMANDS && !demands.containsKey(destination))
+        {
+            return;
+        }
+
+        @NotNull final Demand demand = demands.computeIfAbsent(destination, pos -> new Demand(time));
+        if (++demand.requests < DEMAND_THRESHOLD)
+        {
+            return;
+        }
+        demands.remove(destination);
+        pendingFloods.add(destination);
+    }
+
+    /**
+     * Start the flood which waited longest, if there is one.
+     *
+     * @param world the world of the colony.
+     */
+    private void startFlood(@NotNull World world)
+    {
+        final Iterator<BlockPos> it = pendingFloods.iterator();
+        if (!it.hasNext())
+        {
+            return;
+        }
+        final BlockPos destination = it.next();
+        it.remove();
+
+        @Nullable final BlockPos seed = findSeed(world, destination);
+        if (seed == null)
+        {
+            return;
+        }
+
+        @NotNull final PathJobFlowField job = new PathJobFlowField(world, seed, range);
+        job.setColonyId(colonyId);
+        floods.put(destination, new Flood(job, Pathfinding.enqueue(job)));
+        ++floodsRun;
+    }
+
+    /**
+     * Find where a citizen stands at the destination: the destination itself, or a block right next to it, like the
+     * path searches accept when the destination can't be stood in.
+     *
+     * @param world       the world.
+     * @param destination the destination.
+     * @return the block, or null if there is none.
+     */
+    @Nullable
+    private static BlockPos findSeed(@NotNull World world, @NotNull BlockPos destination)
+    {
+        if (canStandIn(world, destination))
+        {
+            return destination;
+        }
+
+        for (@NotNull final BlockPos pos : BlockPos.getAllInBox(destination.add(-1, -1, -1), destination.add(1, 1, 1)))
+        {
+            if (pos.distanceSq(destination) <= MAX_SEED_DISTANCE && canStandIn(world, pos))
+            {
+                return pos.toImmutable();
+            }
+        }
+        return null;
+    }
+
+    private static boolean canStandIn(@NotNull World world, @NotNull BlockPos pos)
+    {
+        return BlockStateTable.isPassable(world.getBlockState(pos))
+                 && BlockStateTable.isPassable(world.getBlockState(pos.up()))
+                 && BlockStateTable.isSolid(world.getBlockState(pos.down()));
+    }
+
+    /**
+     * Take the fields of the finished floods.
+     */
+    private void collectFloods()
+    {
+        final Iterator<Map.Entry<BlockPos, Flood>> it = floods.entrySet().iterator();
+        while (it.hasNext())
+        {
+            final Map.Entry<BlockPos, Flood> entry = it.next();
+            final Flood flood = entry.getValue();
+            if (!flood.future.isDone())
+            {
+                continue;
+            }
+            it.remove();
+
+            try
+            {
+                flood.future.get();
+            }
+            catch (@NotNull InterruptedException | ExecutionException e)
+            {
+                Log.getLogger().catching(e);
+                continue;
+            }
+
+            @Nullable final FlowField field = flood.job.getField();
+            if (field != null && !flood.stale && flood.changes.stream().noneMatch(field::isAffectedBy))
+            {
+                fields.put(entry.getKey(), field);
+            }
+        }
+    }
+
+    /**
+     * Drop the fields with a step which depends on a changed block. A running flood keeps the change, its field is
+     * checked against it once it is done.
+     *
+     * @param pos the position of the block.
+     */
+    public void invalidate(@NotNull BlockPos pos)
+    {
+        final Iterator<FlowField> it = fields.values().iterator();
+        while (it.hasNext())
+        {
+            if (it.next().isAffectedBy(pos))
+            {
+                it.remove();
+                ++invalidations;
+            }
+        }
+
+        for (@NotNull final Flood flood : floods.values())
+        {
+            final BlockPos seed = flood.job.start;
+            if (!flood.stale && Math.abs(pos.getX() - seed.getX()) <= range && Math.abs(pos.getZ() - seed.getZ()) <= range)
+            {
+                if (flood.changes.size() < MAX_FLOOD_CHANGES)
+                {
+                    flood.changes.add(pos.toImmutable());
+                }
+                else
+                {
+                    flood.stale = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return number of fields.
+     */
+    public int size()
+    {
+        return fields.size();
+    }
+
+    /**
+     * @return number of lookups which returned a path.
+     */
+    public long getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * @return number of lookups which returned nothing.
+     */
+    public long getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * @return number of floods started.
+     */
+    public long getFloodsRun()
+    {
+        return floodsRun;
+    }
+
+    /**
+     * @return number of fields dropped because of a block change.
+     */
+    public long getInvalidations()
+    {
+        return invalidations;
+    }
+
+    /**
+     * Reset the counters.
+     */
+    public void resetStatistics()
+    {
+        hits = 0;
+        misses = 0;
+        floodsRun = 0;
+        invalidations = 0;
+    }
+
+    /**
+     * Requests for a destination without a field, since the first one of the window.
+     */
+    private static final class Demand
+    {
+        private final long since;
+        private       int  requests = 0;
+
+        private Demand(long since)
+        {
+            this.since = since;
+        }
+    }
+
+    /**
+     * A running flood, with the blocks in its area which changed after it was started.
+     * Stale if there were too many of them to keep.
+     */
+    private static final class Flood
+    {
+        @NotNull
+        private final PathJobFlowField job;
+        @NotNull
+        private final Future<?>        future;
+        @NotNull
+        private final List<BlockPos>   changes = new ArrayList<>();
+        private       boolean          stale   = false;
+
+        private Flood(@NotNull PathJobFlowField job, @NotNull Future<?> future)
+        {
+            this.job = job;
+            this.future = future;
+        }
+    }
+}
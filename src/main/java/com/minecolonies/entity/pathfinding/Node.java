@@ -7,13 +7,16 @@ import org.jetbrains.annotations.Nullable;
 public class Node implements Comparable<Node>
 {
     @NotNull
-    public final  BlockPos pos;
-    private final int      hash;
+    public final  BlockPos                 pos;
+    //  Same object as pos, so pooled nodes can be moved without allocating
+    @NotNull
+    private final BlockPos.MutableBlockPos mutablePos;
+    private       int                      hash;
     @Nullable
-    public        Node     parent;
-    public        int      counterAdded;
-    public        int      counterVisited;
-    public        int      steps;
+    public        Node                     parent;
+    public        int                      counterAdded;
+    public        int                      counterVisited;
+    public        int                      steps;
 
     // A* g value
     public double cost;
@@ -28,6 +31,18 @@ public class Node implements Comparable<Node>
     public boolean isLadder   = false;
     public boolean isSwimming = false;
 
+    //  Position in the open set, -1 if not in it
+    int heapIndex = -1;
+
+    /**
+     * Create an empty Node for the node pool, to be initialized with {@link #set(Node, int, int, int, double, double, double)}.
+     */
+    Node()
+    {
+        this.mutablePos = new BlockPos.MutableBlockPos();
+        this.pos = mutablePos;
+    }
+
     /**
      * Create initial Node
      *
@@ -50,13 +65,39 @@ public class Node implements Comparable<Node>
      */
     public Node(@Nullable Node parent, @NotNull BlockPos pos, double cost, double heuristic, double score)
     {
+        this();
+        set(parent, pos.getX(), pos.getY(), pos.getZ(), cost, heuristic, score);
+    }
+
+    /**
+     * (Re)initialize the Node, clearing all search state.
+     *
+     * @param parent    parent node arrives from
+     * @param x         x coordinate of node
+     * @param y         y coordinate of node
+     * @param z         z coordinate of node
+     * @param cost      node cost
+     * @param heuristic heuristic estimate
+     * @param score     node total score
+     * @return this node
+     */
+    @NotNull
+    Node set(@Nullable Node parent, int x, int y, int z, double cost, double heuristic, double score)
+    {
+        this.mutablePos.setPos(x, y, z);
         this.parent = parent;
-        this.pos = pos;
         this.steps = parent != null ? (parent.steps + 1) : 0;
         this.cost = cost;
         this.heuristic = heuristic;
         this.score = score;
-        this.hash = pos.getX() ^ ((pos.getZ() << 12) | (pos.getZ() >> 20)) ^ (pos.getY() << 24);
+        this.hash = x ^ ((z << 12) | (z >> 20)) ^ (y << 24);
+        this.counterAdded = 0;
+        this.counterVisited = 0;
+        this.closed = false;
+        this.isLadder = false;
+        this.isSwimming = false;
+        this.heapIndex = -1;
+        return this;
     }
 
     @Override
@@ -0,0 +1,168 @@
+package com.minecolonies.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of Nodes, ordered by {@link Node#compareTo(Node)}.
+ * Every Node knows its own index in the heap, so a Node whose score improved can be moved up in place
+ * instead of being searched for, removed and added again.
+ */
+final class NodeHeap
+{
+    private static final int INITIAL_CAPACITY = 512;
+
+    private Node[] heap = new Node[INITIAL_CAPACITY];
+    private int    size;
+
+    /**
+     * @return true if no nodes are queued.
+     */
+    boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * @return number of queued nodes.
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Check whether a node is queued.
+     *
+     * @param node the node.
+     * @return true if it is in the heap.
+     */
+    boolean contains(@NotNull final Node node)
+    {
+        return node.heapIndex >= 0 && node.heapIndex < size && heap[node.heapIndex] == node;
+    }
+
+    /**
+     * Add a node.
+     *
+     * @param node the node, which must not be queued already.
+     */
+    void push(@NotNull final Node node)
+    {
+        if (size == heap.length)
+        {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+
+        heap[size] = node;
+        node.heapIndex = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Remove and return the best node.
+     *
+     * @return the node with the lowest score, or null if empty.
+     */
+    @Nullable
+    Node poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+
+        final Node top = heap[0];
+        final Node last = heap[--size];
+        heap[size] = null;
+
+        if (size > 0)
+        {
+            heap[0] = last;
+            last.heapIndex = 0;
+            siftDown(0);
+        }
+
+        top.heapIndex = -1;
+        return top;
+    }
+
+    /**
+     * Restore the heap order after the score of a queued node decreased.
+     *
+     * @param node the queued node.
+     */
+    void decreaseKey(@NotNull final Node node)
+    {
+        siftUp(node.heapIndex);
+    }
+
+    /**
+     * Remove all nodes.
+     */
+    void clear()
+    {
+        for (int i = 0; i < size; ++i)
+        {
+            heap[i].heapIndex = -1;
+            heap[i] = null;
+        }
+        size = 0;
+    }
+
+    private void siftUp(final int startIndex)
+    {
+        int index = startIndex;
+        final Node node = heap[index];
+
+        while (index > 0)
+        {
+            final int parentIndex = (index - 1) >>> 1;
+            final Node parent = heap[parentIndex];
+            if (node.compareTo(parent) >= 0)
+            {
+                break;
+            }
+
+            heap[index] = parent;
+            parent.heapIndex = index;
+            index = parentIndex;
+        }
+
+        heap[index] = node;
+        node.heapIndex = index;
+    }
+
+    private void siftDown(final int startIndex)
+    {
+        int index = startIndex;
+        final Node node = heap[index];
+        final int half = size >>> 1;
+
+        while (index < half)
+        {
+            int childIndex = (index << 1) + 1;
+            Node child = heap[childIndex];
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < size && heap[rightIndex].compareTo(child) < 0)
+            {
+                childIndex = rightIndex;
+                child = heap[rightIndex];
+            }
+
+            if (node.compareTo(child) <= 0)
+            {
+                break;
+            }
+
+            heap[index] = child;
+            child.heapIndex = index;
+            index = childIndex;
+        }
+
+        heap[index] = node;
+        node.heapIndex = index;
+    }
+}
@@ -0,0 +1,105 @@
+package com.minecolonies.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Per thread storage for the search data of a path job: the Nodes, the visited table and the open set.
+ * A pathfinding thread reuses them for every job it runs, so a search produces (almost) no garbage.
+ */
+final class NodePool
+{
+    private static final int INITIAL_CAPACITY   = 1024;
+    //  Don't keep more nodes than this around after a huge search
+    private static final int MAX_RETAINED_NODES = 1 << 16;
+
+    private static final ThreadLocal<NodePool> POOLS = ThreadLocal.withInitial(NodePool::new);
+
+    private final NodeTable visited = new NodeTable();
+    private final NodeHeap  open    = new NodeHeap();
+    private       Node[]    nodes   = new Node[INITIAL_CAPACITY];
+    private       int       used    = 0;
+    private       boolean   inUse   = false;
+
+    private NodePool()
+    {
+        //  Use acquire.
+    }
+
+    /**
+     * Get the pool of the current thread.
+     * If it is already in use (a search started from within a search), a temporary pool is returned.
+     *
+     * @return the pool, to be handed back with {@link #release()}.
+     */
+    @NotNull
+    static NodePool acquire()
+    {
+        NodePool pool = POOLS.get();
+        if (pool.inUse)
+        {
+            pool = new NodePool();
+        }
+        pool.inUse = true;
+        return pool;
+    }
+
+    /**
+     * Get an unused Node, which must be initialized by the caller.
+     *
+     * @return the node.
+     */
+    @NotNull
+    Node obtain()
+    {
+        if (used == nodes.length)
+        {
+            nodes = Arrays.copyOf(nodes, used * 2);
+        }
+
+        Node node = nodes[used];
+        if (node == null)
+        {
+            node = new Node();
+            nodes[used] = node;
+        }
+        ++used;
+        return node;
+    }
+
+    /**
+     * @return the table of visited nodes.
+     */
+    @NotNull
+    NodeTable getVisited()
+    {
+        return visited;
+    }
+
+    /**
+     * @return the open set.
+     */
+    @NotNull
+    NodeHeap getOpen()
+    {
+        return open;
+    }
+
+    /**
+     * Hand all nodes back to the pool.
+     */
+    void release()
+    {
+        visited.clear();
+        open.clear();
+
+        if (nodes.length > MAX_RETAINED_NODES)
+        {
+            nodes = Arrays.copyOf(nodes, MAX_RETAINED_NODES);
+        }
+
+        used = 0;
+        inUse = false;
+    }
+}
@@ -0,0 +1,149 @@
+package com.minecolonies.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Open addressing hash table from a packed long position key to the visited Node.
+ * Uses linear probing, an empty slot is marked by a null value.
+ */
+final class NodeTable
+{
+    private static final int  INITIAL_CAPACITY      = 1 << 10;
+    //  Tables which grew larger than this are dropped on clear, to not keep a huge table per thread
+    private static final int  MAX_RETAINED_CAPACITY = 1 << 17;
+    private static final long HASH_MULTIPLIER       = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    private Node[] values;
+    private int    mask;
+    private int    size;
+
+    NodeTable()
+    {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private void allocate(final int capacity)
+    {
+        keys = new long[capacity];
+        values = new Node[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    private static int slot(final long key)
+    {
+        final long h = key * HASH_MULTIPLIER;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Get the node stored for a key.
+     *
+     * @param key the position key.
+     * @return the node or null.
+     */
+    @Nullable
+    Node get(final long key)
+    {
+        int i = slot(key) & mask;
+        Node value;
+        while ((value = values[i]) != null)
+        {
+            if (keys[i] == key)
+            {
+                return value;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Store a node for a key, replacing a previous one.
+     *
+     * @param key  the position key.
+     * @param node the node.
+     */
+    void put(final long key, @NotNull final Node node)
+    {
+        int i = slot(key) & mask;
+        while (values[i] != null)
+        {
+            if (keys[i] == key)
+            {
+                values[i] = node;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+
+        keys[i] = key;
+        values[i] = node;
+
+        //  Keep the load factor at 1/2 at most
+        if (++size * 2 > values.length)
+        {
+            grow();
+        }
+    }
+
+    private void grow()
+    {
+        final long[] oldKeys = keys;
+        final Node[] oldValues = values;
+        allocate(oldValues.length * 2);
+
+        for (int i = 0; i < oldValues.length; ++i)
+        {
+            if (oldValues[i] != null)
+            {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    /**
+     * Pass every stored node to an action.
+     *
+     * @param action the action.
+     */
+    void forEach(@NotNull final Consumer<Node> action)
+    {
+        for (@Nullable final Node value : values)
+        {
+            if (value != null)
+            {
+                action.accept(value);
+            }
+        }
+    }
+
+    /**
+     * @return number of stored nodes.
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Remove all nodes.
+     */
+    void clear()
+    {
+        if (values.length > MAX_RETAINED_CAPACITY)
+        {
+            allocate(INITIAL_CAPACITY);
+        }
+        else if (size > 0)
+        {
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+}
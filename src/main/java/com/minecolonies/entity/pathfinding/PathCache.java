@@ -0,0 +1,393 @@
+package com.minecolonies.entity.pathfinding;
+
+import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Cache of the paths found for the citizens of a colony, so a route walked by many citizens is only searched once.
+ * <p>
+ * Paths are keyed by their job type, destination and start, where starts within the same cell of 4x4x4 blocks share
+ * their paths. A path is dropped when a block within its bounding box changes, or when it is the least recently used
+ * one and the cache is full.
+ * <p>
+ * Only used from the server thread.
+ */
+public final class PathCache
+{
+    private static final Map<Integer, PathCache> CACHES = new HashMap<>();
+
+    private static final int MAX_ENTRIES           = 128;
+    //  A cached path is reused from the first of its points which is this close to the new start (squared)
+    private static final int MAX_START_DISTANCE_SQ = 9;
+    //  Number of points at the beginning of a cached path which are checked for that
+    private static final int START_SEARCH_POINTS   = 8;
+    private static final int CHUNK_SHIFT           = 4;
+
+    private final int                     dimension;
+    private final Map<PathKey, Entry>     entries        = new LinkedHashMap<PathKey, Entry>(MAX_ENTRIES, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<PathKey, Entry> eldest)
+        {
+            if (size() <= MAX_ENTRIES)
+            {
+                return false;
+            }
+
+            unindex(eldest.getValue());
+            ++evictions;
+            return true;
+        }
+    };
+    private final Map<Long, Set<Entry>>   entriesByChunk = new HashMap<>();
+    private       long                    hits           = 0;
+    private       long                    misses         = 0;
+    private       long                    evictions      = 0;
+    private       long                    invalidations  = 0;
+
+    /**
+     * Create an empty cache.
+     *
+     * @param dimension the dimension of the paths.
+     */
+    PathCache(int dimension)
+    {
+        this.dimension = dimension;
+    }
+
+    /**
+     * Get the cache of a colony, creating it if needed.
+     *
+     * @param colonyId  the colony id.
+     * @param dimension the dimension of the colony.
+     * @return the cache.
+     */
+    @NotNull
+    public static PathCache forColony(int colonyId, int dimension)
+    {
+        PathCache cache = CACHES.get(colonyId);
+        if (cache == null || cache.dimension != dimension)
+        {
+            cache = new PathCache(dimension);
+            CACHES.put(colonyId, cache);
+        }
+        return cache;
+    }
+
+    /**
+     * Drop the cached paths affected by a changed block.
+     *
+     * @param dimension the dimension of the block.
+     * @param pos       the position of the block.
+     */
+    public static void onBlockChanged(int dimension, @NotNull BlockPos pos)
+    {
+        for (@NotNull final PathCache cache : CACHES.values())
+        {
+            if (cache.dimension == dimension)
+            {
+                cache.invalidate(pos);
+            }
+        }
+    }
+
+    /**
+     * Forget the caches of an unloaded dimension.
+     *
+     * @param dimension the dimension.
+     */
+    public static void onWorldUnload(int dimension)
+    {
+        CACHES.values().removeIf(cache -> cache.dimension == dimension);
+    }
+
+    /**
+     * @return the hits of all caches.
+     */
+    public static long getTotalHits()
+    {
+        return CACHES.values().stream().mapToLong(PathCache::getHits).sum();
+    }
+
+    /**
+     * @return the misses of all caches.
+     */
+    public static long getTotalMisses()
+    {
+        return CACHES.values().stream().mapToLong(PathCache::getMisses).sum();
+    }
+
+    /**
+     * @return the number of paths in all caches.
+     */
+    public static int getTotalSize()
+    {
+        return CACHES.values().stream().mapToInt(PathCache::size).sum();
+    }
+
+    /**
+     * Reset the counters of all caches.
+     */
+    public static void resetAllStatistics()
+    {
+        CACHES.values().forEach(PathCache::resetStatistics);
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ)
+    {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Look up a path.
+     *
+     * @param jobType     type of the path job which would search it.
+     * @param start       start of the path.
+     * @param destination destination of the path.
+     * @return a new path, starting at the point of the cached path nearest to the start, or null.
+     */
+    @Nullable
+    public Path get(@NotNull Class<? extends AbstractPathJob> jobType, @NotNull BlockPos start, @NotNull BlockPos destination)
+    {
+        @Nullable final Entry entry = entries.get(new PathKey(jobType, start, destination));
+        if (entry != null)
+        {
+            @Nullable final Path path = resumePath(entry.points, start, MAX_START_DISTANCE_SQ);
+            if (path != null)
+            {
+                ++hits;
+                return path;
+            }
+        }
+
+        ++misses;
+        return null;
+    }
+
+    /**
+     * Copy the points of a path found for a nearby start, from the point closest to the given start on.
+     *
+     * @param points        points of the path.
+     * @param start         the start.
+     * @param maxDistanceSq squared distance the closest point may have to the start.
+     * @return the new path, or null if none of the first points is close enough.
+     */
+    @Nullable
+    static Path resumePath(@NotNull PathPoint[] points, @NotNull BlockPos start, double maxDistanceSq)
+    {
+        int bestIndex = -1;
+        double bestDistance = maxDistanceSq;
+        for (int i = 0; i < points.length && i < START_SEARCH_POINTS; ++i)
+        {
+            final PathPoint point = points[i];
+            final double distance = start.distanceSq(point.xCoord, point.yCoord, point.zCoord);
+            if (distance <= bestDistance)
+            {
+                bestIndex = i;
+                bestDistance = distance;
+            }
+        }
+
+        return bestIndex < 0 ? null : new Path(Arrays.copyOfRange(points, bestIndex, points.length));
+    }
+
+    /**
+     * Get all points of a path.
+     *
+     * @param path the path.
+     * @return the points, from the start on.
+     */
+    @NotNull
+    static PathPoint[] getPoints(@NotNull Path path)
+    {
+        @NotNull final PathPoint[] points = new PathPoint[path.getCurrentPathLength()];
+        for (int i = 0; i < points.length; ++i)
+        {
+            points[i] = path.getPathPointFromIndex(i);
+        }
+        return points;
+    }
+
+    /**
+     * Store a path which reaches its destination.
+     *
+     * @param jobType     type of the path job which searched it.
+     * @param start       start of the path.
+     * @param destination destination of the path.
+     * @param path        the path.
+     */
+    public void put(@NotNull Class<? extends AbstractPathJob> jobType, @NotNull BlockPos start, @NotNull BlockPos destination, @NotNull Path path)
+    {
+        @NotNull final PathPoint[] points = getPoints(path);
+        if (points.length == 0)
+        {
+            return;
+        }
+
+        @NotNull final PathKey key = new PathKey(jobType, start, destination);
+        @Nullable final Entry previous = entries.remove(key);
+        if (previous != null)
+        {
+            unindex(previous);
+        }
+
+        @NotNull final Entry entry = new Entry(key, start, points);
+        entries.put(key, entry);
+        for (int chunkX = entry.minX >> CHUNK_SHIFT; chunkX <= entry.maxX >> CHUNK_SHIFT; ++chunkX)
+        {
+            for (int chunkZ = entry.minZ >> CHUNK_SHIFT; chunkZ <= entry.maxZ >> CHUNK_SHIFT; ++chunkZ)
+            {
+                entriesByChunk.computeIfAbsent(chunkKey(chunkX, chunkZ), k -> new HashSet<>()).add(entry);
+            }
+        }
+    }
+
+    /**
+     * Drop the paths whose bounding box contains a changed block.
+     *
+     * @param pos the position of the block.
+     */
+    public void invalidate(@NotNull BlockPos pos)
+    {
+        @Nullable final Set<Entry> candidates = entriesByChunk.get(chunkKey(pos.getX() >> CHUNK_SHIFT, pos.getZ() >> CHUNK_SHIFT));
+        if (candidates == null)
+        {
+            return;
+        }
+
+        for (@NotNull final Entry entry : new ArrayList<>(candidates))
+        {
+            if (entry.contains(pos))
+            {
+                entries.remove(entry.key);
+                unindex(entry);
+                ++invalidations;
+            }
+        }
+    }
+
+    private void unindex(@NotNull Entry entry)
+    {
+        for (int chunkX = entry.minX >> CHUNK_SHIFT; chunkX <= entry.maxX >> CHUNK_SHIFT; ++chunkX)
+        {
+            for (int chunkZ = entry.minZ >> CHUNK_SHIFT; chunkZ <= entry.maxZ >> CHUNK_SHIFT; ++chunkZ)
+            {
+                final long chunk = chunkKey(chunkX, chunkZ);
+                @Nullable final Set<Entry> chunkEntries = entriesByChunk.get(chunk);
+                if (chunkEntries != null && chunkEntries.remove(entry) && chunkEntries.isEmpty())
+                {
+                    entriesByChunk.remove(chunk);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return number of cached paths.
+     */
+    public int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * @return number of lookups which returned a path.
+     */
+    public long getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * @return number of lookups which returned nothing.
+     */
+    public long getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * @return number of paths dropped to make room.
+     */
+    public long getEvictions()
+    {
+        return evictions;
+    }
+
+    /**
+     * @return number of paths dropped because of a block change.
+     */
+    public long getInvalidations()
+    {
+        return invalidations;
+    }
+
+    /**
+     * Reset the counters.
+     */
+    public void resetStatistics()
+    {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+        invalidations = 0;
+    }
+
+    /**
+     * A cached path and its bounding box, grown by the blocks next to, below and above the walked ones.
+     */
+    private static final class Entry
+    {
+        @NotNull
+        private final PathKey     key;
+        @NotNull
+        private final PathPoint[] points;
+        private final int         minX;
+        private final int         minY;
+        private final int         minZ;
+        private final int         maxX;
+        private final int         maxY;
+        private final int         maxZ;
+
+        private Entry(@NotNull PathKey key, @NotNull BlockPos start, @NotNull PathPoint[] points)
+        {
+            this.key = key;
+            this.points = points;
+
+            int lowX = start.getX();
+            int lowY = start.getY();
+            int lowZ = start.getZ();
+            int highX = lowX;
+            int highY = lowY;
+            int highZ = lowZ;
+            for (@NotNull final PathPoint point : points)
+            {
+                lowX = Math.min(lowX, point.xCoord);
+                lowY = Math.min(lowY, point.yCoord);
+                lowZ = Math.min(lowZ, point.zCoord);
+                highX = Math.max(highX, point.xCoord);
+                highY = Math.max(highY, point.yCoord);
+                highZ = Math.max(highZ, point.zCoord);
+            }
+
+            this.minX = lowX - 1;
+            this.minY = lowY - 1;
+            this.minZ = lowZ - 1;
+            this.maxX = highX + 1;
+            this.maxY = highY + 2;
+            this.maxZ = highZ + 1;
+        }
+
+        private boolean contains(@NotNull BlockPos pos)
+        {
+            return pos.getX() >= minX && pos.getX() <= maxX
+                     && pos.getY() >= minY && pos.getY() <= maxY
+                     && pos.getZ() >= minZ && pos.getZ() <= maxZ;
+        }
+    }
+}
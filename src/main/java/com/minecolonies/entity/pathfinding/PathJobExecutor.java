@@ -0,0 +1,247 @@
+package com.minecolonies.entity.pathfinding;
+
+import net.minecraft.pathfinding.Path;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread pool running the path jobs.
+ * <p>
+ * Queued jobs are ordered by their {@link PathPriority}, and within the same priority round-robin between the colonies
+ * which submitted them, so one busy colony can not push the jobs of all other colonies to the end of the queue.
+ * Also keeps track of the wait and run times of the jobs.
+ */
+class PathJobExecutor extends ThreadPoolExecutor
+{
+    private static final long KEEP_ALIVE_SECONDS = 10;
+    private static final int  MAX_TRACKED_COLONIES = 64;
+
+    /**
+     * Next free round per colony, guarded by this.
+     */
+    private final Map<Integer, Long> nextRoundByColony = new HashMap<>();
+    private final AtomicLong         sequence          = new AtomicLong();
+    private final AtomicLong         jobsCompleted     = new AtomicLong();
+    private final AtomicLong         totalWaitNanos    = new AtomicLong();
+    private final AtomicLong         totalRunNanos     = new AtomicLong();
+    private final AtomicLong         maxWaitNanos      = new AtomicLong();
+    private final AtomicLong         maxRunNanos       = new AtomicLong();
+    /**
+     * Round of the last job which has been started, guarded by this.
+     */
+    private       long               currentRound      = 0;
+
+    /**
+     * Create the executor with a fixed number of worker threads.
+     *
+     * @param threadCount the number of worker threads.
+     */
+    PathJobExecutor(final int threadCount)
+    {
+        super(threadCount, threadCount, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new PriorityBlockingQueue<>(), new PathThreadFactory());
+        allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(final Callable<T> callable)
+    {
+        if (callable instanceof AbstractPathJob)
+        {
+            final AbstractPathJob job = (AbstractPathJob) callable;
+            @SuppressWarnings("unchecked") final RunnableFuture<T> task = (RunnableFuture<T>) new PathJobTask(job, nextRound(job.getColonyId()));
+            return task;
+        }
+        return super.newTaskFor(callable);
+    }
+
+    /**
+     * Reserve the next round for a colony.
+     * A colony which did not submit any job for a while starts at the current round, so it doesn't gain credit.
+     *
+     * @param colonyId the colony id.
+     * @return the round of the job.
+     */
+    private synchronized long nextRound(final int colonyId)
+    {
+        final Long next = nextRoundByColony.get(colonyId);
+        final long round = next == null ? currentRound : Math.max(next, currentRound);
+        nextRoundByColony.put(colonyId, round + 1);
+        return round;
+    }
+
+    /**
+     * Advance the current round when a job starts, and forget colonies which have no job ahead of it.
+     *
+     * @param round the round of the started job.
+     */
+    private synchronized void onRoundStarted(final long round)
+    {
+        if (round > currentRound)
+        {
+            currentRound = round;
+            if (nextRoundByColony.size() > MAX_TRACKED_COLONIES)
+            {
+                nextRoundByColony.values().removeIf(next -> next <= currentRound);
+            }
+        }
+    }
+
+    @Override
+    protected void beforeExecute(final Thread t, final Runnable r)
+    {
+        super.beforeExecute(t, r);
+        if (r instanceof PathJobTask)
+        {
+            final PathJobTask task = (PathJobTask) r;
+            task.startNanos = System.nanoTime();
+            onRoundStarted(task.round);
+
+            final long wait = task.startNanos - task.queuedNanos;
+            totalWaitNanos.addAndGet(wait);
+            updateMax(maxWaitNanos, wait);
+        }
+    }
+
+    @Override
+    protected void afterExecute(final Runnable r, final Throwable t)
+    {
+        super.afterExecute(r, t);
+        if (r instanceof PathJobTask)
+        {
+            final long run = System.nanoTime() - ((PathJobTask) r).startNanos;
+            totalRunNanos.addAndGet(run);
+            updateMax(maxRunNanos, run);
+            jobsCompleted.incrementAndGet();
+        }
+    }
+
+    private static void updateMax(@NotNull final AtomicLong max, final long value)
+    {
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value))
+        {
+            current = max.get();
+        }
+    }
+
+    /**
+     * @return number of jobs waiting for a worker thread.
+     */
+    int getQueueDepth()
+    {
+        return getQueue().size();
+    }
+
+    /**
+     * @return number of jobs which have been finished.
+     */
+    long getJobsCompleted()
+    {
+        return jobsCompleted.get();
+    }
+
+    /**
+     * @return average time in milliseconds a job spent in the queue.
+     */
+    double getAverageWaitMs()
+    {
+        final long completed = jobsCompleted.get();
+        return completed == 0 ? 0 : (totalWaitNanos.get() / (double) completed / TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * @return average time in milliseconds a job spent running.
+     */
+    double getAverageRunMs()
+    {
+        final long completed = jobsCompleted.get();
+        return completed == 0 ? 0 : (totalRunNanos.get() / (double) completed / TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * @return longest time in milliseconds a job spent in the queue.
+     */
+    double getMaxWaitMs()
+    {
+        return maxWaitNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return longest time in milliseconds a job spent running.
+     */
+    double getMaxRunMs()
+    {
+        return maxRunNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Resets the collected timings.
+     */
+    void resetStatistics()
+    {
+        jobsCompleted.set(0);
+        totalWaitNanos.set(0);
+        totalRunNanos.set(0);
+        maxWaitNanos.set(0);
+        maxRunNanos.set(0);
+    }
+
+    /**
+     * A queued path job, ordered by priority, then colony round, then submission order.
+     */
+    private final class PathJobTask extends FutureTask<Path> implements Comparable<PathJobTask>
+    {
+        private final PathPriority priority;
+        private final long         round;
+        private final long         order;
+        private final long         queuedNanos;
+        private       long         startNanos;
+
+        private PathJobTask(@NotNull final AbstractPathJob job, final long round)
+        {
+            super(job);
+            this.priority = job.getPriority();
+            this.round = round;
+            this.order = sequence.getAndIncrement();
+            this.queuedNanos = System.nanoTime();
+        }
+
+        @Override
+        public int compareTo(@NotNull final PathJobTask o)
+        {
+            if (priority != o.priority)
+            {
+                //  Higher priority first
+                return o.priority.compareTo(priority);
+            }
+
+            if (round != o.round)
+            {
+                return round < o.round ? -1 : 1;
+            }
+
+            return Long.compare(order, o.order);
+        }
+    }
+
+    /**
+     * Creates named daemon threads, so the pathfinding workers never keep the server alive.
+     */
+    private static final class PathThreadFactory implements ThreadFactory
+    {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(@NotNull final Runnable r)
+        {
+            final Thread thread = new Thread(r, "Minecolonies Pathfinding Worker #" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
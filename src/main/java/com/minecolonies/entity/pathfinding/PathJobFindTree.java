@@ -1,9 +1,11 @@
 package com.minecolonies.entity.pathfinding;
 
+import com.minecolonies.configuration.Configurations;
 import com.minecolonies.entity.ai.citizen.lumberjack.Tree;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
@@ -27,7 +29,20 @@ public class PathJobFindTree extends AbstractPathJob
      */
     public PathJobFindTree(World world, @NotNull BlockPos start, BlockPos home, int range)
     {
-        super(world, start, start, range, new TreePathResult());
+        this(WorldSnapshot.createView(world, start, start, range), start, home, range);
+    }
+
+    /**
+     * AbstractPathJob constructor for a view of the world which was already set up.
+     *
+     * @param world the blocks to path in
+     * @param start the start position from which to path from
+     * @param home  the position of the workers hut
+     * @param range maximum path range
+     */
+    PathJobFindTree(@NotNull IBlockAccess world, @NotNull BlockPos start, BlockPos home, int range)
+    {
+        super(world, start, range, new TreePathResult());
 
         hutLocation = home;
     }
@@ -44,6 +59,12 @@ public class PathJobFindTree extends AbstractPathJob
         return (TreePathResult) super.getResult();
     }
 
+    @Override
+    protected int getMaxNodes()
+    {
+        return Configurations.pathfindingMaxNodesResources;
+    }
+
     @Override
     protected double computeHeuristic(@NotNull BlockPos pos)
     {
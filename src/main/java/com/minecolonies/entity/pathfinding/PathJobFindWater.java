@@ -1,7 +1,9 @@
 package com.minecolonies.entity.pathfinding;
 
+import com.minecolonies.configuration.Configurations;
 import com.minecolonies.entity.ai.citizen.fisherman.Pond;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -36,9 +38,25 @@ public class PathJobFindWater extends AbstractPathJob
      */
     PathJobFindWater(World world, @NotNull BlockPos start, BlockPos home, int range, @NotNull List<BlockPos> ponds)
     {
-        super(world, start, start, range, new WaterPathResult());
+        this(WorldSnapshot.createView(world, start, start, range), start, home, range, ponds);
+    }
+
+    /**
+     * AbstractPathJob constructor for a view of the world which was already set up.
+     *
+     * @param world the blocks to path in
+     * @param start the start position from which to path from
+     * @param home  the position of the workers hut
+     * @param range maximum path range
+     * @param ponds already visited fishing places
+     */
+    PathJobFindWater(@NotNull IBlockAccess world, @NotNull BlockPos start, BlockPos home, int range, @NotNull List<BlockPos> ponds)
+    {
+        super(world, start, range, new WaterPathResult());
         this.ponds = new ArrayList<>(ponds);
         hutLocation = home;
+        //  Ponds are found by looking at every shore block, a jump would skip them
+        setAllowJumpPointSearchTypeWalk(false);
     }
 
     public static class WaterPathResult extends PathResult
@@ -51,6 +69,12 @@ public class PathJobFindWater extends AbstractPathJob
     @Override
     public WaterPathResult getResult() { return (WaterPathResult) super.getResult(); }
 
+    @Override
+    protected int getMaxNodes()
+    {
+        return Configurations.pathfindingMaxNodesResources;
+    }
+
     @Override
     protected double computeHeuristic(@NotNull BlockPos pos)
     {
@@ -90,7 +114,8 @@ public class PathJobFindWater extends AbstractPathJob
 
     private boolean isWater(@NotNull BlockPos newPond)
     {
-        if (ponds.contains(newPond) || pondsAreNear(ponds, newPond))
+        //  A visited pond is at distance 0, so this covers them too
+        if (pondsAreNear(ponds, newPond))
         {
             return false;
         }
@@ -0,0 +1,109 @@
+package com.minecolonies.entity.pathfinding;
+
+import com.minecolonies.configuration.Configurations;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Job that floods the area around a destination, to find the way to it from every reachable block at once.
+ * <p>
+ * The flood is a search without a destination or heuristic, so it expands the nodes in order of their distance.
+ * Every step of the citizens is as possible in the one direction as in the other (they step up or drop at most one
+ * block, and climb ladders both ways), so the way back along the flood is a way to the destination.
+ */
+public class PathJobFlowField extends AbstractPathJob
+{
+    //  A flood covers far more nodes than a path search, give it more time as well
+    private static final int TIME_FACTOR = 4;
+
+    @Nullable
+    private FlowField field;
+
+    /**
+     * Prepares a flood from a destination.
+     *
+     * @param world       world the destination is in.
+     * @param destination the destination.
+     * @param range       how far the flood spreads, in steps.
+     */
+    public PathJobFlowField(World world, @NotNull BlockPos destination, int range)
+    {
+        this(WorldSnapshot.createView(world, destination, destination, range), destination, range);
+    }
+
+    /**
+     * Prepares a flood in a view of the world which was already set up.
+     *
+     * @param world       the blocks to flood.
+     * @param destination the destination.
+     * @param range       how far the flood spreads, in steps.
+     */
+    PathJobFlowField(@NotNull IBlockAccess world, @NotNull BlockPos destination, int range)
+    {
+        super(world, destination, range, new PathResult());
+    }
+
+    @Override
+    protected int getMaxNodes()
+    {
+        return Configurations.pathfindingMaxFlowFieldNodes;
+    }
+
+    @Override
+    protected long getMaxSearchTime()
+    {
+        return super.getMaxSearchTime() * TIME_FACTOR;
+    }
+
+    @Override
+    protected double computeHeuristic(@NotNull BlockPos pos)
+    {
+        return 0;
+    }
+
+    @Override
+    protected boolean isAtDestination(@NotNull Node n)
+    {
+        return false;
+    }
+
+    @Override
+    protected double getNodeResultScore(@NotNull Node n)
+    {
+        return 0;
+    }
+
+    /**
+     * Keep the way from every expanded node to the destination.
+     */
+    @Override
+    protected void onSearchFinished()
+    {
+        @NotNull final List<Node> nodes = new ArrayList<>();
+        forEachClosedNode(nodes::add);
+
+        @NotNull final FlowField flowField = new FlowField(start, nodes.size());
+        for (@NotNull final Node node : nodes)
+        {
+            flowField.add(node.pos, node.parent == null ? node.pos : node.parent.pos, node.isLadder);
+        }
+        field = flowField;
+    }
+
+    /**
+     * Get the flood, once the job is done.
+     *
+     * @return the field, or null if the job didn't finish.
+     */
+    @Nullable
+    FlowField getField()
+    {
+        return field;
+    }
+}
@@ -4,6 +4,7 @@ import com.minecolonies.configuration.Configurations;
 import com.minecolonies.util.Log;
 import net.minecraft.pathfinding.Path;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -32,7 +33,21 @@ public class PathJobMoveAwayFromLocation extends AbstractPathJob
      */
     public PathJobMoveAwayFromLocation(World world, @NotNull BlockPos start, @NotNull BlockPos avoid, int avoidDistance, int range)
     {
-        super(world, start, avoid, range);
+        this(WorldSnapshot.createView(world, start, avoid, range), start, avoid, avoidDistance, range);
+    }
+
+    /**
+     * Prepares the PathJob in a view of the world which was already set up.
+     *
+     * @param world         blocks to search in.
+     * @param start         starting location.
+     * @param avoid         location to avoid.
+     * @param avoidDistance how far to move away.
+     * @param range         max range to search.
+     */
+    PathJobMoveAwayFromLocation(@NotNull IBlockAccess world, @NotNull BlockPos start, @NotNull BlockPos avoid, int avoidDistance, int range)
+    {
+        super(world, start, range, new PathResult());
 
         this.avoid = new BlockPos(avoid);
         this.avoidDistance = avoidDistance;
@@ -3,11 +3,16 @@ package com.minecolonies.entity.pathfinding;
 import com.minecolonies.configuration.Configurations;
 import com.minecolonies.util.Log;
 import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Job that handles moving to a location.
  */
@@ -17,10 +22,20 @@ public class PathJobMoveToLocation extends AbstractPathJob
     // 1^2 + 1^2 + 1^2 + (epsilon of 0.1F)
     private static final float  DESTINATION_SLACK_ADJACENT = 3.1F;
     private static final double TIE_BREAKER                = 1.001D;
+    //  Paths at least this long (horizontal blocks) are planned on the chunk portal graph first
+    private static final int    HIERARCHICAL_MIN_DISTANCE  = 48;
+    //  Range of the search for each chunk segment of a planned path
+    private static final int    SEGMENT_RANGE              = 64;
+    //  The planned path and its segments get this part of the search time, the full search the whole time again
+    private static final int    HIERARCHICAL_TIME_DIVISOR  = 4;
     @NotNull
     private final BlockPos destination;
     // 0 = exact match
     private float destinationSlack = DESTINATION_SLACK_NONE;
+    @Nullable
+    private ChunkPortalGraph portalGraph = null;
+    //  Generation of the portal graph when the view of the job was created
+    private long portalGraphGeneration = 0;
 
     /**
      * Prepares the PathJob for the path finding system.
@@ -32,9 +47,53 @@ public class PathJobMoveToLocation extends AbstractPathJob
      */
     public PathJobMoveToLocation(World world, @NotNull BlockPos start, @NotNull BlockPos end, int range)
     {
-        super(world, start, end, range);
+        this(world, start, end, range, new PathResult());
+    }
+
+    /**
+     * Prepares the PathJob for the path finding system, reporting to an existing result.
+     * Used to continue a partial path.
+     *
+     * @param world  world the entity is in.
+     * @param start  starting location.
+     * @param end    target location.
+     * @param range  max search range.
+     * @param result the result of the search.
+     */
+    public PathJobMoveToLocation(World world, @NotNull BlockPos start, @NotNull BlockPos end, int range, PathResult result)
+    {
+        super(world, start, end, range, result);
+
+        this.destination = new BlockPos(end);
+        setAllowJumpPointSearchTypeWalk(true);
+    }
+
+    /**
+     * Prepares a PathJob which searches in an existing view of the world, used for the segments of a planned path.
+     *
+     * @param world blocks to search in.
+     * @param start starting location.
+     * @param end   target location.
+     * @param range max search range.
+     */
+    PathJobMoveToLocation(@NotNull IBlockAccess world, @NotNull BlockPos start, @NotNull BlockPos end, int range)
+    {
+        super(world, start, range, new PathResult());
 
         this.destination = new BlockPos(end);
+        setAllowJumpPointSearchTypeWalk(true);
+    }
+
+    /**
+     * Set the portal graph of the colony, to plan long paths on.
+     * Called right after the job was created, on the server thread, so no block changed since its view was created.
+     *
+     * @param portalGraph the graph, or null to search block by block.
+     */
+    public void setPortalGraph(@Nullable ChunkPortalGraph portalGraph)
+    {
+        this.portalGraph = portalGraph;
+        this.portalGraphGeneration = portalGraph == null ? 0 : portalGraph.getGeneration();
     }
 
     /**
@@ -46,6 +105,7 @@ public class PathJobMoveToLocation extends AbstractPathJob
     @Override
     protected Path search()
     {
+        startBudget();
         if (Configurations.pathfindingDebugVerbosity > DEBUG_VERBOSITY_NONE)
         {
             Log.getLogger().info(String.format("Pathfinding from [%d,%d,%d] to [%d,%d,%d]",
@@ -58,9 +118,96 @@ public class PathJobMoveToLocation extends AbstractPathJob
             destinationSlack = DESTINATION_SLACK_ADJACENT;
         }
 
+        if (portalGraph != null
+              && Math.abs(start.getX() - destination.getX()) + Math.abs(start.getZ() - destination.getZ()) >= HIERARCHICAL_MIN_DISTANCE)
+        {
+            @Nullable final Path path = searchHierarchical(portalGraph);
+            if (path != null)
+            {
+                return path;
+            }
+
+            if (Configurations.pathfindingDebugVerbosity > DEBUG_VERBOSITY_NONE)
+            {
+                Log.getLogger().info(String.format("Planned path from [%d,%d,%d] failed, searching block by block",
+                  start.getX(), start.getY(), start.getZ()));
+            }
+            restartBudget();
+        }
+
         return super.search();
     }
 
+    /**
+     * Plan the path over the chunk portals, then search the blocks from portal to portal.
+     *
+     * @param graph the portal graph of the colony.
+     * @return the path, or null if it couldn't be planned or a segment failed; the full search is used then.
+     */
+    @Nullable
+    private Path searchHierarchical(@NotNull ChunkPortalGraph graph)
+    {
+        restartBudget(HIERARCHICAL_TIME_DIVISOR);
+        @Nullable final List<BlockPos> exits = graph.plan(this, world, portalGraphGeneration, start, destination, getMaxRange());
+        if (exits == null)
+        {
+            return null;
+        }
+
+        if (Configurations.pathfindingDebugVerbosity > DEBUG_VERBOSITY_NONE)
+        {
+            Log.getLogger().info(String.format("Planned path over %d chunk borders", exits.size()));
+        }
+
+        @NotNull final List<PathPoint> points = new ArrayList<>();
+        BlockPos from = start;
+        for (int i = 0; i <= exits.size(); ++i)
+        {
+            if (Thread.currentThread().isInterrupted())
+            {
+                return null;
+            }
+
+            final BlockPos to = i < exits.size() ? exits.get(i) : destination;
+            @NotNull final PathJobMoveToLocation segment = new PathJobMoveToLocation(world, from, to, SEGMENT_RANGE);
+            shareDeadline(segment);
+            @Nullable final Path segmentPath = segment.search();
+            if (segmentPath == null || !segment.getResult().getPathReachesDestination())
+            {
+                return null;
+            }
+
+            for (int p = 0; p < segmentPath.getCurrentPathLength(); ++p)
+            {
+                points.add(segmentPath.getPathPointFromIndex(p));
+            }
+            from = to;
+        }
+
+        result.setPathReachesDestination(true);
+        return new Path(points.toArray(new PathPoint[points.size()]));
+    }
+
+    @NotNull
+    @Override
+    PathKey getSharingKey()
+    {
+        return getSharingKey(start, destination);
+    }
+
+    /**
+     * Get the key of the job for a path, to look for a queued identical search before the job is created.
+     *
+     * @param start       start of the path.
+     * @param destination destination of the path.
+     * @return the key.
+     */
+    @NotNull
+    static PathKey getSharingKey(@NotNull BlockPos start, @NotNull BlockPos destination)
+    {
+        return new PathKey(PathJobMoveToLocation.class, start, destination);
+    }
+
     @Override
     protected double computeHeuristic(@NotNull BlockPos pos)
     {
@@ -74,15 +221,21 @@ public class PathJobMoveToLocation extends AbstractPathJob
 
     @Override
     protected boolean isAtDestination(@NotNull Node n)
+    {
+        return isJumpPointDestination(n.pos);
+    }
+
+    @Override
+    protected boolean isJumpPointDestination(@NotNull BlockPos pos)
     {
         if (destinationSlack <= DESTINATION_SLACK_NONE)
         {
-            return n.pos.getX() == destination.getX() &&
-                     n.pos.getY() == destination.getY() &&
-                     n.pos.getZ() == destination.getZ();
+            return pos.getX() == destination.getX() &&
+                     pos.getY() == destination.getY() &&
+                     pos.getZ() == destination.getZ();
         }
 
-        return destination.distanceSq(n.pos.getX(), n.pos.getY(), n.pos.getZ()) <= destinationSlack;
+        return destination.distanceSq(pos.getX(), pos.getY(), pos.getZ()) <= destinationSlack;
     }
 
     @Override
@@ -0,0 +1,65 @@
+package com.minecolonies.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Identifies paths which can be shared between citizens: same job type, same destination and a start within the same
+ * cell of 4x4x4 blocks.
+ */
+final class PathKey
+{
+    private static final int START_CELL_SHIFT = 2;
+
+    @NotNull
+    private final Class<? extends AbstractPathJob> jobType;
+    @NotNull
+    private final BlockPos                         destination;
+    private final int                              cellX;
+    private final int                              cellY;
+    private final int                              cellZ;
+
+    /**
+     * Create the key of a path.
+     *
+     * @param jobType     type of the path job searching the path.
+     * @param start       start of the path.
+     * @param destination destination of the path.
+     */
+    PathKey(@NotNull Class<? extends AbstractPathJob> jobType, @NotNull BlockPos start, @NotNull BlockPos destination)
+    {
+        this.jobType = jobType;
+        this.destination = destination.toImmutable();
+        this.cellX = start.getX() >> START_CELL_SHIFT;
+        this.cellY = start.getY() >> START_CELL_SHIFT;
+        this.cellZ = start.getZ() >> START_CELL_SHIFT;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (o == null || o.getClass() != this.getClass())
+        {
+            return false;
+        }
+
+        final PathKey other = (PathKey) o;
+        return cellX == other.cellX && cellY == other.cellY && cellZ == other.cellZ
+                 && jobType == other.jobType && destination.equals(other.destination);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = jobType.hashCode();
+        result = 31 * result + destination.hashCode();
+        result = 31 * result + cellX;
+        result = 31 * result + cellY;
+        return 31 * result + cellZ;
+    }
+}
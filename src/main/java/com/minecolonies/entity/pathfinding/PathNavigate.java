@@ -1,5 +1,7 @@
 package com.minecolonies.entity.pathfinding;
 
+import com.minecolonies.colony.Colony;
+import com.minecolonies.configuration.Configurations;
 import com.minecolonies.entity.EntityCitizen;
 import com.minecolonies.util.BlockPosUtil;
 import com.minecolonies.util.Log;
@@ -26,6 +28,9 @@ import java.util.concurrent.Future;
  */
 public class PathNavigate extends PathNavigateGround
 {
+    //  Number of times a partial path is continued, before the destination counts as unreachable
+    private static final int MAX_CONTINUATIONS = 4;
+
     //  Parent class private members
     private EntityLiving entity;
     private double       walkSpeed;
@@ -36,6 +41,17 @@ public class PathNavigate extends PathNavigateGround
     private Future<Path> future;
     @Nullable
     private PathResult   pathResult;
+    //  Cache to store the path of the running job in, with the start it was searched from
+    @Nullable
+    private PathCache    pathCache;
+    @Nullable
+    private BlockPos     pathCacheStart;
+    //  Destination to continue a partial path to, with the priority it was requested with
+    @Nullable
+    private BlockPos     continuationDestination;
+    @NotNull
+    private PathPriority priority      = PathPriority.NORMAL;
+    private int          continuations = 0;
 
     private boolean canEnterDoors    = false;
     private boolean canBreakDoors    = false;
@@ -113,6 +129,22 @@ public class PathNavigate extends PathNavigateGround
 
     @Nullable
     public PathResult moveToXYZ(double x, double y, double z, double speed)
+    {
+        return moveToXYZ(x, y, z, speed, PathPriority.NORMAL);
+    }
+
+    /**
+     * Move to a position, scheduling the path search with a given priority.
+     *
+     * @param x        x target.
+     * @param y        y target.
+     * @param z        z target.
+     * @param speed    walking speed.
+     * @param priority priority of the path search.
+     * @return the result of the path search.
+     */
+    @Nullable
+    public PathResult moveToXYZ(double x, double y, double z, double speed, @NotNull PathPriority priority)
     {
         int newX = MathHelper.floor_double(x);
         int newY = (int) y;
@@ -128,19 +160,165 @@ public class PathNavigate extends PathNavigateGround
         @NotNull BlockPos start = AbstractPathJob.prepareStart(entity);
         @NotNull BlockPos dest = new BlockPos(newX, newY, newZ);
 
-        return setPathJob(
-          new PathJobMoveToLocation(entity.worldObj, start, dest, (int) getPathSearchRange()),
-          dest, speed);
+        @Nullable final Colony colony = getColony();
+        @Nullable final PathCache cache = colony == null ? null : PathCache.forColony(colony.getID(), colony.getDimension());
+        if (cache != null)
+        {
+            @Nullable final Path cachedPath = cache.get(PathJobMoveToLocation.class, start, dest);
+            if (cachedPath != null)
+            {
+                return setCachedPath(cachedPath, dest, speed);
+            }
+
+            //  Many citizens walking to the same place share a flood of it
+            @Nullable final Path fieldPath = FlowFieldCache.forColony(colony.getID(), colony.getDimension()).get(entity.worldObj, start, dest);
+            if (fieldPath != null)
+            {
+                return setCachedPath(fieldPath, dest, speed);
+            }
+        }
+
+        clearPathEntity();
+        this.destination = dest;
+        this.walkSpeed = speed;
+        this.priority = priority;
+        continuations = 0;
+
+        pathResult = new PathResult();
+        future = enqueueMove(start, dest, pathResult);
+        @NotNull final PathResult result = pathResult;
+        pathCache = cache;
+        pathCacheStart = start;
+        continuationDestination = dest;
+        return result;
+    }
+
+    /**
+     * Queue the search of a path to a location, or attach to a queued identical one. The job, and its snapshot view,
+     * is only created when there is none to attach to.
+     *
+     * @param start  start of the path.
+     * @param dest   destination of the path.
+     * @param result result of the search.
+     * @return the Future of the path.
+     */
+    @NotNull
+    private Future<Path> enqueueMove(@NotNull BlockPos start, @NotNull BlockPos dest, @NotNull PathResult result)
+    {
+        @Nullable final Future<Path> shared = Pathfinding.join(PathJobMoveToLocation.getSharingKey(start, dest), start, result);
+        if (shared != null)
+        {
+            return shared;
+        }
+
+        @NotNull final PathJobMoveToLocation job = createMoveJob(start, dest, result);
+        job.setPriority(priority);
+        @Nullable final Colony colony = getColony();
+        if (colony != null)
+        {
+            job.setColonyId(colony.getID());
+        }
+        return Pathfinding.enqueue(job);
+    }
+
+    /**
+     * Create the job for a path to a location.
+     *
+     * @param start  start of the path.
+     * @param dest   destination of the path.
+     * @param result result of the search.
+     * @return the job.
+     */
+    @NotNull
+    private PathJobMoveToLocation createMoveJob(@NotNull BlockPos start, @NotNull BlockPos dest, @NotNull PathResult result)
+    {
+        @NotNull final PathJobMoveToLocation job = new PathJobMoveToLocation(entity.worldObj, start, dest, (int) getPathSearchRange(), result);
+        @Nullable final Colony colony = getColony();
+        if (colony != null)
+        {
+            job.setPortalGraph(ChunkPortalGraph.forColony(colony.getID(), colony.getDimension(), colony.getCenter(), Configurations.workingRangeTownHall));
+        }
+        return job;
+    }
+
+    /**
+     * Search on from the current position to the destination of a partial path, which ran out of its search budget.
+     * Done when the partial path has been followed to its end, but an AI may continue earlier.
+     * The search reports to the same PathResult.
+     *
+     * @return true if the search was started.
+     */
+    public boolean continuePath()
+    {
+        if (pathResult == null || !pathResult.isPartial() || continuationDestination == null || future != null
+              || continuations >= MAX_CONTINUATIONS)
+        {
+            return false;
+        }
+
+        ++continuations;
+        @NotNull final BlockPos start = AbstractPathJob.prepareStart(entity);
+
+        pathResult.setPartial(false);
+        pathResult.setStatus(PathResult.Status.IN_PROGRESS_COMPUTING);
+        future = enqueueMove(start, continuationDestination, pathResult);
+        @Nullable final Colony colony = getColony();
+        pathCache = colony == null ? null : PathCache.forColony(colony.getID(), colony.getDimension());
+        pathCacheStart = start;
+        return true;
     }
 
+    /**
+     * Get the colony of the entity, if it is a citizen.
+     *
+     * @return the colony or null.
+     */
     @Nullable
-    private PathResult setPathJob(@NotNull AbstractPathJob job, BlockPos dest, double speed)
+    private Colony getColony()
+    {
+        return entity instanceof EntityCitizen ? ((EntityCitizen) entity).getColony() : null;
+    }
+
+    /**
+     * Follow a path taken from the path cache, without searching.
+     *
+     * @param path  the path.
+     * @param dest  the destination.
+     * @param speed walking speed.
+     * @return the (already complete) result.
+     */
+    @NotNull
+    private PathResult setCachedPath(@NotNull Path path, @NotNull BlockPos dest, double speed)
     {
         clearPathEntity();
 
         this.destination = dest;
         this.walkSpeed = speed;
 
+        pathResult = new PathResult();
+        setPath(path, speed);
+        pathResult.setPathReachesDestination(true);
+        pathResult.setPathLength(path.getCurrentPathLength());
+        pathResult.setStatus(PathResult.Status.IN_PROGRESS_FOLLOWING);
+        return pathResult;
+    }
+
+    @Nullable
+    private PathResult setPathJob(@NotNull AbstractPathJob job, BlockPos dest, double speed, @NotNull PathPriority priority)
+    {
+        clearPathEntity();
+
+        this.destination = dest;
+        this.walkSpeed = speed;
+        this.priority = priority;
+        continuations = 0;
+
+        job.setPriority(priority);
+        if (getColony() != null)
+        {
+            job.setColonyId(getColony().getID());
+        }
+
         future = Pathfinding.enqueue(job);
         pathResult = job.getResult();
         return pathResult;
@@ -182,17 +360,25 @@ public class PathNavigate extends PathNavigateGround
 
             try
             {
-                if(future.get() == null)
+                //  A shared search resumes and copies the path for each request, get it only once
+                @Nullable final Path path = future.get();
+                if (path == null)
                 {
                     future = null;
+                    pathCache = null;
                     return;
                 }
 
-                setPath(future.get(), walkSpeed);
+                setPath(path, walkSpeed);
 
                 pathResult.setPathLength(getPath().getCurrentPathLength());
                 pathResult.setStatus(PathResult.Status.IN_PROGRESS_FOLLOWING);
 
+                if (pathCache != null && destination != null && pathResult.getPathReachesDestination())
+                {
+                    pathCache.put(PathJobMoveToLocation.class, pathCacheStart, destination, getPath());
+                }
+
                 PathPoint p = getPath().getFinalPathPoint();
                 if (p != null && destination == null)
                 {
@@ -208,6 +394,7 @@ public class PathNavigate extends PathNavigateGround
             }
 
             future = null;
+            pathCache = null;
         }
 
         int oldIndex = this.noPath() ? 0 : this.getPath().getCurrentPathIndex();
@@ -282,8 +469,10 @@ public class PathNavigate extends PathNavigateGround
             }
         }
 
-        if (pathResult != null && noPath())
+        if (pathResult != null && noPath() && !continuePath())
         {
+            //  A partial path which can't be continued anymore ends short of the destination
+            pathResult.setPartial(false);
             pathResult.setStatus(PathResult.Status.COMPLETE);
             pathResult = null;
         }
@@ -344,6 +533,8 @@ public class PathNavigate extends PathNavigateGround
         }
 
         destination = null;
+        pathCache = null;
+        continuationDestination = null;
         super.clearPathEntity();
     }
 
@@ -352,7 +543,7 @@ public class PathNavigate extends PathNavigateGround
     {
         @NotNull BlockPos start = AbstractPathJob.prepareStart(entity);
         return (PathJobFindTree.TreePathResult) setPathJob(
-          new PathJobFindTree(entity.worldObj, start, ((EntityCitizen) entity).getWorkBuilding().getLocation(), range), null, speed);
+          new PathJobFindTree(entity.worldObj, start, ((EntityCitizen) entity).getWorkBuilding().getLocation(), range), null, speed, PathPriority.WORK);
     }
 
     @Nullable
@@ -360,7 +551,7 @@ public class PathNavigate extends PathNavigateGround
     {
         @NotNull BlockPos start = AbstractPathJob.prepareStart(entity);
         return (PathJobFindWater.WaterPathResult) setPathJob(
-          new PathJobFindWater(entity.worldObj, start, ((EntityCitizen) entity).getWorkBuilding().getLocation(), range, ponds), null, speed);
+          new PathJobFindWater(entity.worldObj, start, ((EntityCitizen) entity).getWorkBuilding().getLocation(), range, ponds), null, speed, PathPriority.WORK);
     }
 
     @Nullable
@@ -372,17 +563,32 @@ public class PathNavigate extends PathNavigateGround
     @Nullable
     public PathResult moveAwayFromEntityLiving(@NotNull Entity e, double distance, double speed)
     {
-        return moveAwayFromXYZ(e.getPosition(), distance, speed);
+        return moveAwayFromXYZ(e.getPosition(), distance, speed, PathPriority.URGENT);
     }
 
     @Nullable
     public PathResult moveAwayFromXYZ(BlockPos avoid, double range, double speed)
+    {
+        return moveAwayFromXYZ(avoid, range, speed, PathPriority.NORMAL);
+    }
+
+    /**
+     * Move away from a position, scheduling the path search with a given priority.
+     *
+     * @param avoid    position to move away from.
+     * @param range    distance to keep.
+     * @param speed    walking speed.
+     * @param priority priority of the path search.
+     * @return the result of the path search.
+     */
+    @Nullable
+    public PathResult moveAwayFromXYZ(BlockPos avoid, double range, double speed, @NotNull PathPriority priority)
     {
         @NotNull BlockPos start = AbstractPathJob.prepareStart(entity);
 
         return setPathJob(
           new PathJobMoveAwayFromLocation(entity.worldObj, start, avoid, (int) range, (int) getPathSearchRange()),
-          null, speed);
+          null, speed, priority);
     }
 
     //We don't use any of these, but they need to be overriden.
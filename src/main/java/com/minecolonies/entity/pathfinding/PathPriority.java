@@ -0,0 +1,26 @@
+package com.minecolonies.entity.pathfinding;
+
+/**
+ * Priority of a path job in the pathfinding queue.
+ * Jobs with a higher priority are started before jobs with a lower one,
+ * jobs with the same priority are shared fairly between the colonies.
+ */
+public enum PathPriority
+{
+    /**
+     * Idle movement, like wandering around.
+     */
+    IDLE,
+    /**
+     * Default priority, like going home.
+     */
+    NORMAL,
+    /**
+     * Movement required for work, like a builder walking to his site.
+     */
+    WORK,
+    /**
+     * Movement which should happen as fast as possible, like fleeing from a mob.
+     */
+    URGENT
+}
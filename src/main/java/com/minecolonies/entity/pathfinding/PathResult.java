@@ -5,6 +5,7 @@ public class PathResult
     protected volatile Status  status                 = Status.IN_PROGRESS_COMPUTING;
     protected volatile boolean pathReachesDestination = false;
     protected volatile int     pathLength             = 0;
+    protected volatile boolean pathIsPartial          = false;
 
     public PathResult() {}
 
@@ -40,7 +41,7 @@ public class PathResult
      */
     public boolean failedToReachDestination()
     {
-        return !isComputing() && !getPathReachesDestination();
+        return !isComputing() && !getPathReachesDestination() && !isPartial();
     }
 
     /**
@@ -55,6 +56,19 @@ public class PathResult
      */
     public void setPathReachesDestination(boolean value) { pathReachesDestination = value; }
 
+    /**
+     * @return true if the search ran out of its budget and the path ends at the best node found so far, from where
+     * the search can be continued.
+     */
+    public boolean isPartial() { return pathIsPartial; }
+
+    /**
+     * For PathNavigate and AbstractPathJob use only.
+     *
+     * @param value new value for pathIsPartial.
+     */
+    public void setPartial(boolean value) { pathIsPartial = value; }
+
     /**
      * @return true if the path was cancelled before being computed or before the entity reached it's destination
      */
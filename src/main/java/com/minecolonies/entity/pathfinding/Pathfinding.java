@@ -2,6 +2,7 @@ package com.minecolonies.entity.pathfinding;
 
 import com.minecolonies.configuration.Configurations;
 import com.minecolonies.util.Log;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.renderer.Tessellator;
@@ -11,26 +12,32 @@ import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.entity.Entity;
 import net.minecraft.pathfinding.Path;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.lwjgl.opengl.GL11;
 
 import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.*;
+import java.util.concurrent.Future;
 
 /**
  * Static class the handles all the Pathfinding.
  */
 public final class Pathfinding
 {
-    private static final BlockingQueue<Runnable> jobQueue = new LinkedBlockingDeque<>();
-    private static final ResourceLocation        TEXTURE  = new ResourceLocation("textures/gui/widgets.png");
-    private static ThreadPoolExecutor executor;
+    private static final ResourceLocation               TEXTURE        = new ResourceLocation("textures/gui/widgets.png");
+    private static final PathJobExecutor                executor;
+    //  Queued jobs which identical requests can attach to, only used from the server thread
+    private static final Map<PathKey, SharedPathSearch> sharedSearches = new HashMap<>();
     static
     {
-        executor = new ThreadPoolExecutor(1, Configurations.pathfindingMaxThreadCount, 10, TimeUnit.SECONDS, jobQueue);
+        executor = new PathJobExecutor(Math.max(1, Configurations.pathfindingMaxThreadCount));
     }
     private Pathfinding()
     {
@@ -39,13 +46,188 @@ public final class Pathfinding
 
     /**
      * Add a job to the queue for processing.
+     * A job which searches the same path as a queued one attaches to it instead, and gets its own share of the result.
      *
      * @param job PathJob
      * @return a Future containing the Path
      */
     public static Future<Path> enqueue(@NotNull AbstractPathJob job)
     {
-        return executor.submit(job);
+        @Nullable final PathKey key = job.getSharingKey();
+        if (key == null)
+        {
+            return executor.submit(job);
+        }
+
+        @Nullable final Future<Path> shared = join(key, job.start, job.getResult());
+        if (shared != null)
+        {
+            return shared;
+        }
+
+        @NotNull final SharedPathSearch search = new SharedPathSearch(executor.submit(job), job.getResult());
+        sharedSearches.put(key, search);
+        return search.attach(job.start, job.getResult());
+    }
+
+    /**
+     * Attach a request to a queued job which searches the same path, if there is one.
+     * Lets the caller skip creating the job, and the snapshot view with it, when the search is already running.
+     *
+     * @param key    the sharing key of the path.
+     * @param start  start of the request.
+     * @param result result of the request.
+     * @return the Future of the request, or null if there is no such job.
+     */
+    @Nullable
+    static Future<Path> join(@NotNull PathKey key, @NotNull BlockPos start, @NotNull PathResult result)
+    {
+        sharedSearches.values().removeIf(search -> !search.isOpen());
+
+        @Nullable final SharedPathSearch search = sharedSearches.get(key);
+        return search == null ? null : search.attach(start, result);
+    }
+
+    /**
+     * Drop the section snapshots, cached paths and the parts of the colony portal graphs which a changed block affects.
+     * Called from the server thread.
+     *
+     * @param dimension the dimension of the block.
+     * @param pos       the position of the block.
+     * @param oldState  the block before.
+     * @param newState  the block now.
+     */
+    public static void onBlockChanged(int dimension, @NotNull BlockPos pos, @NotNull IBlockState oldState, @NotNull IBlockState newState)
+    {
+        WorldSnapshot.onBlockChanged(dimension, pos);
+        ChunkPortalGraph.onBlockChanged(dimension, pos);
+        PathCache.onBlockChanged(dimension, pos);
+        FlowFieldCache.onBlockChanged(dimension, pos, oldState, newState);
+    }
+
+    /**
+     * Do the pathfinding work which waited for the end of the tick of a world: copy the changed sections again and
+     * start the floods of the colonies. Called from the server thread.
+     *
+     * @param world the world which ticked.
+     */
+    public static void onWorldTick(@NotNull World world)
+    {
+        WorldSnapshot.onWorldTick(world);
+        FlowFieldCache.onWorldTick(world);
+    }
+
+    /**
+     * Forget the cached data of an unloaded dimension.
+     *
+     * @param dimension the dimension.
+     */
+    public static void onWorldUnload(int dimension)
+    {
+        WorldSnapshot.onWorldUnload(dimension);
+        ChunkPortalGraph.onWorldUnload(dimension);
+        PathCache.onWorldUnload(dimension);
+        FlowFieldCache.onWorldUnload(dimension);
+    }
+
+    /**
+     * Forget the cached data of an unloaded colony.
+     *
+     * @param colonyId the colony id.
+     */
+    public static void onColonyUnload(int colonyId)
+    {
+        ChunkPortalGraph.onColonyUnload(colonyId);
+    }
+
+    /**
+     * Get the number of path jobs waiting for a worker thread.
+     *
+     * @return the queue depth.
+     */
+    public static int getQueueDepth()
+    {
+        return executor.getQueueDepth();
+    }
+
+    /**
+     * Get the number of worker threads currently running a path job.
+     *
+     * @return the active thread count.
+     */
+    public static int getActiveThreadCount()
+    {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Get the maximum number of worker threads.
+     *
+     * @return the pool size.
+     */
+    public static int getMaxThreadCount()
+    {
+        return executor.getMaximumPoolSize();
+    }
+
+    /**
+     * Get the number of path jobs finished since the last reset.
+     *
+     * @return the completed job count.
+     */
+    public static long getJobsCompleted()
+    {
+        return executor.getJobsCompleted();
+    }
+
+    /**
+     * Get the average time a path job waited in the queue since the last reset.
+     *
+     * @return the wait time in milliseconds.
+     */
+    public static double getAverageWaitMs()
+    {
+        return executor.getAverageWaitMs();
+    }
+
+    /**
+     * Get the longest time a path job waited in the queue since the last reset.
+     *
+     * @return the wait time in milliseconds.
+     */
+    public static double getMaxWaitMs()
+    {
+        return executor.getMaxWaitMs();
+    }
+
+    /**
+     * Get the average time a path job ran since the last reset.
+     *
+     * @return the run time in milliseconds.
+     */
+    public static double getAverageRunMs()
+    {
+        return executor.getAverageRunMs();
+    }
+
+    /**
+     * Get the longest time a path job ran since the last reset.
+     *
+     * @return the run time in milliseconds.
+     */
+    public static double getMaxRunMs()
+    {
+        return executor.getMaxRunMs();
+    }
+
+    /**
+     * Reset the collected wait and run times and the path and flow field cache counters.
+     */
+    public static void resetStatistics()
+    {
+        executor.resetStatistics();
+        PathCache.resetAllStatistics();
+        FlowFieldCache.resetAllStatistics();
     }
 
     /**
@@ -0,0 +1,127 @@
+package com.minecolonies.entity.pathfinding;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable copy of the block states of a 16x16x16 chunk section, as a palette of the states in it and the palette
+ * index of every block. Sections of a single state, like air or stone, only keep the palette.
+ */
+final class SectionSnapshot
+{
+    /**
+     * A section without any blocks.
+     */
+    static final SectionSnapshot EMPTY = new SectionSnapshot(new IBlockState[] {Blocks.AIR.getDefaultState()}, null, null);
+
+    private static final int SECTION_SIZE     = 16;
+    private static final int SECTION_VOLUME   = SECTION_SIZE * SECTION_SIZE * SECTION_SIZE;
+    //  Up to this many states, the indices fit into a byte
+    private static final int MAX_BYTE_PALETTE = 256;
+
+    @NotNull
+    private final IBlockState[] palette;
+    @Nullable
+    private final byte[]        byteIndices;
+    @Nullable
+    private final char[]        charIndices;
+
+    private SectionSnapshot(@NotNull IBlockState[] palette, @Nullable byte[] byteIndices, @Nullable char[] charIndices)
+    {
+        this.palette = palette;
+        this.byteIndices = byteIndices;
+        this.charIndices = charIndices;
+    }
+
+    /**
+     * Copy a section of a chunk.
+     *
+     * @param storage the section, null if it has no blocks.
+     * @return the snapshot.
+     */
+    @NotNull
+    static SectionSnapshot of(@Nullable ExtendedBlockStorage storage)
+    {
+        if (storage == null || storage.isEmpty())
+        {
+            return EMPTY;
+        }
+
+        @NotNull final Map<IBlockState, Integer> paletteIndices = new IdentityHashMap<>();
+        @NotNull final List<IBlockState> palette = new ArrayList<>();
+        @NotNull final char[] indices = new char[SECTION_VOLUME];
+        for (int y = 0; y < SECTION_SIZE; ++y)
+        {
+            for (int z = 0; z < SECTION_SIZE; ++z)
+            {
+                for (int x = 0; x < SECTION_SIZE; ++x)
+                {
+                    final IBlockState state = storage.get(x, y, z);
+                    Integer index = paletteIndices.get(state);
+                    if (index == null)
+                    {
+                        index = palette.size();
+                        paletteIndices.put(state, index);
+                        palette.add(state);
+                    }
+                    indices[getIndex(x, y, z)] = (char) index.intValue();
+                }
+            }
+        }
+
+        @NotNull final IBlockState[] states = palette.toArray(new IBlockState[palette.size()]);
+        if (states.length == 1)
+        {
+            return new SectionSnapshot(states, null, null);
+        }
+
+        if (states.length <= MAX_BYTE_PALETTE)
+        {
+            @NotNull final byte[] bytes = new byte[SECTION_VOLUME];
+            for (int i = 0; i < SECTION_VOLUME; ++i)
+            {
+                bytes[i] = (byte) indices[i];
+            }
+            return new SectionSnapshot(states, bytes, null);
+        }
+
+        return new SectionSnapshot(states, null, indices);
+    }
+
+    private static int getIndex(int x, int y, int z)
+    {
+        return (y << 8) | (z << 4) | x;
+    }
+
+    /**
+     * Get the state of a block.
+     *
+     * @param x x coordinate within the section.
+     * @param y y coordinate within the section.
+     * @param z z coordinate within the section.
+     * @return the state.
+     */
+    @NotNull
+    IBlockState get(int x, int y, int z)
+    {
+        if (byteIndices != null)
+        {
+            return palette[byteIndices[getIndex(x, y, z)] & 0xFF];
+        }
+
+        if (charIndices != null)
+        {
+            return palette[charIndices[getIndex(x, y, z)]];
+        }
+
+        return palette[0];
+    }
+}
@@ -0,0 +1,145 @@
+package com.minecolonies.entity.pathfinding;
+
+import net.minecraft.pathfinding.Path;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A queued path job which identical requests attach to, instead of searching the same path again.
+ * Every request gets its own Future and keeps its own PathResult; the job is only cancelled once all of them are.
+ * <p>
+ * Only used from the server thread.
+ */
+final class SharedPathSearch
+{
+    //  Requests attached after the job which are further from its start are served from the first points of its path
+    private static final double ANY_DISTANCE = Double.MAX_VALUE;
+
+    @NotNull
+    private final Future<Path> future;
+    @NotNull
+    private final PathResult   jobResult;
+    private       int          waiting = 0;
+
+    /**
+     * Share a queued job.
+     *
+     * @param future    the future of the job.
+     * @param jobResult the result of the job.
+     */
+    SharedPathSearch(@NotNull Future<Path> future, @NotNull PathResult jobResult)
+    {
+        this.future = future;
+        this.jobResult = jobResult;
+    }
+
+    /**
+     * @return true if more requests can still attach: the search is neither finished nor cancelled.
+     */
+    boolean isOpen()
+    {
+        return waiting > 0 && !future.isDone();
+    }
+
+    /**
+     * Attach a request.
+     *
+     * @param start  start of the request.
+     * @param result result of the request, updated when its path is taken.
+     * @return the future of the request.
+     */
+    @NotNull
+    Future<Path> attach(@NotNull BlockPos start, @NotNull PathResult result)
+    {
+        ++waiting;
+        return new Request(start, result);
+    }
+
+    /**
+     * The view of a single request on the shared job.
+     */
+    private final class Request implements Future<Path>
+    {
+        @NotNull
+        private final BlockPos   start;
+        @NotNull
+        private final PathResult result;
+        private       boolean    cancelled = false;
+
+        private Request(@NotNull BlockPos start, @NotNull PathResult result)
+        {
+            this.start = start;
+            this.result = result;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning)
+        {
+            if (cancelled || future.isDone())
+            {
+                return false;
+            }
+
+            cancelled = true;
+            if (--waiting == 0)
+            {
+                future.cancel(mayInterruptIfRunning);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled()
+        {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone()
+        {
+            return cancelled || future.isDone();
+        }
+
+        @Nullable
+        @Override
+        public Path get() throws InterruptedException, ExecutionException
+        {
+            if (cancelled)
+            {
+                throw new CancellationException();
+            }
+            return share(future.get());
+        }
+
+        @Nullable
+        @Override
+        public Path get(long timeout, @NotNull TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException
+        {
+            if (cancelled)
+            {
+                throw new CancellationException();
+            }
+            return share(future.get(timeout, unit));
+        }
+
+        @Nullable
+        private Path share(@Nullable Path path)
+        {
+            if (path == null || result == jobResult)
+            {
+                return path;
+            }
+
+            result.setPathReachesDestination(jobResult.getPathReachesDestination());
+            result.setPartial(jobResult.isPartial());
+            return PathCache.resumePath(PathCache.getPoints(path), start, ANY_DISTANCE);
+        }
+    }
+}
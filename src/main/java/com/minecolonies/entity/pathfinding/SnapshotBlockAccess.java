@@ -0,0 +1,145 @@
+package com.minecolonies.entity.pathfinding;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Biomes;
+import net.minecraft.init.Blocks;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.biome.Biome;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The blocks a path job searches in: immutable section snapshots covering a box of chunks, which can be read from
+ * any thread. Everything outside of the box is air.
+ * <p>
+ * There are no tile entities, light or biomes in a snapshot.
+ */
+final class SnapshotBlockAccess implements IBlockAccess
+{
+    private static final int SECTION_SHIFT = 4;
+    private static final int SECTION_MASK  = 15;
+    private static final int WORLD_HEIGHT  = 256;
+
+    private final int               minChunkX;
+    private final int               minChunkZ;
+    private final int               minSection;
+    private final int               sizeX;
+    private final int               sizeZ;
+    private final int               sizeY;
+    @NotNull
+    private final SectionSnapshot[] sections;
+    @NotNull
+    private final WorldType         worldType;
+
+    /**
+     * Create the view of a box of sections.
+     *
+     * @param minChunkX  lowest chunk x.
+     * @param minChunkZ  lowest chunk z.
+     * @param minSection lowest section y.
+     * @param sizeX      number of chunks along x.
+     * @param sizeZ      number of chunks along z.
+     * @param sizeY      number of sections along y.
+     * @param sections   the sections, indexed by ((x * sizeZ) + z) * sizeY + y.
+     * @param worldType  the type of the world.
+     */
+    SnapshotBlockAccess(
+                         int minChunkX, int minChunkZ, int minSection, int sizeX, int sizeZ, int sizeY,
+                         @NotNull SectionSnapshot[] sections, @NotNull WorldType worldType)
+    {
+        this.minChunkX = minChunkX;
+        this.minChunkZ = minChunkZ;
+        this.minSection = minSection;
+        this.sizeX = sizeX;
+        this.sizeZ = sizeZ;
+        this.sizeY = sizeY;
+        this.sections = sections;
+        this.worldType = worldType;
+    }
+
+    @Nullable
+    private SectionSnapshot getSection(@NotNull BlockPos pos)
+    {
+        if (pos.getY() < 0 || pos.getY() >= WORLD_HEIGHT)
+        {
+            return null;
+        }
+
+        final int x = (pos.getX() >> SECTION_SHIFT) - minChunkX;
+        final int z = (pos.getZ() >> SECTION_SHIFT) - minChunkZ;
+        final int y = (pos.getY() >> SECTION_SHIFT) - minSection;
+        if (x < 0 || x >= sizeX || z < 0 || z >= sizeZ || y < 0 || y >= sizeY)
+        {
+            return null;
+        }
+
+        return sections[(x * sizeZ + z) * sizeY + y];
+    }
+
+    @Nullable
+    @Override
+    public TileEntity getTileEntity(@NotNull BlockPos pos)
+    {
+        return null;
+    }
+
+    @Override
+    public int getCombinedLight(@NotNull BlockPos pos, int lightValue)
+    {
+        return 0;
+    }
+
+    @NotNull
+    @Override
+    public IBlockState getBlockState(@NotNull BlockPos pos)
+    {
+        @Nullable final SectionSnapshot section = getSection(pos);
+        if (section == null)
+        {
+            return Blocks.AIR.getDefaultState();
+        }
+
+        return section.get(pos.getX() & SECTION_MASK, pos.getY() & SECTION_MASK, pos.getZ() & SECTION_MASK);
+    }
+
+    @Override
+    public boolean isAirBlock(@NotNull BlockPos pos)
+    {
+        final IBlockState state = getBlockState(pos);
+        return state.getBlock().isAir(state, this, pos);
+    }
+
+    @NotNull
+    @Override
+    public Biome getBiome(@NotNull BlockPos pos)
+    {
+        return Biomes.PLAINS;
+    }
+
+    @Override
+    public int getStrongPower(@NotNull BlockPos pos, @NotNull EnumFacing direction)
+    {
+        return getBlockState(pos).getStrongPower(this, pos, direction);
+    }
+
+    @NotNull
+    @Override
+    public WorldType getWorldType()
+    {
+        return worldType;
+    }
+
+    @Override
+    public boolean isSideSolid(@NotNull BlockPos pos, @NotNull EnumFacing side, boolean _default)
+    {
+        if (getSection(pos) == null)
+        {
+            return _default;
+        }
+        return getBlockState(pos).isSideSolid(this, pos, side);
+    }
+}
@@ -0,0 +1,191 @@
+package com.minecolonies.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Snapshots of the chunk sections of a dimension, which path jobs search in instead of the live chunks.
+ * <p>
+ * A section is copied the first time a job needs it and then shared by all later jobs, until a block in it changes:
+ * the snapshot is then dropped from the cache, while running jobs keep the old one. At the end of the tick, the
+ * changed sections are copied again, a limited number per tick, so the views of the next jobs mostly find their
+ * sections in the cache. Sections of chunks which aren't loaded or populated yet are not cached.
+ * <p>
+ * Only used from the server thread, the path threads only ever see the finished snapshots.
+ */
+final class WorldSnapshot
+{
+    private static final Map<Integer, WorldSnapshot> SNAPSHOTS = new HashMap<>();
+
+    private static final int MAX_SECTIONS  = 4096;
+    //  Changed sections copied again at the end of a tick, the others are copied when a view needs them
+    private static final int MAX_REFRESHES = 64;
+    private static final int SECTION_SHIFT = 4;
+    private static final int MAX_SECTION   = 15;
+    private static final int COORD_MASK    = (1 << 24) - 1;
+
+    private final Map<Long, SectionSnapshot> sections = new LinkedHashMap<Long, SectionSnapshot>(MAX_SECTIONS, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Long, SectionSnapshot> eldest)
+        {
+            return size() > MAX_SECTIONS;
+        }
+    };
+    //  Cached sections dropped because of a block change since the last refresh
+    private final Set<Long>                  changed  = new LinkedHashSet<>();
+
+    private WorldSnapshot()
+    {
+        //  Use forWorld.
+    }
+
+    /**
+     * Get the blocks a path job searches in: the box around start and end, grown by the range.
+     *
+     * @param world the world.
+     * @param start start of the path.
+     * @param end   end of the path.
+     * @param range maximum path range.
+     * @return the snapshot of the box.
+     */
+    @NotNull
+    static SnapshotBlockAccess createView(@NotNull World world, @NotNull BlockPos start, @NotNull BlockPos end, int range)
+    {
+        final int minChunkX = (Math.min(start.getX(), end.getX()) - range) >> SECTION_SHIFT;
+        final int minChunkZ = (Math.min(start.getZ(), end.getZ()) - range) >> SECTION_SHIFT;
+        final int maxChunkX = (Math.max(start.getX(), end.getX()) + range) >> SECTION_SHIFT;
+        final int maxChunkZ = (Math.max(start.getZ(), end.getZ()) + range) >> SECTION_SHIFT;
+        final int minSection = Math.max(0, (Math.min(start.getY(), end.getY()) - range) >> SECTION_SHIFT);
+        final int maxSection = Math.min(MAX_SECTION, (Math.max(start.getY(), end.getY()) + range) >> SECTION_SHIFT);
+
+        final int sizeX = maxChunkX - minChunkX + 1;
+        final int sizeZ = maxChunkZ - minChunkZ + 1;
+        final int sizeY = Math.max(0, maxSection - minSection + 1);
+
+        //  Client worlds are never cached, they don't get the block change notifications
+        @Nullable final WorldSnapshot snapshot = world.isRemote ? null : forDimension(world.provider.getDimension());
+
+        @NotNull final SectionSnapshot[] viewSections = new SectionSnapshot[sizeX * sizeZ * sizeY];
+        int index = 0;
+        for (int x = 0; x < sizeX; ++x)
+        {
+            for (int z = 0; z < sizeZ; ++z)
+            {
+                @Nullable final Chunk chunk = world.getChunkProvider().getLoadedChunk(minChunkX + x, minChunkZ + z);
+                for (int y = 0; y < sizeY; ++y)
+                {
+                    viewSections[index++] = getSection(snapshot, chunk, minSection + y);
+                }
+            }
+        }
+
+        return new SnapshotBlockAccess(minChunkX, minChunkZ, minSection, sizeX, sizeZ, sizeY, viewSections, world.getWorldType());
+    }
+
+    @NotNull
+    private static WorldSnapshot forDimension(int dimension)
+    {
+        return SNAPSHOTS.computeIfAbsent(dimension, d -> new WorldSnapshot());
+    }
+
+    @NotNull
+    private static SectionSnapshot getSection(@Nullable WorldSnapshot snapshot, @Nullable Chunk chunk, int sectionY)
+    {
+        if (chunk == null)
+        {
+            return SectionSnapshot.EMPTY;
+        }
+
+        if (snapshot == null || !chunk.isPopulated())
+        {
+            return SectionSnapshot.of(chunk.getBlockStorageArray()[sectionY]);
+        }
+
+        final long key = sectionKey(chunk.xPosition, sectionY, chunk.zPosition);
+        SectionSnapshot section = snapshot.sections.get(key);
+        if (section == null)
+        {
+            section = SectionSnapshot.of(chunk.getBlockStorageArray()[sectionY]);
+            snapshot.sections.put(key, section);
+            snapshot.changed.remove(key);
+        }
+        return section;
+    }
+
+    private static long sectionKey(int chunkX, int sectionY, int chunkZ)
+    {
+        return ((long) (chunkX & COORD_MASK) << 28) | ((long) (chunkZ & COORD_MASK) << SECTION_SHIFT) | sectionY;
+    }
+
+    /**
+     * Drop the snapshot of the section of a changed block.
+     *
+     * @param dimension the dimension of the block.
+     * @param pos       the position of the block.
+     */
+    static void onBlockChanged(int dimension, @NotNull BlockPos pos)
+    {
+        @Nullable final WorldSnapshot snapshot = SNAPSHOTS.get(dimension);
+        if (snapshot != null && pos.getY() >= 0 && (pos.getY() >> SECTION_SHIFT) <= MAX_SECTION)
+        {
+            final long key = sectionKey(pos.getX() >> SECTION_SHIFT, pos.getY() >> SECTION_SHIFT, pos.getZ() >> SECTION_SHIFT);
+            if (snapshot.sections.remove(key) != null)
+            {
+                snapshot.changed.add(key);
+            }
+        }
+    }
+
+    /**
+     * Copy the sections of a world which were dropped during the tick again, up to the limit per tick.
+     *
+     * @param world the world which ticked.
+     */
+    static void onWorldTick(@NotNull World world)
+    {
+        @Nullable final WorldSnapshot snapshot = SNAPSHOTS.get(world.provider.getDimension());
+        if (snapshot == null || snapshot.changed.isEmpty())
+        {
+            return;
+        }
+
+        int refreshes = 0;
+        for (final long key : snapshot.changed)
+        {
+            if (refreshes++ >= MAX_REFRESHES)
+            {
+                break;
+            }
+
+            //  Sign extend the 24 bit chunk coordinates
+            final int chunkX = (int) (key >> 28) << 8 >> 8;
+            final int chunkZ = (int) (key >> SECTION_SHIFT) << 8 >> 8;
+            @Nullable final Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+            if (chunk != null && chunk.isPopulated())
+            {
+                snapshot.sections.put(key, SectionSnapshot.of(chunk.getBlockStorageArray()[(int) key & MAX_SECTION]));
+            }
+        }
+        snapshot.changed.clear();
+    }
+
+    /**
+     * Forget the snapshots of an unloaded dimension.
+     *
+     * @param dimension the dimension.
+     */
+    static void onWorldUnload(int dimension)
+    {
+        SNAPSHOTS.remove(dimension);
+    }
+}
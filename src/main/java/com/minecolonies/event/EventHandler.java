@@ -14,14 +14,17 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.entity.EntityPlayerSP;
 import net.minecraft.client.multiplayer.WorldClient;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.client.event.RenderGameOverlayEvent;
+import net.minecraftforge.event.entity.EntityEvent;
 import net.minecraftforge.event.entity.EntityJoinWorldEvent;
 import net.minecraftforge.event.entity.living.LivingDeathEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
@@ -336,6 +339,51 @@ public class EventHandler
         }
     }*/
 
+    /**
+     * Gets called when an entity moves into another chunk.
+     * Calls {@link ColonyManager#updateSubscriptions(EntityPlayerMP)} for players.
+     *
+     * @param event {@link net.minecraftforge.event.entity.EntityEvent.EnteringChunk}
+     */
+    @SubscribeEvent
+    public void onEnteringChunk(@NotNull EntityEvent.EnteringChunk event)
+    {
+        if (event.getEntity() instanceof EntityPlayerMP)
+        {
+            ColonyManager.updateSubscriptions((EntityPlayerMP) event.getEntity());
+        }
+    }
+
+    /**
+     * Gets called when a chunk loads.
+     * Calls {@link ColonyManager#onChunkLoad(World, int, int)}
+     *
+     * @param event {@link net.minecraftforge.event.world.ChunkEvent.Load}
+     */
+    @SubscribeEvent
+    public void onChunkLoad(@NotNull ChunkEvent.Load event)
+    {
+        if (!event.getWorld().isRemote)
+        {
+            ColonyManager.onChunkLoad(event.getWorld(), event.getChunk().xPosition, event.getChunk().zPosition);
+        }
+    }
+
+    /**
+     * Gets called when a chunk unloads.
+     * Calls {@link ColonyManager#onChunkUnload(World, int, int)}
+     *
+     * @param event {@link net.minecraftforge.event.world.ChunkEvent.Unload}
+     */
+    @SubscribeEvent
+    public void onChunkUnload(@NotNull ChunkEvent.Unload event)
+    {
+        if (!event.getWorld().isRemote)
+        {
+            ColonyManager.onChunkUnload(event.getWorld(), event.getChunk().xPosition, event.getChunk().zPosition);
+        }
+    }
+
     /**
      * Gets called when world loads.
      * Calls {@link ColonyManager#onWorldLoad(World)}
@@ -60,6 +60,52 @@ public class FMLEventHandler
         {
             MineColonies.getNetwork().sendTo(new ColonyStylesMessage(), (EntityPlayerMP) event.player);
             ColonyManager.syncAllColoniesAchievements();
+            ColonyManager.updateSubscriptions((EntityPlayerMP) event.player);
+        }
+    }
+
+    /**
+     * Called when a player logs out
+     * Calls {@link ColonyManager#onPlayerLoggedOut(EntityPlayerMP)}
+     *
+     * @param event {@link net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerLoggedOutEvent}
+     */
+    @SubscribeEvent
+    public void onPlayerLogout(@NotNull PlayerEvent.PlayerLoggedOutEvent event)
+    {
+        if (event.player instanceof EntityPlayerMP)
+        {
+            ColonyManager.onPlayerLoggedOut((EntityPlayerMP) event.player);
+        }
+    }
+
+    /**
+     * Called when a player changes dimension
+     * Calls {@link ColonyManager#updateSubscriptions(EntityPlayerMP)}
+     *
+     * @param event {@link net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerChangedDimensionEvent}
+     */
+    @SubscribeEvent
+    public void onPlayerChangedDimension(@NotNull PlayerEvent.PlayerChangedDimensionEvent event)
+    {
+        if (event.player instanceof EntityPlayerMP)
+        {
+            ColonyManager.updateSubscriptions((EntityPlayerMP) event.player);
+        }
+    }
+
+    /**
+     * Called when a player respawns, as a new entity
+     * Calls {@link ColonyManager#updateSubscriptions(EntityPlayerMP)}
+     *
+     * @param event {@link net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerRespawnEvent}
+     */
+    @SubscribeEvent
+    public void onPlayerRespawn(@NotNull PlayerEvent.PlayerRespawnEvent event)
+    {
+        if (event.player instanceof EntityPlayerMP)
+        {
+            ColonyManager.updateSubscriptions((EntityPlayerMP) event.player);
         }
     }
 }
@@ -4,6 +4,7 @@ import com.minecolonies.colony.ColonyManager;
 import com.minecolonies.colony.buildings.AbstractBuilding;
 import com.minecolonies.util.BlockPosUtil;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
@@ -24,16 +25,28 @@ public class ColonyViewBuildingViewMessage implements IMessage, IMessageHandler<
     public ColonyViewBuildingViewMessage() {}
 
     /**
-     * Creates a
+     * Creates a message with the view of a building, which can be sent to several players before it is released.
      *
      * @param building AbstractBuilding to add or update a view for
      */
     public ColonyViewBuildingViewMessage(@NotNull AbstractBuilding building)
+    {
+        this(building, PooledByteBufAllocator.DEFAULT.buffer());
+        building.serializeToView(this.buildingData);
+    }
+
+    /**
+     * Creates a message with an already serialized view of a building.
+     * The message takes over the data, and releases it with {@link #release()}.
+     *
+     * @param building     AbstractBuilding to add or update a view for
+     * @param buildingData the view, from {@link AbstractBuilding#serializeToView(ByteBuf)}
+     */
+    public ColonyViewBuildingViewMessage(@NotNull AbstractBuilding building, @NotNull ByteBuf buildingData)
     {
         this.colonyId = building.getColony().getID();
         this.buildingId = building.getID();
-        this.buildingData = Unpooled.buffer();
-        building.serializeToView(this.buildingData);
+        this.buildingData = buildingData;
     }
 
     @Override
@@ -50,7 +63,16 @@ public class ColonyViewBuildingViewMessage implements IMessage, IMessageHandler<
     {
         buf.writeInt(colonyId);
         BlockPosUtil.writeToByteBuf(buf, buildingId);
-        buf.writeBytes(buildingData);
+        //  Copy, so the message can be sent to the next player too
+        buf.writeBytes(buildingData, buildingData.readerIndex(), buildingData.readableBytes());
+    }
+
+    /**
+     * Hands the data back to the pool, once the message is sent to all players.
+     */
+    public void release()
+    {
+        buildingData.release();
     }
 
     @Nullable
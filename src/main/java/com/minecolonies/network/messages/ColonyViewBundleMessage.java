@@ -0,0 +1,222 @@
+package com.minecolonies.network.messages;
+
+import com.minecolonies.MineColonies;
+import com.minecolonies.colony.ColonyManager;
+import com.minecolonies.util.Log;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * All updates of a ColonyView of one tick, in the order they happened, applied together on the client.
+ * Compressed when it is big enough for it to pay off.
+ */
+public class ColonyViewBundleMessage implements IMessage, IMessageHandler<ColonyViewBundleMessage, IMessage>
+{
+    /**
+     * The messages which can be in a bundle, the position is their id.
+     */
+    private static final List<Class<? extends IMessage>> MESSAGE_TYPES         = Arrays.asList(
+      ColonyViewMessage.class,
+      ColonyViewCitizenViewMessage.class,
+      ColonyViewRemoveCitizenMessage.class,
+      ColonyViewBuildingViewMessage.class,
+      ColonyViewRemoveBuildingMessage.class,
+      PermissionsMessage.View.class,
+      ColonyViewWorkOrderMessage.class,
+      ColonyViewRemoveWorkOrderMessage.class);
+    //  Bundles smaller than this in bytes are sent as they are
+    private static final int                             COMPRESSION_THRESHOLD = 256;
+    //  Largest bundle the client accepts, in bytes
+    private static final int                             MAX_SIZE              = 16 * 1024 * 1024;
+
+    @NotNull
+    private List<IMessage> messages = Collections.emptyList();
+    //  The bundle as it goes on the wire, encoded once for all players it is sent to
+    @Nullable
+    private byte[]         encoded;
+    private boolean        isCompressed;
+    private int            size;
+
+    public ColonyViewBundleMessage() {}
+
+    /**
+     * Creates a bundle of ColonyView updates.
+     *
+     * @param messages the updates, in the order the client applies them.
+     */
+    public ColonyViewBundleMessage(@NotNull List<IMessage> messages)
+    {
+        this.messages = messages;
+    }
+
+    @Override
+    public void fromBytes(@NotNull ByteBuf buf)
+    {
+        isCompressed = buf.readBoolean();
+        size = buf.readInt();
+        if (size < 0 || size > MAX_SIZE)
+        {
+            throw new IllegalArgumentException(String.format("ColonyView bundle of %d bytes", size));
+        }
+
+        @NotNull final byte[] data = new byte[size];
+        if (isCompressed)
+        {
+            @NotNull final byte[] compressed = new byte[buf.readableBytes()];
+            buf.readBytes(compressed);
+            @NotNull final Inflater inflater = new Inflater();
+            try
+            {
+                inflater.setInput(compressed);
+                if (inflater.inflate(data) != size)
+                {
+                    throw new IllegalArgumentException("Truncated ColonyView bundle");
+                }
+            }
+            catch (DataFormatException e)
+            {
+                throw new IllegalArgumentException("Corrupt ColonyView bundle", e);
+            }
+            finally
+            {
+                inflater.end();
+            }
+        }
+        else
+        {
+            buf.readBytes(data);
+        }
+
+        @NotNull final ByteBuf bundle = Unpooled.wrappedBuffer(data);
+        messages = new ArrayList<>();
+        while (bundle.isReadable())
+        {
+            final int type = bundle.readUnsignedByte();
+            final int length = bundle.readInt();
+            try
+            {
+                @NotNull final IMessage message = MESSAGE_TYPES.get(type).newInstance();
+                message.fromBytes(bundle.readSlice(length));
+                messages.add(message);
+            }
+            catch (@NotNull InstantiationException | IllegalAccessException e)
+            {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @Override
+    public void toBytes(@NotNull ByteBuf buf)
+    {
+        if (encoded == null)
+        {
+            encode();
+        }
+
+        buf.writeBoolean(isCompressed);
+        buf.writeInt(size);
+        buf.writeBytes(encoded);
+    }
+
+    /**
+     * Writes the messages one after the other, each with its id and length, and compresses them if worth it.
+     */
+    private void encode()
+    {
+        @NotNull final ByteBuf bundle = PooledByteBufAllocator.DEFAULT.buffer();
+        try
+        {
+            for (@NotNull final IMessage message : messages)
+            {
+                final int type = MESSAGE_TYPES.indexOf(message.getClass());
+                if (type < 0)
+                {
+                    throw new IllegalArgumentException("Not a ColonyView message: " + message.getClass().getName());
+                }
+
+                bundle.writeByte(type);
+                final int lengthIndex = bundle.writerIndex();
+                bundle.writeInt(0);
+                message.toBytes(bundle);
+                bundle.setInt(lengthIndex, bundle.writerIndex() - lengthIndex - Integer.BYTES);
+            }
+
+            size = bundle.readableBytes();
+            @NotNull final byte[] data = new byte[size];
+            bundle.readBytes(data);
+
+            isCompressed = size >= COMPRESSION_THRESHOLD;
+            encoded = isCompressed ? compress(data) : data;
+        }
+        finally
+        {
+            bundle.release();
+        }
+    }
+
+    @NotNull
+    private static byte[] compress(@NotNull byte[] data)
+    {
+        @NotNull final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try
+        {
+            deflater.setInput(data);
+            deflater.finish();
+
+            @NotNull final ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2);
+            @NotNull final byte[] chunk = new byte[4096];
+            while (!deflater.finished())
+            {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        }
+        finally
+        {
+            deflater.end();
+        }
+    }
+
+    @Nullable
+    @Override
+    public IMessage onMessage(@NotNull ColonyViewBundleMessage message, MessageContext ctx)
+    {
+        ColonyManager.handleColonyViewBundleMessage(() ->
+        {
+            for (@NotNull final IMessage update : message.messages)
+            {
+                @SuppressWarnings("unchecked")
+                final IMessageHandler<IMessage, IMessage> handler = (IMessageHandler<IMessage, IMessage>) update;
+                try
+                {
+                    @Nullable final IMessage response = handler.onMessage(update, ctx);
+                    if (response != null)
+                    {
+                        MineColonies.getNetwork().sendToServer(response);
+                    }
+                }
+                catch (RuntimeException e)
+                {
+                    Log.getLogger().error("Exception while applying a ColonyView update", e);
+                }
+            }
+        });
+        return null;
+    }
+}
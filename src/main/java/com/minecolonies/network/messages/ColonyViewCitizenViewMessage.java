@@ -1,9 +1,11 @@
 package com.minecolonies.network.messages;
 
 import com.minecolonies.colony.CitizenData;
+import com.minecolonies.colony.CitizenDataView;
 import com.minecolonies.colony.Colony;
 import com.minecolonies.colony.ColonyManager;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
@@ -23,17 +25,30 @@ public class ColonyViewCitizenViewMessage implements IMessage, IMessageHandler<C
     public ColonyViewCitizenViewMessage() {}
 
     /**
-     * Updates a {@link com.minecolonies.colony.CitizenDataView} of the citizens.
+     * Updates a {@link CitizenDataView} of the citizens.
      *
      * @param colony  Colony of the citizen
      * @param citizen Citizen data of the citizen to update view
      */
     public ColonyViewCitizenViewMessage(@NotNull Colony colony, @NotNull CitizenData citizen)
+    {
+        this(colony, citizen, CitizenDataView.VIEW_ALL);
+    }
+
+    /**
+     * Updates some properties of a {@link CitizenDataView} of the citizens.
+     * Serialized once, for all subscribers; {@link #release()} it after the last send.
+     *
+     * @param colony  Colony of the citizen
+     * @param citizen Citizen data of the citizen to update view
+     * @param fields  {@link CitizenDataView} bits of the properties to update
+     */
+    public ColonyViewCitizenViewMessage(@NotNull Colony colony, @NotNull CitizenData citizen, int fields)
     {
         this.colonyId = colony.getID();
         this.citizenId = citizen.getId();
-        this.citizenBuffer = Unpooled.buffer();
-        citizen.serializeViewNetworkData(citizenBuffer);
+        this.citizenBuffer = PooledByteBufAllocator.DEFAULT.buffer();
+        citizen.serializeViewNetworkData(citizenBuffer, fields);
     }
 
     @Override
@@ -50,7 +65,16 @@ public class ColonyViewCitizenViewMessage implements IMessage, IMessageHandler<C
     {
         buf.writeInt(colonyId);
         buf.writeInt(citizenId);
-        buf.writeBytes(citizenBuffer);
+        //  Without moving the reader index, the same message goes to all subscribers
+        buf.writeBytes(citizenBuffer, citizenBuffer.readerIndex(), citizenBuffer.readableBytes());
+    }
+
+    /**
+     * Hands the data back to the pool, once the message is sent to all players.
+     */
+    public void release()
+    {
+        citizenBuffer.release();
     }
 
     @Nullable
@@ -0,0 +1,49 @@
+package com.minecolonies.network.messages;
+
+import com.minecolonies.colony.ColonyManager;
+import io.netty.buffer.ByteBuf;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Asks the server for the whole colony again, when the ColonyView on the client got an update it can't apply.
+ */
+public class ColonyViewResyncMessage implements IMessage, IMessageHandler<ColonyViewResyncMessage, IMessage>
+{
+    private int colonyId;
+
+    public ColonyViewResyncMessage() {}
+
+    /**
+     * Creates the request for a colony.
+     *
+     * @param colonyId the id of the colony.
+     */
+    public ColonyViewResyncMessage(int colonyId)
+    {
+        this.colonyId = colonyId;
+    }
+
+    @Override
+    public void fromBytes(@NotNull ByteBuf buf)
+    {
+        colonyId = buf.readInt();
+    }
+
+    @Override
+    public void toBytes(@NotNull ByteBuf buf)
+    {
+        buf.writeInt(colonyId);
+    }
+
+    @Nullable
+    @Override
+    public IMessage onMessage(@NotNull ColonyViewResyncMessage message, @NotNull MessageContext ctx)
+    {
+        ColonyManager.onColonyViewResyncRequest(ctx.getServerHandler().playerEntity, message.colonyId);
+        return null;
+    }
+}
@@ -4,7 +4,7 @@ import com.minecolonies.colony.Colony;
 import com.minecolonies.colony.ColonyManager;
 import com.minecolonies.colony.workorders.AbstractWorkOrder;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.PooledByteBufAllocator;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
@@ -35,11 +35,12 @@ public class ColonyViewWorkOrderMessage implements IMessage, IMessageHandler<Col
      *
      * @param colony    colony of the workOrder.
      * @param workOrder workOrder of the colony to update view.
+     *                  The data is taken from the pool, {@link #release()} the message once it is sent.
      */
     public ColonyViewWorkOrderMessage(@NotNull Colony colony, @NotNull AbstractWorkOrder workOrder)
     {
         this.colonyId = colony.getID();
-        this.workOrderBuffer = Unpooled.buffer();
+        this.workOrderBuffer = PooledByteBufAllocator.DEFAULT.buffer();
         this.workOrderId = workOrder.getID();
         workOrder.serializeViewNetworkData(workOrderBuffer);
     }
@@ -57,7 +58,15 @@ public class ColonyViewWorkOrderMessage implements IMessage, IMessageHandler<Col
     {
         buf.writeInt(colonyId);
         buf.writeInt(workOrderId);
-        buf.writeBytes(workOrderBuffer);
+        buf.writeBytes(workOrderBuffer, workOrderBuffer.readerIndex(), workOrderBuffer.readableBytes());
+    }
+
+    /**
+     * Hands the data back to the pool, once the message is sent to all players.
+     */
+    public void release()
+    {
+        workOrderBuffer.release();
     }
 
     @Nullable
@@ -0,0 +1,101 @@
+package com.minecolonies.network.messages;
+
+import com.minecolonies.colony.CitizenDataView;
+import com.minecolonies.colony.ColonyManager;
+import com.minecolonies.colony.buildings.AbstractBuilding;
+import com.minecolonies.util.BlockPosUtil;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tells the server which colony window the player opened, or that it closed it.
+ * The server sends what an open window shows right away, and the rest of the colony less often.
+ */
+public class ColonyWindowMessage implements IMessage, IMessageHandler<ColonyWindowMessage, IMessage>
+{
+    private static final int NO_CITIZEN = -1;
+
+    private boolean  isOpen;
+    private int      colonyId;
+    @Nullable
+    private BlockPos building;
+    private int      citizenId = NO_CITIZEN;
+
+    /**
+     * The window was closed.
+     */
+    public ColonyWindowMessage() {}
+
+    /**
+     * The window of a building was opened.
+     *
+     * @param building the view of the building.
+     */
+    public ColonyWindowMessage(@NotNull AbstractBuilding.View building)
+    {
+        this.isOpen = true;
+        this.colonyId = building.getColony().getID();
+        this.building = building.getID();
+    }
+
+    /**
+     * The window of a citizen was opened.
+     *
+     * @param colonyId the id of the colony of the citizen.
+     * @param citizen  the view of the citizen.
+     */
+    public ColonyWindowMessage(int colonyId, @NotNull CitizenDataView citizen)
+    {
+        this.isOpen = true;
+        this.colonyId = colonyId;
+        this.citizenId = citizen.getID();
+    }
+
+    @Override
+    public void fromBytes(@NotNull ByteBuf buf)
+    {
+        isOpen = buf.readBoolean();
+        if (isOpen)
+        {
+            colonyId = buf.readInt();
+            building = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+            citizenId = buf.readInt();
+        }
+    }
+
+    @Override
+    public void toBytes(@NotNull ByteBuf buf)
+    {
+        buf.writeBoolean(isOpen);
+        if (isOpen)
+        {
+            buf.writeInt(colonyId);
+            buf.writeBoolean(building != null);
+            if (building != null)
+            {
+                BlockPosUtil.writeToByteBuf(buf, building);
+            }
+            buf.writeInt(citizenId);
+        }
+    }
+
+    @Nullable
+    @Override
+    public IMessage onMessage(@NotNull ColonyWindowMessage message, @NotNull MessageContext ctx)
+    {
+        if (message.isOpen)
+        {
+            ColonyManager.onColonyWindowOpened(ctx.getServerHandler().playerEntity, message.colonyId, message.building, message.citizenId);
+        }
+        else
+        {
+            ColonyManager.onColonyWindowClosed(ctx.getServerHandler().playerEntity);
+        }
+        return null;
+    }
+}
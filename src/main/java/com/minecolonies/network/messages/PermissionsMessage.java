@@ -68,7 +68,7 @@ public class PermissionsMessage
         public void toBytes(@NotNull ByteBuf buf)
         {
             buf.writeInt(colonyID);
-            buf.writeBytes(data);
+            buf.writeBytes(data, data.readerIndex(), data.readableBytes());
         }
 
 
@@ -65,9 +65,9 @@ public class ClientProxy extends CommonProxy
     }
 
     @Override
-    public void showCitizenWindow(CitizenDataView citizen)
+    public void showCitizenWindow(int colonyId, CitizenDataView citizen)
     {
-        @NotNull final WindowCitizen window = new WindowCitizen(citizen);
+        @NotNull final WindowCitizen window = new WindowCitizen(colonyId, citizen);
         window.open();
     }
 
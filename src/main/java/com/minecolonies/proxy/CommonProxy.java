@@ -102,7 +102,7 @@ public class CommonProxy implements IProxy
     public void registerTileEntityRendering() {}
 
     @Override
-    public void showCitizenWindow(CitizenDataView citizen) {}
+    public void showCitizenWindow(int colonyId, CitizenDataView citizen) {}
 
     @Override
     public void openBuildToolWindow(BlockPos pos) {}
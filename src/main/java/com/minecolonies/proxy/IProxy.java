@@ -45,9 +45,10 @@ public interface IProxy
     /**
      * Method to display the citizen window
      *
-     * @param citizen {@link CitizenDataView}
+     * @param colonyId id of the colony of the citizen
+     * @param citizen  {@link CitizenDataView}
      */
-    void showCitizenWindow(CitizenDataView citizen);
+    void showCitizenWindow(int colonyId, CitizenDataView citizen);
 
     /**
      * Opens a build tool window
@@ -334,6 +334,7 @@ public class TileEntityColonyBuilding extends TileEntityChest
         if (MaterialSystem.isEnabled)
         {
             building.getMaterialStore().addMaterial(stack.getItem(), stack.stackSize);
+            building.markSaveNeeded();
         }
     }
 
@@ -347,6 +348,7 @@ public class TileEntityColonyBuilding extends TileEntityChest
         if (MaterialSystem.isEnabled)
         {
             building.getMaterialStore().removeMaterial(stack.getItem(), stack.stackSize);
+            building.markSaveNeeded();
         }
     }
 }
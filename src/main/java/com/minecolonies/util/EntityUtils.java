@@ -1,6 +1,7 @@
 package com.minecolonies.util;
 
 import com.minecolonies.entity.EntityCitizen;
+import com.minecolonies.entity.pathfinding.PathPriority;
 import net.minecraft.block.material.Material;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
@@ -70,7 +71,7 @@ public final class EntityUtils
         if (!isWorkerAtSite(worker, x, y, z, range))
         {
             //If not moving the try setting the point where the entity should move to
-            if (worker.getNavigator().noPath() && !tryMoveLivingToXYZ(worker, x, y, z))
+            if (worker.getNavigator().noPath() && worker.getNavigator().moveToXYZ(x, y, z, 1.0D, PathPriority.WORK) == null)
             {
                 worker.setStatus(EntityCitizen.Status.PATHFINDING_ERROR);
             }
@@ -0,0 +1,98 @@
+package com.minecolonies.colony;
+
+import com.minecolonies.test.AbstractTest;
+import com.minecolonies.util.BlockPosUtil;
+import net.minecraft.util.math.BlockPos;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+public class ColonyIndexTest extends AbstractTest
+{
+    private static final int      DIMENSION = 0;
+    private static final BlockPos NEAR      = new BlockPos(0, 64, 0);
+    private static final BlockPos FAR       = new BlockPos(2000, 64, -3000);
+
+    @Mock
+    private IColony near;
+
+    @Mock
+    private IColony far;
+
+    private ColonyIndex<IColony> index;
+
+    @Override
+    public String getTestName()
+    {
+        return "ColonyIndexTest";
+    }
+
+    @Before
+    public void setup()
+    {
+        index = new ColonyIndex<>();
+        setupColony(near, NEAR);
+        setupColony(far, FAR);
+    }
+
+    private static void setupColony(IColony colony, BlockPos center)
+    {
+        when(colony.getDimension()).thenReturn(DIMENSION);
+        when(colony.getCenter()).thenReturn(center);
+        when(colony.getDistanceSquared(any(BlockPos.class)))
+          .thenAnswer(invocation -> BlockPosUtil.getDistanceSquared2D(center, (BlockPos) invocation.getArguments()[0]));
+    }
+
+    @Test
+    public void testClosestColony()
+    {
+        assertNull(index.getClosestColony(DIMENSION, NEAR));
+
+        index.add(near);
+        index.add(far);
+
+        assertSame(near, index.getClosestColony(DIMENSION, new BlockPos(500, 64, -500)));
+        assertSame(far, index.getClosestColony(DIMENSION, new BlockPos(1800, 64, -2500)));
+        assertSame(far, index.getClosestColony(DIMENSION, new BlockPos(10000, 64, -10000)));
+        assertNull(index.getClosestColony(DIMENSION + 1, NEAR));
+
+        index.remove(far);
+        assertSame(near, index.getClosestColony(DIMENSION, new BlockPos(1800, 64, -2500)));
+    }
+
+    @Test
+    public void testColoniesNear()
+    {
+        index.add(near);
+        index.add(far);
+
+        assertEquals(Collections.singletonList(near), index.getColoniesNear(DIMENSION, new BlockPos(150, 64, 150), 300));
+        assertTrue(index.getColoniesNear(DIMENSION, new BlockPos(1000, 64, -1000), 300).isEmpty());
+        assertEquals(2, index.getColoniesNear(DIMENSION, new BlockPos(1000, 64, -1500), 2000).size());
+        assertTrue(index.getColoniesNear(DIMENSION + 1, NEAR, 300).isEmpty());
+    }
+
+    @Test
+    public void testBuildingLookup()
+    {
+        final BlockPos hut = new BlockPos(10, 64, 10);
+        index.add(near);
+        index.addBuilding(near, hut);
+
+        assertSame(near, index.getBuildingColony(DIMENSION, hut));
+        assertNull(index.getBuildingColony(DIMENSION + 1, hut));
+
+        index.removeBuilding(near, hut);
+        assertNull(index.getBuildingColony(DIMENSION, hut));
+
+        index.addBuilding(near, hut);
+        index.remove(near);
+        assertNull(index.getBuildingColony(DIMENSION, hut));
+    }
+}
@@ -0,0 +1,75 @@
+package com.minecolonies.colony;
+
+import com.minecolonies.test.AbstractTest;
+import net.minecraft.util.math.BlockPos;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SubscriberSyncTest extends AbstractTest
+{
+    private static final int      CITIZEN  = 3;
+    private static final BlockPos BUILDING = new BlockPos(10, 64, 10);
+
+    private SubscriberSync sync;
+
+    @Override
+    public String getTestName()
+    {
+        return "SubscriberSyncTest";
+    }
+
+    @Before
+    public void setup()
+    {
+        sync = new SubscriberSync();
+    }
+
+    @Test
+    public void testNewerVersionsWaitUntilDue()
+    {
+        sync.startTick(false, null);
+        assertTrue(sync.isBehindOnBuildings(0));
+        assertFalse(sync.takeBuilding(BUILDING, 1, false));
+        assertFalse(sync.isReceiving(false));
+
+        sync.startTick(true, null);
+        assertTrue(sync.takeBuilding(BUILDING, 2, false));
+        assertFalse(sync.takeBuilding(BUILDING, 2, false));
+        assertTrue(sync.takeBuilding(BUILDING, 3, false));
+
+        sync.endTick(5, 7);
+        assertFalse(sync.isBehindOnBuildings(7));
+        assertFalse(sync.isBehindOnCitizens(5));
+        assertTrue(sync.isBehindOnCitizens(6));
+    }
+
+    @Test
+    public void testShownPartsGoRightAway()
+    {
+        sync.startTick(false, null);
+        assertFalse(sync.take(SubscriberSync.Part.PERMISSIONS, 0, false));
+        assertTrue(sync.take(SubscriberSync.Part.PERMISSIONS, 0, true));
+        assertFalse(sync.take(SubscriberSync.Part.PERMISSIONS, 0, true));
+
+        sync.endTick(1, 1);
+        sync.startTick(true, null);
+        assertTrue(sync.isBehindOnCitizens(1));
+        assertFalse(sync.take(SubscriberSync.Part.PERMISSIONS, 0, false));
+        assertTrue(sync.take(SubscriberSync.Part.PERMISSIONS, 1, false));
+    }
+
+    @Test
+    public void testRemovedCitizenIsForgotten()
+    {
+        assertEquals(SubscriberSync.NOT_SENT, sync.getSentCitizen(CITIZEN));
+        sync.setSentCitizen(CITIZEN, 4);
+        assertEquals(4, sync.getSentCitizen(CITIZEN));
+
+        sync.removeCitizen(CITIZEN);
+        assertEquals(SubscriberSync.NOT_SENT, sync.getSentCitizen(CITIZEN));
+    }
+}
@@ -0,0 +1,102 @@
+package com.minecolonies.entity.pathfinding;
+
+import com.minecolonies.test.AbstractTest;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.math.BlockPos;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PathCacheTest extends AbstractTest
+{
+    private static final BlockPos START       = new BlockPos(0, 64, 0);
+    private static final BlockPos DESTINATION = new BlockPos(10, 64, 0);
+
+    private PathCache cache;
+
+    @Override
+    public String getTestName()
+    {
+        return "PathCacheTest";
+    }
+
+    @Before
+    public void setup()
+    {
+        cache = new PathCache(0);
+    }
+
+    /**
+     * Straight path from x = 1 to x = toX, at the height of the start.
+     */
+    private static Path straightPath(int toX)
+    {
+        final PathPoint[] points = new PathPoint[toX];
+        for (int i = 0; i < toX; ++i)
+        {
+            points[i] = new PathPoint(i + 1, START.getY(), 0);
+        }
+        return new Path(points);
+    }
+
+    @Test
+    public void testMissThenHit()
+    {
+        assertNull(cache.get(PathJobMoveToLocation.class, START, DESTINATION));
+
+        cache.put(PathJobMoveToLocation.class, START, DESTINATION, straightPath(10));
+
+        final Path path = cache.get(PathJobMoveToLocation.class, START, DESTINATION);
+        assertNotNull(path);
+        assertEquals(10, path.getCurrentPathLength());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testNearbyStartSharesPath()
+    {
+        cache.put(PathJobMoveToLocation.class, START, DESTINATION, straightPath(10));
+
+        //  Same 4x4x4 cell, the path is picked up at the point next to the new start
+        final Path path = cache.get(PathJobMoveToLocation.class, new BlockPos(2, 64, 1), DESTINATION);
+        assertNotNull(path);
+        assertEquals(2, path.getPathPointFromIndex(0).xCoord);
+
+        assertNull(cache.get(PathJobMoveToLocation.class, new BlockPos(-8, 64, 0), DESTINATION));
+        assertNull(cache.get(PathJobFindTree.class, START, DESTINATION));
+    }
+
+    @Test
+    public void testBlockChangeInvalidates()
+    {
+        cache.put(PathJobMoveToLocation.class, START, DESTINATION, straightPath(10));
+
+        cache.invalidate(new BlockPos(5, 64, 20));
+        assertEquals(1, cache.size());
+
+        cache.invalidate(new BlockPos(5, 63, 1));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getInvalidations());
+        assertNull(cache.get(PathJobMoveToLocation.class, START, DESTINATION));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted()
+    {
+        final int capacity = 128;
+        for (int i = 0; i <= capacity; ++i)
+        {
+            cache.put(PathJobMoveToLocation.class, START, new BlockPos(i, 64, 100), straightPath(3));
+            //  Keep the first path in use
+            cache.get(PathJobMoveToLocation.class, START, new BlockPos(0, 64, 100));
+        }
+
+        assertEquals(capacity, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertNotNull(cache.get(PathJobMoveToLocation.class, START, new BlockPos(0, 64, 100)));
+        assertNull(cache.get(PathJobMoveToLocation.class, START, new BlockPos(1, 64, 100)));
+    }
+}